@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nexttypes.benchmarks;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nexttypes.datatypes.File;
+import com.nexttypes.datatypes.Image;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryBenchmark {
+	protected static final int BINARY_SIZE = 64 * 1024;
+	protected static final int IMAGE_WIDTH = 1600;
+	protected static final int IMAGE_HEIGHT = 1200;
+
+	protected byte[] binary;
+	protected String hex;
+	protected byte[] image;
+
+	@Setup
+	public void setup() throws IOException {
+		binary = new byte[BINARY_SIZE];
+		ThreadLocalRandom.current().nextBytes(binary);
+		hex = "\"" + File.hexEncode(binary) + "\"";
+
+		BufferedImage bufferedImage = new BufferedImage(IMAGE_WIDTH, IMAGE_HEIGHT,
+				BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = bufferedImage.createGraphics();
+		graphics.setPaint(new GradientPaint(0, 0, Color.BLUE, IMAGE_WIDTH, IMAGE_HEIGHT, Color.ORANGE));
+		graphics.fillRect(0, 0, IMAGE_WIDTH, IMAGE_HEIGHT);
+		graphics.dispose();
+
+		try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+			ImageIO.write(bufferedImage, "png", stream);
+			image = stream.toByteArray();
+		}
+	}
+
+	@Benchmark
+	public String hexEncode() {
+		return File.hexEncode(binary);
+	}
+
+	@Benchmark
+	public byte[] hexDecode() {
+		return File.hexDecode(hex);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public byte[] thumbnail() {
+		return new Image(image).getThumbnail();
+	}
+}
\ No newline at end of file
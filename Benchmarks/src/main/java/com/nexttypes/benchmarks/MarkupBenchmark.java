@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nexttypes.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nexttypes.datatypes.HTML;
+import com.nexttypes.datatypes.HTMLFragment;
+import com.nexttypes.datatypes.XML;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MarkupBenchmark {
+	protected static final String LANG = "en";
+	protected static final String ALLOWED_TAGS = "h2;p:style;a:href,class;strong;em;ul;li;img:src,alt;"
+			+ "table;thead;tbody;tr;th;td";
+	protected static final int PARAGRAPHS = 40;
+
+	protected String fragment;
+	protected String document;
+	protected String xml;
+	protected HTML html;
+
+	@Setup
+	public void setup() {
+		StringBuilder builder = new StringBuilder();
+
+		for (int i = 0; i < PARAGRAPHS; i++) {
+			builder.append("<h2>Section " + i + "</h2>");
+			builder.append("<p style=\"color: black\">Some <strong>bold</strong> and "
+					+ "<em>emphasized</em> text with a <a href=\"/article/" + i + "\" class=\"link\">link"
+					+ "</a>.</p>");
+			builder.append("<ul><li>One</li><li>Two</li><li>Three</li></ul>");
+			builder.append("<table><thead><tr><th>Name</th></tr></thead><tbody><tr><td>Value " + i
+					+ "</td></tr></tbody></table>");
+		}
+
+		fragment = builder.toString();
+		document = "<html><head><title>Benchmark</title></head><body>" + fragment + "</body></html>";
+		xml = "<items>" + fragment + "</items>";
+		html = new HTML(document, LANG);
+	}
+
+	@Benchmark
+	public HTML parseHTML() {
+		return new HTML(document, LANG);
+	}
+
+	@Benchmark
+	public HTMLFragment sanitizeHTML() {
+		return new HTMLFragment(fragment, LANG, ALLOWED_TAGS);
+	}
+
+	@Benchmark
+	public String serializeHTML() {
+		return html.toString();
+	}
+
+	@Benchmark
+	public XML parseXML() {
+		return new XML(xml, LANG);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nexttypes.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nexttypes.datatypes.NXObject;
+import com.nexttypes.datatypes.Objects;
+import com.nexttypes.datatypes.Serial;
+import com.nexttypes.enums.Format;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerialBenchmark {
+	protected static final int OBJECTS = 50;
+
+	protected NXObject object;
+	protected Objects objects;
+
+	@Setup
+	public void setup() {
+		object = object(0);
+
+		NXObject[] items = new NXObject[OBJECTS];
+		for (int i = 0; i < OBJECTS; i++) {
+			items[i] = object(i);
+		}
+
+		objects = new Objects(items, (long) OBJECTS, 0L, (long) OBJECTS, 5L, 100L, 5L);
+	}
+
+	protected NXObject object(int number) {
+		ZonedDateTime date = ZonedDateTime.of(2026, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+		NXObject object = new NXObject("article", "article-" + number, "Article " + number, date, date,
+				false);
+
+		object.put("title", "Benchmark article number " + number);
+		object.put("summary", "A short text used to measure the cost of serializing objects.");
+		object.put("views", (long) number * 1000);
+		object.put("rating", new BigDecimal("4.25"));
+		object.put("published", true);
+		object.put("date", LocalDate.of(2026, 1, 1));
+		object.put("tags", new String[] { "benchmark", "serial", "json" });
+
+		return object;
+	}
+
+	@Benchmark
+	public String objectJSON() {
+		return new Serial(object, Format.JSON).getString();
+	}
+
+	@Benchmark
+	public byte[] objectSmile() {
+		return new Serial(object, Format.SMILE).getBinary();
+	}
+
+	@Benchmark
+	public String objectsJSON() {
+		return new Serial(objects, Format.JSON).getString();
+	}
+
+	@Benchmark
+	public byte[] objectsSmile() {
+		return new Serial(objects, Format.SMILE).getBinary();
+	}
+}
\ No newline at end of file
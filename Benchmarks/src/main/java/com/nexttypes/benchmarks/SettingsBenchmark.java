@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nexttypes.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nexttypes.enums.Format;
+import com.nexttypes.settings.Settings;
+import com.nexttypes.settings.TypeSettings;
+import com.nexttypes.system.KeyWords;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SettingsBenchmark {
+	protected Settings settings;
+	protected TypeSettings typeSettings;
+
+	@Setup
+	public void setup() throws IOException {
+		settings = new Settings(load(Settings.HTML_SETTINGS));
+		typeSettings = new TypeSettings(load(Settings.TYPES_SETTINGS));
+	}
+
+	protected ArrayList<Properties> load(String file) throws IOException {
+		ArrayList<Properties> list = new ArrayList<>();
+		Properties properties = new Properties();
+
+		try (InputStream stream = Settings.class.getResourceAsStream(Settings.DEFAULT_SETTINGS + file)) {
+			properties.load(stream);
+		}
+
+		list.add(properties);
+		return list;
+	}
+
+	@Benchmark
+	public String getString() {
+		return settings.getString(Settings.NEXT_NODE);
+	}
+
+	@Benchmark
+	public String[] getStringArray() {
+		return settings.getStringArray(KeyWords.LANGS);
+	}
+
+	@Benchmark
+	public String gts() {
+		return typeSettings.gts("article", KeyWords.TEMPLATE);
+	}
+
+	@Benchmark
+	public Integer getTypeInt32() {
+		return typeSettings.getTypeInt32("article", KeyWords.LIMIT);
+	}
+
+	@Benchmark
+	public String getView() {
+		return typeSettings.getView("article", Format.JSON);
+	}
+}
\ No newline at end of file
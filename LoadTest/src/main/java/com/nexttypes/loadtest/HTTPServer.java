@@ -0,0 +1,90 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.loadtest;
+
+import java.nio.file.Path;
+
+import javax.servlet.MultipartConfigElement;
+
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+
+import com.nexttypes.exceptions.NXException;
+import com.nexttypes.protocol.http.HTTPServlet;
+import com.nexttypes.settings.Settings;
+import com.nexttypes.system.Context;
+import com.nexttypes.system.ContextListener;
+
+public class HTTPServer implements AutoCloseable {
+	public static final String SERVLET = "nexttypes";
+	public static final String HTTPS = "https";
+
+	protected Tomcat tomcat;
+	protected org.apache.catalina.Context servletContext;
+	protected int port;
+
+	public HTTPServer(Path directory, Path settingsDirectory, int port) {
+		this.port = port;
+
+		tomcat = new Tomcat();
+		tomcat.setBaseDir(directory.toString());
+
+		Connector connector = new Connector();
+		connector.setPort(port);
+		connector.setSecure(true);
+		connector.setScheme(HTTPS);
+		connector.setProperty("address", "localhost");
+		tomcat.setConnector(connector);
+
+		servletContext = tomcat.addContext("", directory.toString());
+		servletContext.addParameter(Settings.SETTINGS_DIRECTORY, settingsDirectory.toString());
+		servletContext.addApplicationListener(ContextListener.class.getName());
+
+		Wrapper wrapper = Tomcat.addServlet(servletContext, SERVLET, new HTTPServlet());
+		wrapper.setMultipartConfigElement(new MultipartConfigElement(directory.toString()));
+		wrapper.setLoadOnStartup(1);
+		servletContext.addServletMappingDecoded("/*", SERVLET);
+	}
+
+	public void start() {
+		try {
+			tomcat.start();
+		} catch (LifecycleException e) {
+			throw new NXException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			tomcat.stop();
+			tomcat.destroy();
+		} catch (LifecycleException e) {
+			throw new NXException(e);
+		}
+	}
+
+	public Context getContext() {
+		return Context.get(servletContext.getServletContext());
+	}
+
+	public int getPort() {
+		return port;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.file.PathUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nexttypes.datatypes.Auth;
+import com.nexttypes.enums.Format;
+import com.nexttypes.exceptions.NXException;
+import com.nexttypes.protocol.http.HTTPHeader;
+import com.nexttypes.settings.Settings;
+import com.nexttypes.system.Action;
+import com.nexttypes.system.KeyWords;
+
+public class LoadTest {
+	public static final String PROPERTY_PREFIX = "loadtest.";
+	public static final String GET = "get";
+	public static final String LIST = "list";
+	public static final String SEARCH = "search";
+	public static final String EXPORT = "export";
+	public static final String INSERT = "insert";
+	public static final String DEFAULT_SCENARIOS = GET + "," + LIST + "," + SEARCH + "," + EXPORT + ","
+			+ INSERT;
+	public static final int LIST_LIMIT = 20;
+	public static final int EXPORT_SIZE = 100;
+	public static final String BOUNDARY = "nexttypes-loadtest-boundary";
+	public static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+	public static final String MULTIPART_CONTENT_TYPE = "multipart/form-data; boundary=" + BOUNDARY;
+
+	protected String postgresqlBin = System.getProperty(PROPERTY_PREFIX + "postgresql_bin");
+	protected int postgresqlPort = Integer.getInteger(PROPERTY_PREFIX + "postgresql_port", 55432);
+	protected int httpPort = Integer.getInteger(PROPERTY_PREFIX + "http_port", 58443);
+	protected int objects = Integer.getInteger(PROPERTY_PREFIX + "objects", 1000);
+	protected int threads = Integer.getInteger(PROPERTY_PREFIX + "threads", 16);
+	protected long warmup = TimeUnit.SECONDS.toNanos(Integer.getInteger(PROPERTY_PREFIX + "warmup", 10));
+	protected long duration = TimeUnit.SECONDS.toNanos(Integer.getInteger(PROPERTY_PREFIX + "duration", 30));
+	protected String[] scenarios = System.getProperty(PROPERTY_PREFIX + "scenarios", DEFAULT_SCENARIOS)
+			.split(",");
+	protected String report = System.getProperty(PROPERTY_PREFIX + "report");
+	protected boolean keep = Boolean.getBoolean(PROPERTY_PREFIX + "keep");
+
+	protected String password = UUID.randomUUID().toString();
+	protected String authorization = "Basic " + Base64.getEncoder()
+			.encodeToString((Auth.ADMIN + ":" + password).getBytes(StandardCharsets.UTF_8));
+	protected String url = "http://localhost:" + httpPort;
+	protected byte[] insertImage;
+	protected byte[] insertDocument;
+
+	public static void main(String[] args) throws IOException {
+		new LoadTest().run();
+	}
+
+	public void run() throws IOException {
+		Path directory = Files.createTempDirectory("nexttypes-loadtest-");
+		System.out.println("Working directory: " + directory);
+
+		try (PostgreSQLServer postgresql = new PostgreSQLServer(postgresqlBin, directory, postgresqlPort)) {
+			postgresql.start();
+
+			Path settingsDirectory = writeSettings(directory);
+
+			try (HTTPServer server = new HTTPServer(directory, settingsDirectory, httpPort)) {
+				server.start();
+
+				System.out.println("Seeding " + objects + " objects");
+				Seeder seeder = new Seeder(server.getContext());
+				seeder.seed(password, objects);
+				insertImage = seeder.image();
+				insertDocument = seeder.document();
+
+				HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+						.connectTimeout(Duration.ofSeconds(10)).build();
+
+				ArrayList<Scenario.Result> results = new ArrayList<>();
+
+				for (String name : scenarios) {
+					Scenario scenario = scenario(name.trim());
+					System.out.println("Running " + scenario.getName() + " with " + threads + " threads");
+					results.add(scenario.run(client, threads, warmup, duration));
+				}
+
+				report(results);
+			}
+		} finally {
+			if (!keep) {
+				PathUtils.deleteDirectory(directory);
+			}
+		}
+	}
+
+	protected Path writeSettings(Path directory) throws IOException {
+		Path settings = Files.createDirectories(directory.resolve("settings"));
+		Path logs = Files.createDirectories(directory.resolve("logs"));
+
+		Files.writeString(settings.resolve(Settings.POSTGRESQL_SETTINGS),
+				KeyWords.HOST + "=localhost\n"
+				+ KeyWords.PORT + "=" + postgresqlPort);
+
+		Files.writeString(settings.resolve(Settings.HTTP_SETTINGS),
+				KeyWords.HOST + "=localhost\n"
+				+ Settings.HTTPS_PORT + "=" + httpPort + "\n"
+				+ Settings.MAX_REQUESTS + "=0");
+
+		Files.writeString(settings.resolve(Settings.TYPES_SETTINGS),
+				"*." + Settings.MAX_INSERTS + "=0");
+
+		Files.writeString(settings.resolve(Settings.LOGGER_SETTINGS),
+				KeyWords.DIRECTORY + "=" + logs + "/");
+
+		return settings;
+	}
+
+	protected Scenario scenario(String name) {
+		String type = url + "/" + Seeder.ITEM;
+
+		return switch (name) {
+			case GET -> new Scenario(name, x -> request(type + "/" + Seeder.itemId(x % objects)
+					+ "?" + KeyWords.VIEW + "=" + Format.JSON).GET().build());
+
+			case LIST -> new Scenario(name, x -> request(type + "?" + KeyWords.VIEW + "=" + Format.JSON
+					+ "&" + KeyWords.LIMIT + "=" + LIST_LIMIT
+					+ "&" + filter(0, KeyWords.FIELD, "quantity")
+					+ "&" + filter(0, KeyWords.COMPARISON, "greater")
+					+ "&" + filter(0, KeyWords.VALUE, String.valueOf(x * 7 % Seeder.MAX_QUANTITY))
+					+ "&" + filter(1, KeyWords.FIELD, "category")
+					+ "&" + filter(1, KeyWords.COMPARISON, "equal")
+					+ "&" + filter(1, KeyWords.VALUE, Seeder.categoryId(x % Seeder.CATEGORIES)))
+					.GET().build());
+
+			case SEARCH -> new Scenario(name, x -> request(type + "?" + KeyWords.VIEW + "=" + Format.JSON
+					+ "&" + KeyWords.LIMIT + "=" + LIST_LIMIT
+					+ "&" + KeyWords.SEARCH + "=" + Seeder.WORDS[x % Seeder.WORDS.length]).GET().build());
+
+			case EXPORT -> new Scenario(name, x -> request(type)
+					.header(HTTPHeader.CONTENT_TYPE.toString(), FORM_CONTENT_TYPE)
+					.POST(HttpRequest.BodyPublishers.ofString(export(x))).build());
+
+			case INSERT -> new Scenario(name, x -> request(type)
+					.header(HTTPHeader.CONTENT_TYPE.toString(), MULTIPART_CONTENT_TYPE)
+					.POST(HttpRequest.BodyPublishers.ofByteArray(insert(x))).build());
+
+			default -> throw new IllegalArgumentException("Unknown scenario: " + name);
+		};
+	}
+
+	protected HttpRequest.Builder request(String uri) {
+		return HttpRequest.newBuilder(URI.create(uri)).timeout(Duration.ofMinutes(1))
+				.header(HTTPHeader.AUTHORIZATION.toString(), authorization);
+	}
+
+	protected String filter(int number, String parameter, String value) {
+		return KeyWords.FILTERS + "%3A" + number + "%3A" + parameter + "=" + value;
+	}
+
+	protected String export(int number) {
+		StringBuilder body = new StringBuilder(KeyWords._ACTION + "=" + Action.EXPORT_OBJECTS);
+		int first = number * EXPORT_SIZE % objects;
+
+		for (int x = 0; x < Math.min(EXPORT_SIZE, objects); x++) {
+			body.append("&" + KeyWords.OBJECTS + "=" + Seeder.itemId((first + x) % objects));
+		}
+
+		return body.toString();
+	}
+
+	protected byte[] insert(int number) {
+		LinkedHashMap<String, String> fields = new LinkedHashMap<>();
+		fields.put(KeyWords._ACTION, Action.INSERT);
+		fields.put("@title", "insert " + number);
+		fields.put("@description", "<p>" + Seeder.WORDS[number % Seeder.WORDS.length] + "</p>");
+		fields.put("@quantity", String.valueOf(number % Seeder.MAX_QUANTITY));
+		fields.put("@category", Seeder.categoryId(number % Seeder.CATEGORIES));
+
+		try (ByteArrayOutputStream body = new ByteArrayOutputStream()) {
+			for (String field : fields.keySet()) {
+				body.write(("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + field
+						+ "\"\r\n\r\n" + fields.get(field) + "\r\n").getBytes(StandardCharsets.UTF_8));
+			}
+
+			part(body, "@image", "image.png", "image/png", insertImage);
+			part(body, "@document", "document.txt", "text/plain", insertDocument);
+			body.write(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+			return body.toByteArray();
+		} catch (IOException e) {
+			throw new NXException(e);
+		}
+	}
+
+	protected void part(ByteArrayOutputStream body, String field, String fileName, String contentType,
+			byte[] content) throws IOException {
+
+		body.write(("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + field
+				+ "\"; filename=\"" + fileName + "\"\r\nContent-Type: " + contentType + "\r\n\r\n")
+				.getBytes(StandardCharsets.UTF_8));
+		body.write(content);
+		body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+	}
+
+	protected void report(ArrayList<Scenario.Result> results) throws IOException {
+		System.out.println();
+		System.out.println(String.format("%-10s %10s %8s %10s %10s %10s %10s %10s", "scenario", "requests",
+				"errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+
+		for (Scenario.Result result : results) {
+			System.out.println(String.format("%-10s %10d %8d %10.1f %10.3f %10.3f %10.3f %10.3f",
+					result.getScenario(), result.getRequests(), result.getErrors(), result.getThroughput(),
+					result.getP50(), result.getP90(), result.getP99(), result.getMax()));
+		}
+
+		if (report != null) {
+			new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+				.writeValue(Paths.get(report).toFile(), results);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import com.nexttypes.exceptions.NXException;
+
+public class PostgreSQLServer implements AutoCloseable {
+	public static final String SUPERUSER = "postgres";
+	public static final String DATABASE = "nexttypes";
+	public static final String[] USERS = { "read", "write", "admin" };
+
+	protected String bin;
+	protected Path directory;
+	protected int port;
+
+	public PostgreSQLServer(String bin, Path directory, int port) {
+		this.bin = bin;
+		this.directory = directory;
+		this.port = port;
+	}
+
+	public void start() {
+		Path data = directory.resolve("data");
+
+		run(command("initdb"), "-D", data.toString(), "-U", SUPERUSER, "-A", "trust", "-E", "UTF8",
+				"--no-locale");
+		run(command("pg_ctl"), "-D", data.toString(), "-l", directory.resolve("postgresql.log").toString(),
+				"-o", "-p " + port + " -k " + data + " -c listen_addresses=localhost", "-w",
+				"start");
+
+		try (Connection connection = connect("postgres"); Statement statement = connection.createStatement()) {
+			for (String user : USERS) {
+				statement.execute("create role \"" + user + "\" login");
+			}
+
+			statement.execute("create database " + DATABASE + " owner admin encoding 'UTF8'");
+		} catch (SQLException e) {
+			throw new NXException(e);
+		}
+
+		try (Connection connection = connect(DATABASE); Statement statement = connection.createStatement()) {
+			statement.execute("create extension if not exists \"uuid-ossp\"");
+		} catch (SQLException e) {
+			throw new NXException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		run(command("pg_ctl"), "-D", directory.resolve("data").toString(), "-m", "fast", "-w", "stop");
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	protected Connection connect(String database) throws SQLException {
+		return DriverManager.getConnection("jdbc:postgresql://localhost:" + port + "/" + database, SUPERUSER,
+				null);
+	}
+
+	protected String command(String name) {
+		return bin != null ? bin + File.separator + name : name;
+	}
+
+	protected void run(String... command) {
+		try {
+			Process process = new ProcessBuilder(command).redirectErrorStream(true)
+					.redirectOutput(directory.resolve("commands.log").toFile()).start();
+
+			if (process.waitFor() != 0) {
+				throw new IOException("Command failed: " + String.join(" ", command) + "\n"
+						+ Files.readString(directory.resolve("commands.log")));
+			}
+		} catch (IOException e) {
+			throw new NXException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new NXException(e);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.nexttypes.exceptions.NXException;
+
+public class Scenario {
+	protected String name;
+	protected IntFunction<HttpRequest> requests;
+	protected AtomicInteger counter = new AtomicInteger();
+
+	public Scenario(String name, IntFunction<HttpRequest> requests) {
+		this.name = name;
+		this.requests = requests;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Result run(HttpClient client, int threads, long warmup, long duration) {
+		long start = System.nanoTime();
+		long measureStart = start + warmup;
+		long end = measureStart + duration;
+		ArrayList<Thread> workers = new ArrayList<>();
+		Recorder[] recorders = new Recorder[threads];
+
+		for (int x = 0; x < threads; x++) {
+			Recorder recorder = new Recorder();
+			recorders[x] = recorder;
+
+			Thread worker = new Thread(() -> {
+				long time;
+
+				while ((time = System.nanoTime()) < end) {
+					boolean error;
+
+					try {
+						HttpResponse<Void> response = client.send(requests.apply(counter.getAndIncrement()),
+								HttpResponse.BodyHandlers.discarding());
+						error = response.statusCode() >= 400;
+					} catch (IOException e) {
+						error = true;
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						break;
+					}
+
+					if (time >= measureStart) {
+						recorder.record(System.nanoTime() - time, error);
+					}
+				}
+			}, name + "-" + x);
+
+			worker.start();
+			workers.add(worker);
+		}
+
+		for (Thread worker : workers) {
+			try {
+				worker.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new NXException(e);
+			}
+		}
+
+		return new Result(name, duration, recorders);
+	}
+
+	protected static class Recorder {
+		protected long[] latencies = new long[1024];
+		protected int size = 0;
+		protected int errors = 0;
+
+		protected void record(long latency, boolean error) {
+			if (size == latencies.length) {
+				latencies = Arrays.copyOf(latencies, size * 2);
+			}
+
+			latencies[size++] = latency;
+
+			if (error) {
+				errors++;
+			}
+		}
+	}
+
+	@JsonPropertyOrder({ Result.SCENARIO, Result.REQUESTS, Result.ERRORS, Result.THROUGHPUT, Result.P50,
+		Result.P90, Result.P99, Result.MAX })
+	public static class Result {
+		public static final String SCENARIO = "scenario";
+		public static final String REQUESTS = "requests";
+		public static final String ERRORS = "errors";
+		public static final String THROUGHPUT = "throughput";
+		public static final String P50 = "p50";
+		public static final String P90 = "p90";
+		public static final String P99 = "p99";
+		public static final String MAX = "max";
+
+		protected String scenario;
+		protected int errors;
+		protected double throughput;
+		protected long[] latencies;
+
+		protected Result(String scenario, long duration, Recorder[] recorders) {
+			this.scenario = scenario;
+
+			int size = 0;
+
+			for (Recorder recorder : recorders) {
+				size += recorder.size;
+				errors += recorder.errors;
+			}
+
+			latencies = new long[size];
+			size = 0;
+
+			for (Recorder recorder : recorders) {
+				System.arraycopy(recorder.latencies, 0, latencies, size, recorder.size);
+				size += recorder.size;
+			}
+
+			Arrays.sort(latencies);
+			throughput = latencies.length / (duration / 1e9);
+		}
+
+		@JsonProperty(SCENARIO)
+		public String getScenario() {
+			return scenario;
+		}
+
+		@JsonProperty(REQUESTS)
+		public int getRequests() {
+			return latencies.length;
+		}
+
+		@JsonProperty(ERRORS)
+		public int getErrors() {
+			return errors;
+		}
+
+		@JsonProperty(THROUGHPUT)
+		public double getThroughput() {
+			return throughput;
+		}
+
+		@JsonProperty(P50)
+		public double getP50() {
+			return getPercentile(0.5);
+		}
+
+		@JsonProperty(P90)
+		public double getP90() {
+			return getPercentile(0.9);
+		}
+
+		@JsonProperty(P99)
+		public double getP99() {
+			return getPercentile(0.99);
+		}
+
+		@JsonProperty(MAX)
+		public double getMax() {
+			return getPercentile(1);
+		}
+
+		public double getPercentile(double percentile) {
+			double value = 0;
+
+			if (latencies.length > 0) {
+				int index = (int) Math.ceil(percentile * latencies.length) - 1;
+				value = latencies[Math.max(index, 0)] / 1e6;
+			}
+
+			return value;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.loadtest;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import com.nexttypes.datatypes.Auth;
+import com.nexttypes.datatypes.Document;
+import com.nexttypes.datatypes.HTMLFragment;
+import com.nexttypes.datatypes.Image;
+import com.nexttypes.datatypes.NXObject;
+import com.nexttypes.datatypes.URL;
+import com.nexttypes.enums.ImportAction;
+import com.nexttypes.enums.NodeMode;
+import com.nexttypes.exceptions.NXException;
+import com.nexttypes.nodes.Node;
+import com.nexttypes.nodes.PostgreSQLNode;
+import com.nexttypes.security.Security;
+import com.nexttypes.system.Context;
+
+public class Seeder {
+	public static final String CATEGORY = "lt_category";
+	public static final String ITEM = "lt_item";
+	public static final String LANG = "en";
+	public static final int CATEGORIES = 20;
+	public static final int IMAGE_WIDTH = 800;
+	public static final int IMAGE_HEIGHT = 600;
+	public static final int MAX_QUANTITY = 1000;
+	public static final int COMMIT_SIZE = 100;
+
+	public static final String[] WORDS = { "anchor", "basalt", "cobalt", "delta", "ember", "fjord",
+			"granite", "harbor", "island", "juniper", "kestrel", "lagoon", "meadow", "nebula", "orchid",
+			"prairie", "quartz", "river", "summit", "tundra", "umber", "valley", "willow", "zephyr" };
+
+	protected static final String TYPES = """
+			{
+			  "format" : "nexttypes_types",
+			  "version" : "2.0",
+			  "types" : {
+			    "lt_category" : {
+			      "name" : "lt_category",
+			      "fields" : {
+			        "name" : { "type" : "string", "length" : 100, "not_null" : true }
+			      },
+			      "indexes" : { },
+			      "actions" : { }
+			    },
+			    "lt_item" : {
+			      "name" : "lt_item",
+			      "fields" : {
+			        "title" : { "type" : "string", "length" : 250, "not_null" : true },
+			        "description" : { "type" : "html" },
+			        "quantity" : { "type" : "int32", "not_null" : true },
+			        "category" : { "type" : "lt_category", "length" : 100, "not_null" : true },
+			        "image" : { "type" : "image" },
+			        "document" : { "type" : "document" }
+			      },
+			      "indexes" : {
+			        "lt_item_quantity_index" : { "mode" : "index", "fields" : [ "quantity" ] },
+			        "lt_item_fulltext_index" : { "mode" : "fulltext", "fields" : [ "title", "description" ] }
+			      },
+			      "actions" : { }
+			    }
+			  }
+			}
+			""";
+
+	protected Context context;
+	protected Random random = new Random(0);
+
+	public Seeder(Context context) {
+		this.context = context;
+	}
+
+	public void seed(String password, int objects) {
+		try (Node node = new PostgreSQLNode(new Auth(Auth.ADMIN, Auth.ADMINISTRATORS), NodeMode.ADMIN,
+				LANG, URL.LOCALHOST, context, true)) {
+
+			node.execute("update \"user\" set password = ? where id = ?", Security.passwordHash(password),
+					Auth.ADMIN);
+
+			node.importTypes(new ByteArrayInputStream(TYPES.getBytes(StandardCharsets.UTF_8)),
+					ImportAction.ABORT, ImportAction.ABORT);
+
+			for (int x = 0; x < CATEGORIES; x++) {
+				NXObject category = new NXObject(CATEGORY, categoryId(x));
+				category.put("name", WORDS[x % WORDS.length] + " " + x);
+				node.insert(category);
+			}
+
+			node.commit();
+
+			for (int x = 0; x < objects; x++) {
+				node.insert(item(x));
+
+				if ((x + 1) % COMMIT_SIZE == 0) {
+					node.commit();
+				}
+			}
+
+			node.commit();
+		}
+	}
+
+	public NXObject item(int number) {
+		NXObject item = new NXObject(ITEM, itemId(number));
+		item.put("title", text(4));
+		item.put("description", new HTMLFragment("<p>" + text(40) + "</p>", LANG));
+		item.put("quantity", random.nextInt(MAX_QUANTITY));
+		item.put("category", categoryId(random.nextInt(CATEGORIES)));
+		item.put("image", new Image(image()));
+		item.put("document", new Document(document()));
+		return item;
+	}
+
+	public String text(int words) {
+		StringBuilder text = new StringBuilder();
+
+		for (int x = 0; x < words; x++) {
+			if (x > 0) {
+				text.append(" ");
+			}
+			text.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+
+		return text.toString();
+	}
+
+	public byte[] image() {
+		BufferedImage image = new BufferedImage(IMAGE_WIDTH, IMAGE_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setPaint(new GradientPaint(0, 0, new Color(random.nextInt()), IMAGE_WIDTH, IMAGE_HEIGHT,
+				new Color(random.nextInt())));
+		graphics.fillRect(0, 0, IMAGE_WIDTH, IMAGE_HEIGHT);
+		graphics.dispose();
+
+		try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+			ImageIO.write(image, "png", stream);
+			return stream.toByteArray();
+		} catch (IOException e) {
+			throw new NXException(e);
+		}
+	}
+
+	public byte[] document() {
+		StringBuilder document = new StringBuilder();
+
+		for (int x = 0; x < 20; x++) {
+			document.append(text(15)).append(".\n");
+		}
+
+		return document.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	public static String categoryId(int number) {
+		return "category-" + number;
+	}
+
+	public static String itemId(int number) {
+		return "item-" + number;
+	}
+}
\ No newline at end of file
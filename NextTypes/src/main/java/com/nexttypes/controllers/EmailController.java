@@ -23,6 +23,7 @@ import com.nexttypes.datatypes.Email;
 import com.nexttypes.datatypes.NXObject;
 import com.nexttypes.enums.Format;
 import com.nexttypes.nodes.Node;
+import com.nexttypes.protocol.smtp.EmailOutbox;
 import com.nexttypes.system.Controller;
 
 public class EmailController extends Controller {
@@ -35,7 +36,7 @@ public class EmailController extends Controller {
 	public ZonedDateTime insert(NXObject object) {
 		
 		ZonedDateTime udate = nextNode.insert(object);
-		new Email(object, Format.HTML).send();
+		EmailOutbox.enqueue(nextNode, new Email(object, Format.HTML));
 		return udate;
 	}
 }
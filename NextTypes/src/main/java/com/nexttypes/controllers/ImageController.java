@@ -23,6 +23,7 @@ import com.nexttypes.exceptions.NXException;
 import com.nexttypes.exceptions.ObjectFieldException;
 import com.nexttypes.nodes.Node;
 import com.nexttypes.system.Action;
+import com.nexttypes.system.Job;
 import com.nexttypes.system.KeyWords;
 import com.nexttypes.system.Controller;
 
@@ -38,16 +39,19 @@ public class ImageController extends Controller {
 		actionsInfo = "/com/nexttypes/controllers/image-actions.json";
 	}
 
+	@Job
 	@Action(RESIZE)
 	public ActionResult resize(String[] objects, Integer width, Integer height) {
 		
-		for (String id : objects) {
+		for (int x = 0; x < objects.length; x++) {
+			String id = objects[x];
 			Image image = getImageField(id, KeyWords.IMAGE);
 			if (image != null) {
 				updateField(id, KeyWords.IMAGE, image.resize(width, height));
 			} else {
 				throw new ObjectFieldException(type, id, KeyWords.IMAGE, NXException.EMPTY_FIELD);
 			}
+			setJobProgress((x + 1) * 100 / objects.length);
 		}
 
 		String message = objects.length == 1 ? IMAGE_SUCCESSFULLY_RESIZED : IMAGES_SUCCESSFULLY_RESIZED;
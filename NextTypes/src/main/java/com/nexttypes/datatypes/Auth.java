@@ -27,6 +27,8 @@ public class Auth {
 	public static final String SMTP = "smtp";
 	public static final String BACKUP = "backup";
 	public static final String CONSOLE = "console";
+	public static final String JOBS = "jobs";
+	public static final String SCHEDULER = "scheduler";
 
 	protected String user;
 	protected String[] groups;
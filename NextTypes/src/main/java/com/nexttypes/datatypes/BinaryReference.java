@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.datatypes;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.nexttypes.system.KeyWords;
+
+@JsonInclude(Include.NON_NULL)
+@JsonPropertyOrder({ KeyWords.SIZE, KeyWords.CONTENT_TYPE, KeyWords.ETAG, KeyWords.HREF,
+	KeyWords.THUMBNAIL })
+public class BinaryReference {
+	protected Integer size;
+	protected String contentType;
+	protected String etag;
+	protected String href;
+	protected String thumbnail;
+
+	public BinaryReference(String type, String id, String field, Integer size, String contentType,
+			String etag, boolean thumbnail) {
+		this.size = size;
+		this.contentType = contentType;
+		this.etag = etag;
+
+		href = "/" + type + "/" + id + "/" + field;
+
+		if (thumbnail) {
+			this.thumbnail = href + "/" + KeyWords.THUMBNAIL;
+		}
+	}
+
+	@JsonProperty(KeyWords.SIZE)
+	public Integer getSize() {
+		return size;
+	}
+
+	@JsonProperty(KeyWords.CONTENT_TYPE)
+	public String getContentType() {
+		return contentType;
+	}
+
+	@JsonProperty(KeyWords.ETAG)
+	public String getETag() {
+		return etag;
+	}
+
+	@JsonProperty(KeyWords.HREF)
+	public String getHref() {
+		return href;
+	}
+
+	@JsonProperty(KeyWords.THUMBNAIL)
+	public String getThumbnail() {
+		return thumbnail;
+	}
+}
\ No newline at end of file
@@ -16,6 +16,8 @@
 
 package com.nexttypes.datatypes;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Properties;
 
 import jakarta.mail.Message;
@@ -31,7 +33,8 @@ import com.nexttypes.system.KeyWords;
 
 public class Email {
 	
-	protected static final String MAIL_SMTP_HOST = "mail.smtp.host";
+	public static final String MAIL_SMTP_HOST = "mail.smtp.host";
+	public static final String MAIL_SMTP_PORT = "mail.smtp.port";
 	public static final String FROM = "from";
 	public static final String TO = "to";
 	public static final String SUBJECT = "subject";
@@ -70,6 +73,16 @@ public class Email {
 		}
 	}
 	
+	public byte[] getBytes() {
+		try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+			message.saveChanges();
+			message.writeTo(output);
+			return output.toByteArray();
+		} catch (IOException | MessagingException e) {
+			throw new NXException(e);
+		}
+	}
+	
 	public MimeMessage getMessage() {
 		return message;
 	}
@@ -18,6 +18,7 @@ package com.nexttypes.datatypes;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.w3c.dom.Document;
@@ -136,6 +137,9 @@ public class HTML extends XML {
 	public static final String OBJECT = "object";
 	public static final String DATA = "data";
 
+	protected HTMLTemplate template;
+	protected org.w3c.dom.Element[] slots;
+
 	public HTML() {
 		super();
 		init();
@@ -160,8 +164,49 @@ public class HTML extends XML {
 		setXMLNS();
 	}
 
+	protected HTML(HTMLTemplate template) {
+		super();
+		init();
+		this.template = template;
+		lang = template.getLang();
+
+		IdentityHashMap<Node, Node> parents = new IdentityHashMap<>();
+		parents.put(template.getRoot().getOwnerDocument(), document);
+
+		org.w3c.dom.Element[] templateSlots = template.getSlots();
+		org.w3c.dom.Element[] templateParents = template.getParents();
+		slots = new org.w3c.dom.Element[templateSlots.length];
+
+		for (int x = 0; x < templateSlots.length; x++) {
+			org.w3c.dom.Element element = (org.w3c.dom.Element) document.importNode(templateSlots[x], true);
+			importParent(templateParents[x], parents).appendChild(element);
+			checkElement(element);
+			slots[x] = element;
+		}
+	}
+
+	protected Node importParent(Node node, IdentityHashMap<Node, Node> parents) {
+		Node parent = parents.get(node);
+
+		if (parent == null) {
+			parent = document.importNode(node, false);
+			importParent(node.getParentNode(), parents).appendChild(parent);
+			parents.put(node, parent);
+		}
+
+		return parent;
+	}
+
+	protected org.w3c.dom.Element[] getSlots() {
+		return slots;
+	}
+
 	public HTML clone() {
-		return new HTML((Document) document.cloneNode(true), lang);
+		return template != null ? assemble() : new HTML((Document) document.cloneNode(true), lang);
+	}
+
+	public HTML assemble() {
+		return template != null ? new HTML(toString(), lang) : this;
 	}
 
 	protected void init() {
@@ -310,4 +355,9 @@ public class HTML extends XML {
 	public InputGroup createInputGroup() {
 		return new InputGroup();
 	}
-}
+	
+	@Override
+	public String toString() {
+		return template != null ? template.render(this) : super.toString();
+	}
+}
\ No newline at end of file
@@ -17,19 +17,137 @@
 package com.nexttypes.datatypes;
 
 import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.w3c.dom.Document;
+
+import com.nexttypes.exceptions.InvalidValueException;
+import com.nexttypes.exceptions.XMLException;
 
 public class HTMLFragment extends XMLFragment {
 	private static final long serialVersionUID = 1L;
 
+	protected static final ConcurrentHashMap<String, String> SANITIZER_VERSIONS = new ConcurrentHashMap<>();
+	protected static final ConcurrentHashMap<String, String> SANITIZER_ALLOWED_TAGS = new ConcurrentHashMap<>();
+
+	protected String html;
+	protected String sanitizerVersion;
+
 	public HTMLFragment(String html, String lang) {
 		super(html, lang, (LinkedHashMap<String, String[]>) null);
 	}
 
 	public HTMLFragment(String html, String lang, String allowedTags) {
 		super(html, lang, allowedTags);
+		sanitizerVersion = sanitizerVersion(allowedTags);
 	}
 
 	public HTMLFragment(byte[] html, String lang, String allowedTags) {
 		super(html, lang, allowedTags);
+		sanitizerVersion = sanitizerVersion(allowedTags);
+	}
+
+	protected HTMLFragment(String html, String lang, String sanitizerVersion, boolean sanitized) {
+		super((Document) null, lang);
+		this.html = html;
+		this.sanitizerVersion = sanitizerVersion;
+	}
+
+	public static HTMLFragment sanitized(String html, String lang, String sanitizerVersion) {
+		return html != null ? new HTMLFragment(html, lang, sanitizerVersion, true) : null;
+	}
+
+	public static String sanitizerVersion(String allowedTags) {
+		String version = null;
+
+		if (allowedTags != null) {
+			version = SANITIZER_VERSIONS.get(allowedTags);
+
+			if (version == null) {
+				version = DigestUtils.md5Hex(allowedTags).substring(0, 8);
+				SANITIZER_VERSIONS.putIfAbsent(allowedTags, version);
+				SANITIZER_ALLOWED_TAGS.putIfAbsent(version, allowedTags);
+			}
+		}
+
+		return version;
+	}
+
+	public static boolean isSanitized(String html, String lang, String sanitizerVersion) {
+		String allowedTags = SANITIZER_ALLOWED_TAGS.get(sanitizerVersion);
+
+		if (allowedTags == null) {
+			return false;
+		}
+
+		try {
+			return new HTMLFragment(html, lang, allowedTags).toString().equals(html);
+		} catch (XMLException | InvalidValueException e) {
+			return false;
+		}
+	}
+
+	public String getSanitizerVersion() {
+		return sanitizerVersion;
+	}
+
+	protected void parse() {
+		if (document == null) {
+			document = new XMLFragment(html, lang).getDocument();
+		}
+	}
+
+	@Override
+	public Document getDocument() {
+		parse();
+		return super.getDocument();
+	}
+
+	@Override
+	public Element createElement(String tag) {
+		parse();
+		return super.createElement(tag);
+	}
+
+	@Override
+	public Element setDocumentElement(String tag) {
+		parse();
+		return super.setDocumentElement(tag);
+	}
+
+	@Override
+	public Element getDocumentElement() {
+		parse();
+		return super.getDocumentElement();
+	}
+
+	@Override
+	public Element getElementById(String id) {
+		parse();
+		return super.getElementById(id);
+	}
+
+	@Override
+	public Element getElementByTagName(String tag) {
+		parse();
+		return super.getElementByTagName(tag);
+	}
+
+	@Override
+	public Element[] getElementsByClassName(String className) {
+		parse();
+		return super.getElementsByClassName(className);
+	}
+
+	@Override
+	public XML clone() {
+		parse();
+		return super.clone();
+	}
+
+	@Override
+	public String toString() {
+		return document == null ? html : super.toString();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.datatypes;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+public class HTMLTemplate {
+	public static final String[] SLOT_TAGS = new String[] { HTML.HEAD, HTML.MAIN, HTML.FOOTER };
+	public static final String SLOT_MARKER = "nexttypes-slot";
+
+	protected String lang;
+	protected Element root;
+	protected Element[] slots;
+	protected Element[] parents;
+	protected String[] segments;
+
+	public HTMLTemplate(InputStream html, String lang) {
+		this.lang = lang;
+
+		HTML document = new HTML(html, lang);
+		root = document.getDocument().getDocumentElement();
+
+		ArrayList<Element> slots = new ArrayList<>();
+		ArrayList<Element> parents = new ArrayList<>();
+		compile(root, slots, parents);
+		this.slots = slots.toArray(new Element[] {});
+		this.parents = parents.toArray(new Element[] {});
+
+		segments = StringUtils.splitByWholeSeparatorPreserveAllTokens(document.toString(),
+				"<!--" + SLOT_MARKER + "-->");
+	}
+
+	protected void compile(Element element, ArrayList<Element> slots, ArrayList<Element> parents) {
+		ArrayList<Element> children = new ArrayList<>();
+		NodeList nodes = element.getChildNodes();
+
+		for (int x = 0; x < nodes.getLength(); x++) {
+			Node node = nodes.item(x);
+			if (node instanceof Element) {
+				children.add((Element) node);
+			}
+		}
+
+		for (Element child : children) {
+			if (isSlot(child)) {
+				slots.add(child);
+				parents.add(element);
+				element.replaceChild(element.getOwnerDocument().createComment(SLOT_MARKER), child);
+			} else {
+				compile(child, slots, parents);
+			}
+		}
+	}
+
+	protected boolean isSlot(Element element) {
+		return element.hasAttribute(XML.ID) || ArrayUtils.contains(SLOT_TAGS, element.getTagName());
+	}
+
+	public String getLang() {
+		return lang;
+	}
+
+	public Element getRoot() {
+		return root;
+	}
+
+	public Element[] getSlots() {
+		return slots;
+	}
+
+	public Element[] getParents() {
+		return parents;
+	}
+
+	public HTML instance() {
+		return new HTML(this);
+	}
+
+	public String render(HTML document) {
+		StringBuilder value = new StringBuilder(segments[0]);
+		Element[] elements = document.getSlots();
+
+		for (int x = 0; x < slots.length; x++) {
+			if (elements[x].getParentNode() != null) {
+				value.append(document.nodeToString(elements[x], null));
+			}
+			value.append(segments[x + 1]);
+		}
+
+		return value.toString();
+	}
+}
\ No newline at end of file
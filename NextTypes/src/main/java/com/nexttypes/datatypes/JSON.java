@@ -35,6 +35,7 @@ import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.nexttypes.exceptions.NXException;
 import com.nexttypes.system.Utils;
 
@@ -63,6 +64,18 @@ public class JSON extends PGobject {
 		setValue(value);
 	}
 
+	public static JSON fromSmile(byte[] value) {
+		JSON json = new JSON();
+
+		try {
+			json.node = new SmileMapper().readTree(value);
+		} catch (IOException e) {
+			throw new NXException(e);
+		}
+
+		return json;
+	}
+
 	public JSONObject getDocumentObject() {
 		return node != null ? new JSONObject((ObjectNode) node) : null;
 	}
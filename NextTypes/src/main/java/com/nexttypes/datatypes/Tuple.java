@@ -193,6 +193,8 @@ public class Tuple {
 	public static Short parseInt16(Object value) {
 		if (value instanceof BigDecimal) {
 			value = ((BigDecimal) value).shortValueExact();
+		} else if (value instanceof Integer) {
+			value = BigDecimal.valueOf((Integer) value).shortValueExact();
 		} else if (value instanceof String) {
 			value = Short.parseShort((String) value);
 		} else if (value instanceof byte[]) {
@@ -32,6 +32,7 @@ public class URL {
 	public static final String HTTPS = "https";
 	public static final String ROBOTS_FILE = "robots.txt";
 	public static final String SITEMAP_FILE = "sitemap.xml";
+	public static final String METRICS_FILE = "metrics";
 
 	protected URIBuilder url;
 
@@ -131,6 +132,10 @@ public class URL {
 		return url.getPath().equals("/" + SITEMAP_FILE);
 	}
 
+	public boolean isMetrics() {
+		return url.getPath().equals("/" + METRICS_FILE);
+	}
+
 	@Override
 	public String toString() {
 		return url.toString();
@@ -23,14 +23,19 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 
+import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
@@ -40,6 +45,7 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
+import javax.xml.xpath.XPathVariableResolver;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -65,6 +71,37 @@ public class XML extends PGobject {
 	public static final String DEFAULT_LANG = "en";
 	public static final String XMLNS = "xmlns";
 
+	protected static final int MAX_DOCUMENT_BUILDERS = 16;
+	protected static final String SANITIZING = "sanitizing:";
+	protected static final ThreadLocal<HashMap<String, DocumentBuilder>> DOCUMENT_BUILDERS =
+			ThreadLocal.withInitial(HashMap::new);
+	protected static final ThreadLocal<ClassNameExpression> CLASS_NAME_EXPRESSIONS =
+			ThreadLocal.withInitial(ClassNameExpression::new);
+	protected static final ConcurrentHashMap<String, LinkedHashMap<String, String[]>> ALLOWED_TAGS =
+			new ConcurrentHashMap<>();
+	protected static final ErrorHandler ERROR_HANDLER = new ErrorHandler() {
+
+		@Override
+		public void warning(SAXParseException e) throws SAXException {
+			throw new XMLException(e);
+		}
+
+		@Override
+		public void error(SAXParseException e) throws SAXException {
+			throw new XMLException(e);
+		}
+
+		@Override
+		public void fatalError(SAXParseException e) throws SAXException {
+			throw new XMLException(e);
+		}
+
+	};
+	protected static final int MAX_TRANSFORMERS = 64;
+	protected static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+	protected static final LinkedBlockingQueue<Transformer> TRANSFORMERS =
+			new LinkedBlockingQueue<>(MAX_TRANSFORMERS);
+
 	protected Document document;
 	protected String docType;
 	protected String lang;
@@ -73,14 +110,7 @@ public class XML extends PGobject {
 	
 	public XML() {
 		type = PT.XML;
-
-		try {
-			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-			DocumentBuilder builder = factory.newDocumentBuilder();
-			document = builder.newDocument();
-		} catch (ParserConfigurationException e) {
-			throw new NXException(e);
-		}
+		document = getDocumentBuilder("", false).newDocument();
 	}
 
 	protected XML(Document document, String lang) {
@@ -136,40 +166,78 @@ public class XML extends PGobject {
 		}
 
 		try {
-			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-			factory.setAttribute("http://apache.org/xml/properties/locale", Locale.forLanguageTag(lang));
-			DocumentBuilder builder = factory.newDocumentBuilder();
-			builder.setErrorHandler(new ErrorHandler() {
-
-				@Override
-				public void warning(SAXParseException e) throws SAXException {
-					throwException(e);
-				}
+			document = getDocumentBuilder(lang, allowedTags != null).parse(xml);
+		} catch (IOException | SAXException e) {
+			throw new NXException(e);
+		}
 
-				@Override
-				public void error(SAXParseException e) throws SAXException {
-					throwException(e);
-				}
+		checkElement(document.getDocumentElement());
 
-				@Override
-				public void fatalError(SAXParseException e) throws SAXException {
-					throwException(e);
-				}
+	}
 
-			});
+	protected static DocumentBuilder getDocumentBuilder(String lang, boolean sanitizing) {
+		Locale locale = Locale.forLanguageTag(lang);
+		String key = (sanitizing ? SANITIZING : "") + locale.getLanguage();
+		HashMap<String, DocumentBuilder> builders = DOCUMENT_BUILDERS.get();
+		DocumentBuilder builder = builders.get(key);
 
-			document = builder.parse(xml);
+		if (builder == null) {
+			try {
+				DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+				factory.setAttribute("http://apache.org/xml/properties/locale", locale);
+
+				if (sanitizing) {
+					factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+					factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+					factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd",
+							false);
+				}
 
-		} catch (ParserConfigurationException | IOException | SAXException e) {
-			throw new NXException(e);
+				builder = factory.newDocumentBuilder();
+			} catch (ParserConfigurationException e) {
+				throw new NXException(e);
+			}
+
+			if (builders.size() < MAX_DOCUMENT_BUILDERS) {
+				builders.put(key, builder);
+			}
+		} else {
+			builder.reset();
 		}
 
-		checkElement(document.getDocumentElement());
+		builder.setErrorHandler(ERROR_HANDLER);
 
+		return builder;
 	}
 
-	protected void throwException(SAXParseException e) {
-		throw new XMLException(e);
+	protected static NodeList evaluateClassName(Object item, String className)
+			throws XPathExpressionException {
+		return CLASS_NAME_EXPRESSIONS.get().evaluate(item, className);
+	}
+
+	protected static class ClassNameExpression implements XPathVariableResolver {
+		protected XPathExpression expression;
+		protected String className;
+
+		protected ClassNameExpression() {
+			try {
+				XPath path = XPathFactory.newInstance().newXPath();
+				path.setXPathVariableResolver(this);
+				expression = path.compile("//*[contains(concat(' ', @class, ' '), concat(' ', $class, ' '))]");
+			} catch (XPathExpressionException e) {
+				throw new NXException(e);
+			}
+		}
+
+		@Override
+		public Object resolveVariable(QName name) {
+			return className;
+		}
+
+		protected NodeList evaluate(Object item, String className) throws XPathExpressionException {
+			this.className = className;
+			return (NodeList) expression.evaluate(item, XPathConstants.NODESET);
+		}
 	}
 
 	public static String getText(String xml) {
@@ -250,6 +318,12 @@ public class XML extends PGobject {
 		LinkedHashMap<String, String[]> parsedAllowedTags = null;
 
 		if (allowedTags != null) {
+			parsedAllowedTags = ALLOWED_TAGS.get(allowedTags);
+
+			if (parsedAllowedTags != null) {
+				return parsedAllowedTags;
+			}
+
 			parsedAllowedTags = new LinkedHashMap<>();
 
 			for (String tag : allowedTags.split(";")) {
@@ -263,6 +337,7 @@ public class XML extends PGobject {
 				parsedAllowedTags.put(name, attributes);
 			}
 
+			ALLOWED_TAGS.putIfAbsent(allowedTags, parsedAllowedTags);
 		}
 
 		return parsedAllowedTags;
@@ -303,10 +378,7 @@ public class XML extends PGobject {
 		ArrayList<Element> elements = new ArrayList<>();
 
 		try {
-			XPathFactory factory = XPathFactory.newInstance();
-			XPath path = factory.newXPath();
-			XPathExpression expression = path.compile("//*[contains(concat(' ', @class, ' '), ' " + className + " ')]");
-			NodeList nodes = (NodeList) expression.evaluate(document, XPathConstants.NODESET);
+			NodeList nodes = evaluateClassName(document, className);
 			for (int x = 0; x < nodes.getLength(); x++) {
 				elements.add(new Element((org.w3c.dom.Element) nodes.item(x)));
 			}
@@ -322,11 +394,15 @@ public class XML extends PGobject {
 	}
 
 	protected String nodeToString(org.w3c.dom.Node node) {
+		return nodeToString(node, docType);
+	}
+
+	protected String nodeToString(org.w3c.dom.Node node, String docType) {
 		StringBuilder value = new StringBuilder();
 
-		try {
-			Transformer transformer = TransformerFactory.newInstance().newTransformer();
+		Transformer transformer = getTransformer();
 
+		try {
 			if (!xmlDeclaration) {
 				transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
 			}
@@ -341,11 +417,39 @@ public class XML extends PGobject {
 			value.append(result.getWriter().toString());
 		} catch (TransformerException e) {
 			throw new NXException(e);
+		} finally {
+			releaseTransformer(transformer);
 		}
 		
 		return value.toString();
 	}
 
+	public static Transformer getTransformer() {
+		Transformer transformer = TRANSFORMERS.poll();
+
+		if (transformer == null) {
+			synchronized (TRANSFORMER_FACTORY) {
+				try {
+					transformer = TRANSFORMER_FACTORY.newTransformer();
+				} catch (TransformerConfigurationException e) {
+					throw new NXException(e);
+				}
+			}
+		} else {
+			transformer.reset();
+		}
+
+		return transformer;
+	}
+
+	public static void releaseTransformer(Transformer transformer) {
+		TRANSFORMERS.offer(transformer);
+	}
+
+	public static void close() {
+		TRANSFORMERS.clear();
+	}
+
 	public class Element {
 		protected org.w3c.dom.Element element;
 		protected ArrayList<String> classes = new ArrayList<>();
@@ -601,10 +705,7 @@ public class XML extends PGobject {
 		
 		public Element getElementByClassName(String className) {
 			try {
-				XPathFactory factory = XPathFactory.newInstance();
-				XPath path = factory.newXPath();
-				XPathExpression expression = path.compile("//*[contains(concat(' ', @class, ' '), ' " + className + " ')]");
-				NodeList nodes = (NodeList) expression.evaluate(element, XPathConstants.NODESET);
+				NodeList nodes = evaluateClassName(element, className);
 				return nodes != null && nodes.getLength() > 0 ? new Element((org.w3c.dom.Element) nodes.item(0)) : null;
 			} catch (XPathExpressionException e) {
 				throw new NXException(e);
@@ -18,6 +18,7 @@ package com.nexttypes.datatypes;
 
 import java.util.LinkedHashMap;
 
+import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 
 import com.nexttypes.system.Utils;
@@ -47,6 +48,10 @@ public class XMLFragment extends XML {
 		super("<" + FRAGMENT + ">" + xml + "</" + FRAGMENT + ">", lang, addFragmentTag(allowedTags));
 	}
 
+	protected XMLFragment(Document document, String lang) {
+		super(document, lang);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder fragment = new StringBuilder();
@@ -59,6 +64,7 @@ public class XMLFragment extends XML {
 
 	protected static LinkedHashMap<String, String[]> addFragmentTag(LinkedHashMap<String, String[]> allowedTags) {
 		if (allowedTags != null) {
+			allowedTags = new LinkedHashMap<>(allowedTags);
 			allowedTags.put(FRAGMENT, new String[] {});
 		}
 		return allowedTags;
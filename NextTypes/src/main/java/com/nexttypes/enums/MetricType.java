@@ -0,0 +1,34 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.enums;
+
+public enum MetricType {
+	COUNTER("counter"),
+	GAUGE("gauge"),
+	HISTOGRAM("histogram");
+
+	protected String type;
+
+	private MetricType(String type) {
+		this.type = type;
+	}
+
+	@Override
+	public String toString() {
+		return type;
+	}
+}
\ No newline at end of file
@@ -59,6 +59,7 @@ public class NXException extends RuntimeException {
 	public static final String INDEX_NOT_FOUND = "index_not_found";
 	public static final String INVALID_ACTION_NAME = "invalid_action_name";
 	public static final String INVALID_BOOLEAN = "invalid_boolean";
+	public static final String INVALID_CRON_EXPRESSION = "invalid_cron_expression";
 	public static final String INVALID_CURRENT_PASSWORD = "invalid_current_password";
 	public static final String INVALID_ELEMENT = "invalid_element";
 	public static final String INVALID_ELEMENT_NAME = "invalid_element_name";
@@ -82,6 +83,7 @@ public class NXException extends RuntimeException {
 	public static final String INVALID_ROW_COUNT = "invalid_row_count";
 	public static final String INVALID_SERIAL_FORMAT = "invalid_serial_format";
 	public static final String INVALID_SESSION = "invalid_session";
+	public static final String INVALID_SESSION_TOKEN_KEY = "invalid_session_token_key";
 	public static final String INVALID_STREAM_FORMAT = "invalid_stream_format";
 	public static final String INVALID_TIMEZONE = "invalid_timezone";
 	public static final String INVALID_TYPE_NAME = "invalid_type_name";
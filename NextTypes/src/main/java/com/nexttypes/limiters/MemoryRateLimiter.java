@@ -0,0 +1,166 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.limiters;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.nexttypes.enums.RateLimit;
+import com.nexttypes.system.Context;
+
+public class MemoryRateLimiter extends RateLimiter {
+	protected static final long PERIOD = TimeUnit.MINUTES.toNanos(1);
+
+	protected long start = System.nanoTime();
+	protected ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+	public MemoryRateLimiter(Context context) {
+		super(context);
+	}
+
+	@Override
+	public RateLimit acquire(String limit, String key, int max) {
+		Bucket bucket = bucket(limit, key);
+		long now = now();
+		long interval = interval(max);
+
+		while (true) {
+			long arrival = bucket.arrival.get();
+			long next = Math.max(arrival, now) + interval;
+
+			if (next - now > PERIOD) {
+				return reject(limit, bucket);
+			}
+
+			if (bucket.arrival.compareAndSet(arrival, next)) {
+				bucket.rejected = false;
+				return RateLimit.ALLOWED;
+			}
+		}
+	}
+
+	@Override
+	public RateLimit check(String limit, String key, int max) {
+		Bucket bucket = buckets.get(limit + ":" + key);
+
+		if (bucket != null) {
+			long now = now();
+
+			if (Math.max(bucket.arrival.get(), now) + interval(max) - now > PERIOD) {
+				return reject(limit, bucket);
+			}
+
+			bucket.rejected = false;
+		}
+
+		return RateLimit.ALLOWED;
+	}
+
+	@Override
+	public void consume(String limit, String key, int max) {
+		Bucket bucket = bucket(limit, key);
+		long now = now();
+		long interval = interval(max);
+
+		while (true) {
+			long arrival = bucket.arrival.get();
+			long next = Math.min(Math.max(arrival, now) + interval, now + PERIOD + interval);
+
+			if (bucket.arrival.compareAndSet(arrival, next)) {
+				break;
+			}
+		}
+	}
+
+	protected RateLimit reject(String limit, Bucket bucket) {
+		rejection(limit);
+
+		RateLimit result = bucket.rejected ? RateLimit.REJECTED : RateLimit.EXCEEDED;
+		bucket.rejected = true;
+
+		return result;
+	}
+
+	protected Bucket bucket(String limit, String key) {
+		String bucketKey = limit + ":" + key;
+		Bucket bucket = buckets.get(bucketKey);
+
+		if (bucket == null) {
+			if (buckets.size() >= size) {
+				evict();
+			}
+
+			bucket = buckets.computeIfAbsent(bucketKey, k -> new Bucket(now()));
+		}
+
+		return bucket;
+	}
+
+	protected synchronized void evict() {
+		if (buckets.size() >= size) {
+			long now = now();
+
+			buckets.values().removeIf(bucket -> bucket.arrival.get() <= now);
+
+			int target = size - size / 10;
+
+			if (buckets.size() >= target) {
+				ArrayList<Map.Entry<String, Long>> arrivals = new ArrayList<>(buckets.size());
+
+				for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+					arrivals.add(Map.entry(entry.getKey(), entry.getValue().arrival.get()));
+				}
+
+				arrivals.sort(Map.Entry.comparingByValue());
+
+				Iterator<Map.Entry<String, Long>> iterator = arrivals.iterator();
+
+				while (buckets.size() >= target && iterator.hasNext()) {
+					if (buckets.remove(iterator.next().getKey()) != null) {
+						evictions.increment();
+					}
+				}
+			}
+		}
+	}
+
+	protected long now() {
+		return System.nanoTime() - start;
+	}
+
+	protected long interval(int max) {
+		return PERIOD / max;
+	}
+
+	@Override
+	public int getSize() {
+		return buckets.size();
+	}
+
+	protected static class Bucket {
+		protected AtomicLong arrival;
+		protected volatile boolean rejected = false;
+
+		protected Bucket(long now) {
+			arrival = new AtomicLong(now);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.limiters;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.nexttypes.datatypes.Auth;
+import com.nexttypes.datatypes.Tuple;
+import com.nexttypes.datatypes.URL;
+import com.nexttypes.enums.NodeMode;
+import com.nexttypes.enums.RateLimit;
+import com.nexttypes.logging.Logger;
+import com.nexttypes.nodes.PostgreSQLNode;
+import com.nexttypes.settings.Settings;
+import com.nexttypes.system.Constants;
+import com.nexttypes.system.Context;
+
+public class PostgreSQLRateLimiter extends RateLimiter {
+	public static final int SYNC_BATCH_SIZE = 1000;
+	public static final String RATE_LIMIT = "nexttypes.rate_limit";
+
+	protected static final String RATE_LIMIT_TABLE =
+			"create unlogged table if not exists nexttypes.rate_limit ("
+					+ "key character varying(300),"
+					+ "period bigint,"
+					+ "count integer not null,"
+					+ "primary key (key, period))";
+
+	protected static final String DELETE_RATE_LIMITS = "delete from nexttypes.rate_limit where period < ?";
+
+	protected Context context;
+	protected Logger logger;
+	protected String lang;
+	protected long lastPeriod;
+	protected ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+	protected ScheduledExecutorService sync = Executors.newSingleThreadScheduledExecutor(job -> {
+		Thread thread = new Thread(job);
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public PostgreSQLRateLimiter(Context context) {
+		super(context);
+
+		this.context = context;
+		logger = context.getLogger();
+		lang = context.getSettings(Settings.POSTGRESQL_SETTINGS).getString(Settings.DEFAULT_LANG);
+		lastPeriod = period();
+
+		try (PostgreSQLNode node = node(NodeMode.ADMIN)) {
+			node.execute(PostgreSQLNode.NEXTTYPES_SCHEMA);
+			node.grantSchema(PostgreSQLNode.NEXTTYPES);
+			node.execute(RATE_LIMIT_TABLE);
+			node.grantTable(RATE_LIMIT);
+			node.commit();
+		}
+
+		long interval = settings.getInt64(Settings.RATE_LIMITER_SYNC_INTERVAL);
+		sync.scheduleWithFixedDelay(this::sync, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public RateLimit acquire(String limit, String key, int max) {
+		Counter counter = counter(limit, key);
+
+		if (counter.count() >= max) {
+			return reject(limit, counter);
+		}
+
+		counter.pending.increment();
+		counter.rejected = false;
+
+		return RateLimit.ALLOWED;
+	}
+
+	@Override
+	public RateLimit check(String limit, String key, int max) {
+		Counter counter = counters.get(limit + ":" + key);
+
+		if (counter != null && counter.period == period()) {
+			if (counter.count() >= max) {
+				return reject(limit, counter);
+			}
+
+			counter.rejected = false;
+		}
+
+		return RateLimit.ALLOWED;
+	}
+
+	@Override
+	public void consume(String limit, String key, int max) {
+		counter(limit, key).pending.increment();
+	}
+
+	protected RateLimit reject(String limit, Counter counter) {
+		rejection(limit);
+
+		RateLimit result = counter.rejected ? RateLimit.REJECTED : RateLimit.EXCEEDED;
+		counter.rejected = true;
+
+		return result;
+	}
+
+	protected Counter counter(String limit, String key) {
+		String counterKey = limit + ":" + key;
+		long period = period();
+		Counter counter = counters.get(counterKey);
+
+		if (counter == null || counter.period != period) {
+			if (counter == null && counters.size() >= size) {
+				evict(period);
+			}
+
+			counter = counters.compute(counterKey, (k, current) ->
+				current == null || current.period != period ? new Counter(period) : current);
+		}
+
+		return counter;
+	}
+
+	protected synchronized void evict(long period) {
+		if (counters.size() >= size) {
+			counters.values().removeIf(counter -> counter.period != period && counter.pending.sum() == 0);
+
+			Iterator<Counter> iterator = counters.values().iterator();
+			int target = size - size / 10;
+
+			while (counters.size() >= target && iterator.hasNext()) {
+				if (iterator.next().pending.sum() == 0) {
+					iterator.remove();
+					evictions.increment();
+				}
+			}
+		}
+	}
+
+	protected void sync() {
+		try {
+			long period = period();
+
+			ArrayList<Map.Entry<String, Counter>> entries = new ArrayList<>(counters.entrySet());
+			entries.sort(Map.Entry.comparingByKey());
+
+			TreeMap<Long, ArrayList<Map.Entry<String, Counter>>> periods = new TreeMap<>();
+
+			for (Map.Entry<String, Counter> entry : entries) {
+				Counter counter = entry.getValue();
+
+				if (counter.period != period) {
+					counters.remove(entry.getKey(), counter);
+				}
+
+				if (counter.pending.sum() != 0) {
+					periods.computeIfAbsent(counter.period, key -> new ArrayList<>()).add(entry);
+				}
+			}
+
+			for (Map.Entry<Long, ArrayList<Map.Entry<String, Counter>>> entry : periods.entrySet()) {
+				ArrayList<Map.Entry<String, Counter>> periodEntries = entry.getValue();
+
+				for (int x = 0; x < periodEntries.size(); x += SYNC_BATCH_SIZE) {
+					sync(entry.getKey(), periodEntries.subList(x,
+							Math.min(x + SYNC_BATCH_SIZE, periodEntries.size())));
+				}
+			}
+
+			if (period != lastPeriod) {
+				try (PostgreSQLNode node = node(NodeMode.WRITE)) {
+					node.execute(DELETE_RATE_LIMITS, period);
+					node.commit();
+				}
+
+				lastPeriod = period;
+			}
+		} catch (Exception e) {
+			logger.severe(Auth.ADMIN, URL.LOCALHOST, e);
+		}
+	}
+
+	protected void sync(long period, List<Map.Entry<String, Counter>> entries) {
+		StringBuilder sql = new StringBuilder("insert into nexttypes.rate_limit (key, period, count) values ");
+		ArrayList<Object> parameters = new ArrayList<>();
+		LinkedHashMap<String, Counter> counters = new LinkedHashMap<>();
+		LinkedHashMap<String, Long> deltas = new LinkedHashMap<>();
+
+		for (Map.Entry<String, Counter> entry : entries) {
+			long delta = entry.getValue().pending.sum();
+			counters.put(entry.getKey(), entry.getValue());
+			deltas.put(entry.getKey(), delta);
+
+			if (parameters.size() > 0) {
+				sql.append(",");
+			}
+
+			sql.append("(?, ?, ?)");
+			parameters.add(entry.getKey());
+			parameters.add(period);
+			parameters.add((int) delta);
+		}
+
+		sql.append(" on conflict (key, period) do update set count = rate_limit.count + excluded.count"
+				+ " returning key, count");
+
+		Tuple[] tuples = null;
+
+		try (PostgreSQLNode node = node(NodeMode.WRITE)) {
+			tuples = node.query(sql, parameters);
+			node.commit();
+		}
+
+		for (Tuple tuple : tuples) {
+			String key = tuple.getString("key");
+			Counter counter = counters.get(key);
+			counter.global = tuple.getInt32("count");
+			counter.pending.add(-deltas.get(key));
+		}
+	}
+
+	protected PostgreSQLNode node(NodeMode mode) {
+		return new PostgreSQLNode(new Auth(Auth.ADMIN, Auth.ADMINISTRATORS), mode, lang, URL.LOCALHOST,
+				context, true);
+	}
+
+	protected long period() {
+		return System.currentTimeMillis() / Constants.MINUTE_MILLISECONDS;
+	}
+
+	@Override
+	public int getSize() {
+		return counters.size();
+	}
+
+	@Override
+	public void close() {
+		sync.shutdownNow();
+	}
+
+	protected static class Counter {
+		protected long period;
+		protected LongAdder pending = new LongAdder();
+		protected volatile long global = 0;
+		protected volatile boolean rejected = false;
+
+		protected Counter(long period) {
+			this.period = period;
+		}
+
+		protected long count() {
+			return global + pending.sum();
+		}
+	}
+}
\ No newline at end of file
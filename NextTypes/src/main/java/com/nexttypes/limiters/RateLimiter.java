@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.limiters;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.nexttypes.enums.RateLimit;
+import com.nexttypes.settings.Settings;
+import com.nexttypes.system.Context;
+
+public abstract class RateLimiter {
+	public static final String REQUESTS = "requests";
+	public static final String TYPE_REQUESTS = "type_requests";
+	public static final String INSERTS = "inserts";
+	public static final String AUTH_ERRORS = "auth_errors";
+
+	protected Settings settings;
+	protected int size;
+	protected ConcurrentHashMap<String, LongAdder> rejections = new ConcurrentHashMap<>();
+	protected LongAdder evictions = new LongAdder();
+
+	public RateLimiter(Context context) {
+		settings = context.getSettings(Settings.HTTP_SETTINGS);
+		size = settings.getInt32(Settings.RATE_LIMITER_SIZE);
+	}
+
+	public abstract RateLimit acquire(String limit, String key, int max);
+
+	public abstract RateLimit check(String limit, String key, int max);
+
+	public abstract void consume(String limit, String key, int max);
+
+	public abstract int getSize();
+
+	public void close() {}
+
+	protected void rejection(String limit) {
+		rejections.computeIfAbsent(limit, key -> new LongAdder()).increment();
+	}
+
+	public Map<String, Long> getRejections() {
+		LinkedHashMap<String, Long> rejections = new LinkedHashMap<>();
+
+		for (Map.Entry<String, LongAdder> entry : this.rejections.entrySet()) {
+			rejections.put(entry.getKey(), entry.getValue().sum());
+		}
+
+		return rejections;
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+}
\ No newline at end of file
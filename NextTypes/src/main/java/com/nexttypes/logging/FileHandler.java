@@ -16,65 +16,206 @@
 
 package com.nexttypes.logging;
 
+import java.io.BufferedWriter;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.LogRecord;
 
+import com.nexttypes.enums.OverflowPolicy;
 import com.nexttypes.settings.Settings;
-import com.nexttypes.system.Constants;
 import com.nexttypes.system.KeyWords;
 import com.nexttypes.system.Utils;
 
 public class FileHandler extends java.util.logging.Handler {
+	protected static final long BLOCK_WAIT = TimeUnit.MICROSECONDS.toNanos(100);
+
 	protected String directory;
 	protected String prefix;
-	protected PrintStream logger;
+	protected RingBuffer<LogRecord> records;
+	protected OverflowPolicy overflow;
+	protected int flushSize;
+	protected long flushInterval;
+	protected LongAdder dropped = new LongAdder();
+	protected Thread writer;
+	protected volatile boolean closed = false;
+	protected volatile boolean flushRequested = false;
+	protected volatile boolean idle = false;
+	protected BufferedWriter logger;
 	protected LocalDate loggerDate;
 
 	public FileHandler(Settings settings) {
 		directory = Utils.readDirectory(settings.getString(KeyWords.DIRECTORY));
 		prefix = settings.getString(KeyWords.PREFIX);
+		records = new RingBuffer<>(settings.getInt32(Settings.QUEUE_SIZE));
+		overflow = OverflowPolicy.valueOf(settings.getString(Settings.OVERFLOW).toUpperCase());
+		flushSize = settings.getInt32(Settings.FLUSH_SIZE);
+		flushInterval = TimeUnit.MILLISECONDS.toNanos(settings.getInt64(Settings.FLUSH_INTERVAL));
+
+		writer = new Thread(this::write);
+		writer.setDaemon(true);
+		writer.start();
 	}
 
 	@Override
 	public void close() throws SecurityException {
-		if (logger != null) {
-			logger.close();
+		closed = true;
+		LockSupport.unpark(writer);
+
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
 	}
 
 	@Override
 	public void flush() {
-		if (logger != null) {
-			logger.flush();
-		}
+		flushRequested = true;
+		LockSupport.unpark(writer);
 	}
 
 	@Override
-	public synchronized void publish(LogRecord record) {
+	public void publish(LogRecord record) {
+		if (closed) {
+			dropped.increment();
+			return;
+		}
+
+		if (records.offer(record)) {
+			if (idle || records.size() > records.capacity() / 2) {
+				LockSupport.unpark(writer);
+			}
+		} else if (overflow == OverflowPolicy.BLOCK) {
+			while (!records.offer(record)) {
+				if (closed) {
+					dropped.increment();
+					return;
+				}
+
+				LockSupport.unpark(writer);
+				LockSupport.parkNanos(BLOCK_WAIT);
+			}
+		} else {
+			dropped.increment();
+			LockSupport.unpark(writer);
+		}
+	}
+
+	public long getDropped() {
+		return dropped.sum();
+	}
+
+	public int getQueued() {
+		return records.size();
+	}
+
+	protected void write() {
+		long flushed = System.nanoTime();
+		int pending = 0;
+
+		while (true) {
+			try {
+				LogRecord record = records.poll();
+
+				if (record != null) {
+					pending += write(record);
+				} else if (closed) {
+					break;
+				} else {
+					park(pending, flushed);
+				}
+
+				if (pending > 0 && (pending >= flushSize || flushRequested
+						|| System.nanoTime() - flushed >= flushInterval)) {
+					flushFile();
+					pending = 0;
+					flushed = System.nanoTime();
+					flushRequested = false;
+				}
+			} catch (RuntimeException e) {
+				System.err.println("NextTypes Logger Error:" + e);
+			}
+		}
+
+		LogRecord record = null;
+
+		while ((record = records.poll()) != null) {
+			write(record);
+		}
+
+		closeFile();
+	}
+
+	protected void park(int pending, long flushed) {
+		idle = true;
+
+		if (records.size() == 0 && !closed && !flushRequested) {
+			if (pending > 0) {
+				LockSupport.parkNanos(flushInterval - (System.nanoTime() - flushed));
+			} else {
+				LockSupport.park();
+			}
+		}
+
+		idle = false;
+	}
+
+	protected int write(LogRecord record) {
+		int length = 0;
+
 		try {
 			ZonedDateTime dateTime = ZonedDateTime.ofInstant(Instant.ofEpochMilli(record.getMillis()), ZoneOffset.UTC);
 			LocalDate date = dateTime.toLocalDate();
 
 			if (!date.equals(loggerDate)) {
-				if (logger != null) {
-					logger.close();
-				} 
+				closeFile();
 
 				FileOutputStream file = new FileOutputStream(directory + prefix + date + ".log", true);
-				logger = new PrintStream(file, true, Constants.UTF_8_CHARSET);
+				logger = new BufferedWriter(new OutputStreamWriter(file, StandardCharsets.UTF_8), flushSize);
 				loggerDate = date;
 			}
 
-			logger.println(dateTime + " " + record.getLevel() + " " + record.getMessage());
+			String line = dateTime + " " + record.getLevel() + " " + record.getMessage();
+			logger.write(line);
+			logger.newLine();
+			length = line.length() + 1;
 
-		} catch (IOException e) {
+		} catch (IOException | RuntimeException e) {
 			System.err.println("NextTypes Logger Error:" + e.getMessage());
 		}
+
+		return length;
+	}
+
+	protected void flushFile() {
+		if (logger != null) {
+			try {
+				logger.flush();
+			} catch (IOException e) {
+				System.err.println("NextTypes Logger Error:" + e.getMessage());
+			}
+		}
+	}
+
+	protected void closeFile() {
+		if (logger != null) {
+			try {
+				logger.close();
+			} catch (IOException e) {
+				System.err.println("NextTypes Logger Error:" + e.getMessage());
+			}
+
+			logger = null;
+			loggerDate = null;
+		}
 	}
 }
\ No newline at end of file
@@ -92,6 +92,14 @@ public class Logger extends java.util.logging.Logger {
 		log(level, sourceClass + " " + user + " " + remoteAddress + " " + message);
 	}
 
+	public long getDropped() {
+		return handler.getDropped();
+	}
+
+	public int getQueued() {
+		return handler.getQueued();
+	}
+
 	public void close() {
 		handler.close();
 	}
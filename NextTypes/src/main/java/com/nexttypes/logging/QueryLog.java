@@ -0,0 +1,266 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nexttypes.logging;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.nexttypes.metrics.Metrics;
+import com.nexttypes.security.Security;
+import com.nexttypes.settings.Settings;
+
+public class QueryLog {
+	protected static final Pattern TYPE = Pattern.compile("(?i)\\b(?:from|into|update)\\s+\"?(\\w+)\"?");
+	protected static final Pattern PASSWORD_HASH = Pattern.compile("^\\$2[abxy]?\\$\\d{2}\\$.*");
+	protected static final int PARAMETER_LENGTH = 100;
+	protected static final double MILLISECOND_NANOSECONDS = 1e6;
+
+	protected Logger logger;
+	protected long threshold;
+	protected double planSample;
+	protected int size;
+	protected ConcurrentHashMap<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+	public QueryLog(Settings settings, Logger logger) {
+		this.logger = logger;
+		threshold = settings.getInt64(Settings.SLOW_QUERY_THRESHOLD) * (long) MILLISECOND_NANOSECONDS;
+		planSample = settings.getFloat64(Settings.SLOW_QUERY_PLAN_SAMPLE);
+		size = settings.getInt32(Settings.QUERY_STATISTICS_SIZE);
+	}
+
+	public void record(String statement, long time, int rows) {
+		if (size > 0) {
+			Statistics entry = statistics.get(statement);
+
+			if (entry == null) {
+				if (statistics.size() >= size) {
+					statement = Metrics.OTHER;
+				}
+
+				entry = statistics.computeIfAbsent(statement, Statistics::new);
+			}
+
+			entry.observe(time, rows);
+		}
+	}
+
+	public boolean isSlow(long time) {
+		return threshold > 0 && time >= threshold;
+	}
+
+	public boolean samplePlan() {
+		return planSample > 0 && ThreadLocalRandom.current().nextDouble() < planSample;
+	}
+
+	public void log(Object source, String user, String remoteAddress, String sql, Object[] parameters,
+			long time, int rows, String plan) {
+
+		StringBuilder message = new StringBuilder("Slow query: " + format(time) + " ms");
+
+		if (rows >= 0) {
+			message.append(", " + rows + " rows");
+		}
+
+		String caller = caller(source.getClass());
+		if (caller != null) {
+			message.append(", " + caller);
+		}
+
+		String type = type(sql);
+		if (type != null) {
+			message.append(", type " + type);
+		}
+
+		message.append("\n" + sql.trim());
+
+		if (parameters != null && parameters.length > 0) {
+			message.append("\nParameters: " + parameters(parameters));
+		}
+
+		if (plan != null) {
+			message.append("\nPlan:\n" + plan);
+		}
+
+		logger.warning(source, user, remoteAddress, message.toString());
+	}
+
+	public ArrayList<Statistics> getStatistics() {
+		ArrayList<Statistics> list = new ArrayList<>(statistics.values());
+		list.sort(Comparator.comparingLong(Statistics::getTime).reversed());
+		return list;
+	}
+
+	public void clear() {
+		statistics.clear();
+	}
+
+	protected String caller(Class<?> sourceClass) {
+		return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).walk(frames ->
+			frames.filter(frame -> sourceClass.isAssignableFrom(frame.getDeclaringClass()))
+				.reduce((inner, outer) -> outer)
+				.map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName())
+				.orElse(null));
+	}
+
+	protected String type(String sql) {
+		Matcher matcher = TYPE.matcher(sql);
+		return matcher.find() ? matcher.group(1) : null;
+	}
+
+	protected String parameters(Object[] parameters) {
+		StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+		for (Object parameter : parameters) {
+			joiner.add(parameter(parameter));
+		}
+
+		return joiner.toString();
+	}
+
+	protected String parameter(Object parameter) {
+		String value = null;
+
+		if (parameter == null) {
+			value = "null";
+		} else if (parameter instanceof Object[]) {
+			value = parameters((Object[]) parameter);
+		} else if (parameter instanceof byte[]) {
+			value = "<" + ((byte[]) parameter).length + " bytes>";
+		} else {
+			value = parameter.toString();
+
+			if (PASSWORD_HASH.matcher(value).matches()) {
+				value = Security.HIDDEN_PASSWORD;
+			} else if (value.length() > PARAMETER_LENGTH) {
+				value = value.substring(0, PARAMETER_LENGTH) + "...";
+			}
+		}
+
+		return value;
+	}
+
+	public static String format(double nanoseconds) {
+		return String.format("%.3f", nanoseconds / MILLISECOND_NANOSECONDS);
+	}
+
+	public static class Statistics {
+		protected static final int SUB_BUCKETS = 16;
+		protected static final int SUB_BUCKET_BITS = 4;
+
+		protected String statement;
+		protected LongAdder count = new LongAdder();
+		protected LongAdder time = new LongAdder();
+		protected LongAdder rows = new LongAdder();
+		protected AtomicLong max = new AtomicLong();
+		protected AtomicLongArray buckets = new AtomicLongArray(64 * SUB_BUCKETS);
+
+		public Statistics(String statement) {
+			this.statement = statement;
+		}
+
+		public void observe(long nanoseconds, int rows) {
+			count.increment();
+			time.add(nanoseconds);
+			max.accumulateAndGet(nanoseconds, Math::max);
+			buckets.incrementAndGet(bucket(nanoseconds / 1000));
+
+			if (rows > 0) {
+				this.rows.add(rows);
+			}
+		}
+
+		public String getStatement() {
+			return statement;
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getTime() {
+			return time.sum();
+		}
+
+		public long getRows() {
+			return rows.sum();
+		}
+
+		public long getMax() {
+			return max.get();
+		}
+
+		public long getPercentile(double percentile) {
+			long count = 0;
+			long[] values = new long[buckets.length()];
+
+			for (int i = 0; i < values.length; i++) {
+				values[i] = buckets.get(i);
+				count += values[i];
+			}
+
+			long rank = (long) Math.ceil(percentile * count);
+			long cumulative = 0;
+
+			for (int i = 0; i < values.length; i++) {
+				cumulative += values[i];
+
+				if (cumulative >= rank && values[i] > 0) {
+					return Math.min((lower(i) + lower(i + 1)) / 2 * 1000, getMax());
+				}
+			}
+
+			return 0;
+		}
+
+		protected static int bucket(long microseconds) {
+			int bucket;
+
+			if (microseconds < SUB_BUCKETS) {
+				bucket = (int) Math.max(microseconds, 0);
+			} else {
+				int exponent = 63 - Long.numberOfLeadingZeros(microseconds);
+				int sub = (int) (microseconds >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+				bucket = (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+			}
+
+			return bucket;
+		}
+
+		protected static long lower(int bucket) {
+			long lower;
+
+			if (bucket < SUB_BUCKETS) {
+				lower = bucket;
+			} else {
+				int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+				int sub = bucket % SUB_BUCKETS;
+				lower = (long) (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+			}
+
+			return lower;
+		}
+	}
+}
\ No newline at end of file
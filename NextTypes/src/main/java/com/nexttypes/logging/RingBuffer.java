@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class RingBuffer<E> {
+	protected AtomicReferenceArray<E> elements;
+	protected AtomicLongArray sequences;
+	protected AtomicLong head = new AtomicLong();
+	protected AtomicLong tail = new AtomicLong();
+	protected int mask;
+
+	public RingBuffer(int capacity) {
+		int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+
+		elements = new AtomicReferenceArray<>(size);
+		sequences = new AtomicLongArray(size);
+		mask = size - 1;
+
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	public boolean offer(E element) {
+		long position = tail.get();
+
+		while (true) {
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - position;
+
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					elements.set(index, element);
+					sequences.set(index, position + 1);
+					return true;
+				}
+			} else if (difference < 0) {
+				return false;
+			}
+
+			position = tail.get();
+		}
+	}
+
+	public E poll() {
+		long position = head.get();
+
+		while (true) {
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - (position + 1);
+
+			if (difference == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					E element = elements.getAndSet(index, null);
+					sequences.set(index, position + mask + 1);
+					return element;
+				}
+			} else if (difference < 0) {
+				return null;
+			}
+
+			position = head.get();
+		}
+	}
+
+	public int size() {
+		return (int) Math.max(tail.get() - head.get(), 0);
+	}
+
+	public int capacity() {
+		return mask + 1;
+	}
+}
\ No newline at end of file
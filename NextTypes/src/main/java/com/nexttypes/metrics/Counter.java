@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Counter extends Metric {
+	protected LongAdder value = new LongAdder();
+
+	public void increment() {
+		value.increment();
+	}
+
+	public void add(long value) {
+		this.value.add(value);
+	}
+
+	public long get() {
+		return value.sum();
+	}
+
+	@Override
+	public void write(StringBuilder text, String name, String labels) {
+		text.append(sample(name, labels) + " " + get() + "\n");
+	}
+
+	@Override
+	public void samples(Map<String, Number> samples, String name, String labels) {
+		samples.put(sample(name, labels), get());
+	}
+}
\ No newline at end of file
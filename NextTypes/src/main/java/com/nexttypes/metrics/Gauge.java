@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.metrics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class Gauge extends Metric {
+	protected Supplier<Number> value;
+
+	public Gauge(Supplier<Number> value) {
+		this.value = value;
+	}
+
+	public Number get() {
+		return value.get();
+	}
+
+	@Override
+	public void write(StringBuilder text, String name, String labels) {
+		text.append(sample(name, labels) + " " + format(get().doubleValue()) + "\n");
+	}
+
+	@Override
+	public void samples(Map<String, Number> samples, String name, String labels) {
+		samples.put(sample(name, labels), get());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Histogram extends Metric {
+	public static final double[] BUCKETS = { 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5,
+			1, 2.5, 5, 10 };
+	protected static final double NANOSECOND_SECONDS = 1e-9;
+
+	protected LongAdder[] buckets = new LongAdder[BUCKETS.length];
+	protected LongAdder count = new LongAdder();
+	protected DoubleAdder sum = new DoubleAdder();
+
+	public Histogram() {
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	public void observe(long nanoseconds) {
+		double seconds = nanoseconds * NANOSECOND_SECONDS;
+
+		for (int i = 0; i < BUCKETS.length; i++) {
+			if (seconds <= BUCKETS[i]) {
+				buckets[i].increment();
+				break;
+			}
+		}
+
+		count.increment();
+		sum.add(seconds);
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public double getSum() {
+		return sum.sum();
+	}
+
+	@Override
+	public void write(StringBuilder text, String name, String labels) {
+		String separator = labels.length() > 0 ? labels + "," : "";
+		long cumulative = 0;
+
+		for (int i = 0; i < BUCKETS.length; i++) {
+			cumulative += buckets[i].sum();
+			text.append(name + "_bucket{" + separator + "le=\"" + format(BUCKETS[i]) + "\"} "
+					+ cumulative + "\n");
+		}
+
+		long count = getCount();
+
+		text.append(name + "_bucket{" + separator + "le=\"+Inf\"} " + count + "\n");
+		text.append(sample(name + "_sum", labels) + " " + format(getSum()) + "\n");
+		text.append(sample(name + "_count", labels) + " " + count + "\n");
+	}
+
+	@Override
+	public void samples(Map<String, Number> samples, String name, String labels) {
+		samples.put(sample(name + "_sum", labels), getSum());
+		samples.put(sample(name + "_count", labels), getCount());
+	}
+}
\ No newline at end of file
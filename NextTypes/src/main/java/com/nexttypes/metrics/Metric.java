@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.metrics;
+
+import java.util.Map;
+
+public abstract class Metric {
+
+	public abstract void write(StringBuilder text, String name, String labels);
+
+	public abstract void samples(Map<String, Number> samples, String name, String labels);
+
+	protected static String sample(String name, String labels) {
+		return labels.length() > 0 ? name + "{" + labels + "}" : name;
+	}
+
+	protected static String format(double value) {
+		if (value == (long) value) {
+			return Long.toString((long) value);
+		} else {
+			return Double.toString(value);
+		}
+	}
+}
\ No newline at end of file
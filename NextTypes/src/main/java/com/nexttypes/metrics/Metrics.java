@@ -0,0 +1,212 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.nexttypes.enums.MetricType;
+import com.nexttypes.exceptions.NXException;
+import com.nexttypes.settings.Settings;
+
+public class Metrics {
+	public static final String HTTP_REQUEST_DURATION = "nexttypes_http_request_duration_seconds";
+	public static final String SQL_DURATION = "nexttypes_sql_duration_seconds";
+	public static final String SQL_ROWS = "nexttypes_sql_rows_total";
+	public static final String POOL_WAIT = "nexttypes_pool_wait_seconds";
+	public static final String POOL_ACTIVE = "nexttypes_pool_active_connections";
+	public static final String POOL_IDLE = "nexttypes_pool_idle_connections";
+	public static final String CACHE_HITS = "nexttypes_cache_hits_total";
+	public static final String CACHE_MISSES = "nexttypes_cache_misses_total";
+	public static final String CACHE_SIZE = "nexttypes_cache_size";
+	public static final String RATE_LIMITER_REJECTIONS = "nexttypes_rate_limiter_rejections_total";
+	public static final String RATE_LIMITER_EVICTIONS = "nexttypes_rate_limiter_evictions_total";
+	public static final String RATE_LIMITER_SIZE = "nexttypes_rate_limiter_size";
+	public static final String LOGGER_DROPPED = "nexttypes_logger_dropped_total";
+	public static final String LOGGER_QUEUED = "nexttypes_logger_queued";
+	public static final String SMTP_CONNECTIONS = "nexttypes_smtp_connections";
+	public static final String SMTP_REJECTIONS = "nexttypes_smtp_rejections_total";
+	public static final String EMAIL_SENT = "nexttypes_email_sent_total";
+	public static final String EMAIL_FAILURES = "nexttypes_email_failures_total";
+	public static final String JOB_DURATION = "nexttypes_job_duration_seconds";
+	public static final String JOB_FAILURES = "nexttypes_job_failures_total";
+	public static final String TASK_DURATION = "nexttypes_task_duration_seconds";
+	public static final String TASK_FAILURES = "nexttypes_task_failures_total";
+
+	public static final String METHOD = "method";
+	public static final String VIEW = "view";
+	public static final String TYPE = "type";
+	public static final String ACTION = "action";
+	public static final String TASK = "task";
+	public static final String STATEMENT = "statement";
+	public static final String POOL = "pool";
+	public static final String MODE = "mode";
+	public static final String CACHE = "cache";
+	public static final String LIMIT = "limit";
+	public static final String OTHER = "other";
+
+	public static final String OBJECT_NAME = "com.nexttypes:type=Metrics";
+
+	protected static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	protected static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+	protected static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	protected static final int MAX_STATEMENT_LENGTH = 1000;
+
+	protected ConcurrentSkipListMap<String, Family> families = new ConcurrentSkipListMap<>();
+	protected int maxSeries;
+	protected ObjectName objectName;
+
+	public Metrics(Settings settings, String directory) {
+		maxSeries = settings.getInt32(Settings.METRICS_MAX_SERIES);
+
+		if (settings.getBoolean(Settings.METRICS_JMX)) {
+			try {
+				objectName = new ObjectName(directory != null ? OBJECT_NAME + ",directory="
+						+ ObjectName.quote(directory) : OBJECT_NAME);
+				ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(this),
+						objectName);
+			} catch (JMException e) {
+				throw new NXException(e);
+			}
+		}
+	}
+
+	public Counter counter(String name, String help, String... labels) {
+		return (Counter) get(name, help, MetricType.COUNTER, Counter::new, labels);
+	}
+
+	public Histogram histogram(String name, String help, String... labels) {
+		return (Histogram) get(name, help, MetricType.HISTOGRAM, Histogram::new, labels);
+	}
+
+	public void counter(String name, String help, Supplier<Number> value, String... labels) {
+		get(name, help, MetricType.COUNTER, () -> new Gauge(value), labels);
+	}
+
+	public void gauge(String name, String help, Supplier<Number> value, String... labels) {
+		get(name, help, MetricType.GAUGE, () -> new Gauge(value), labels);
+	}
+
+	protected Metric get(String name, String help, MetricType type, Supplier<Metric> metric,
+			String[] labels) {
+
+		Family family = families.computeIfAbsent(name, key -> new Family(help, type));
+		String key = labels(labels, false);
+		Metric value = family.series.get(key);
+
+		if (value == null) {
+			if (family.series.size() >= maxSeries) {
+				key = labels(labels, true);
+			}
+
+			value = family.series.computeIfAbsent(key, series -> metric.get());
+		}
+
+		return value;
+	}
+
+	protected String labels(String[] labels, boolean other) {
+		StringBuilder text = new StringBuilder();
+
+		for (int i = 0; i < labels.length - 1; i += 2) {
+			if (text.length() > 0) {
+				text.append(",");
+			}
+
+			String value = other ? OTHER : labels[i + 1];
+
+			text.append(labels[i] + "=\"" + (value != null ? escape(value) : "") + "\"");
+		}
+
+		return text.toString();
+	}
+
+	protected String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+	public static String statement(String sql) {
+		String statement = STRING_LITERAL.matcher(sql).replaceAll("?");
+		statement = NUMBER_LITERAL.matcher(statement).replaceAll("?");
+		statement = WHITESPACE.matcher(statement).replaceAll(" ").trim();
+
+		if (statement.length() > MAX_STATEMENT_LENGTH) {
+			statement = statement.substring(0, MAX_STATEMENT_LENGTH);
+		}
+
+		return statement;
+	}
+
+	public LinkedHashMap<String, Number> getSamples() {
+		LinkedHashMap<String, Number> samples = new LinkedHashMap<>();
+
+		for (Map.Entry<String, Family> family : families.entrySet()) {
+			for (Map.Entry<String, Metric> series : family.getValue().series.entrySet()) {
+				series.getValue().samples(samples, family.getKey(), series.getKey());
+			}
+		}
+
+		return samples;
+	}
+
+	public void close() {
+		if (objectName != null) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+			} catch (JMException e) {
+				throw new NXException(e);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+
+		for (Map.Entry<String, Family> entry : families.entrySet()) {
+			String name = entry.getKey();
+			Family family = entry.getValue();
+
+			text.append("# HELP " + name + " " + family.help + "\n");
+			text.append("# TYPE " + name + " " + family.type + "\n");
+
+			for (Map.Entry<String, Metric> series : family.series.entrySet()) {
+				series.getValue().write(text, name, series.getKey());
+			}
+		}
+
+		return text.toString();
+	}
+
+	protected static class Family {
+		protected String help;
+		protected MetricType type;
+		protected ConcurrentSkipListMap<String, Metric> series = new ConcurrentSkipListMap<>();
+
+		protected Family(String help, MetricType type) {
+			this.help = help;
+			this.type = type;
+		}
+	}
+}
\ No newline at end of file
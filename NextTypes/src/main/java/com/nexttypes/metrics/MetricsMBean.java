@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.ReflectionException;
+
+public class MetricsMBean implements DynamicMBean {
+	protected Metrics metrics;
+
+	public MetricsMBean(Metrics metrics) {
+		this.metrics = metrics;
+	}
+
+	@Override
+	public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		Number value = metrics.getSamples().get(attribute);
+
+		if (value == null) {
+			throw new AttributeNotFoundException(attribute);
+		}
+
+		return value;
+	}
+
+	@Override
+	public AttributeList getAttributes(String[] attributes) {
+		LinkedHashMap<String, Number> samples = metrics.getSamples();
+		AttributeList list = new AttributeList();
+
+		for (String attribute : attributes) {
+			Number value = samples.get(attribute);
+
+			if (value != null) {
+				list.add(new Attribute(attribute, value));
+			}
+		}
+
+		return list;
+	}
+
+	@Override
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException(attribute.getName());
+	}
+
+	@Override
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	@Override
+	public Object invoke(String action, Object[] params, String[] signature) throws ReflectionException {
+		throw new ReflectionException(new NoSuchMethodException(action));
+	}
+
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		LinkedHashMap<String, Number> samples = metrics.getSamples();
+		MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[samples.size()];
+		int i = 0;
+
+		for (Map.Entry<String, Number> sample : samples.entrySet()) {
+			attributes[i++] = new MBeanAttributeInfo(sample.getKey(), sample.getValue().getClass().getName(),
+					sample.getKey(), true, false, false);
+		}
+
+		return new MBeanInfo(getClass().getName(), "NextTypes metrics", attributes, null, null, null);
+	}
+}
\ No newline at end of file
@@ -25,6 +25,7 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.TreeMap;
@@ -82,6 +83,7 @@ public class ControllersNode extends Node {
 	protected Settings settings;
 	protected TypeSettings typeSettings;
 	protected Node nextNode;
+	protected HashMap<String, Controller> controllers = new HashMap<>();
 
 	public ControllersNode(HTTPRequest request, NodeMode mode) {
 		this(request.getAuth(), mode, request.getLang(), request.getRemoteAddress(),
@@ -98,16 +100,20 @@ public class ControllersNode extends Node {
 	}
 	
 	protected Controller getController(String type) {
-		String className = typeSettings.gts(type, KeyWords.CONTROLLER);
+		Controller controller = controllers.get(type);
 
-		Controller controller = null;
+		if (controller == null) {
+			String className = typeSettings.gts(type, KeyWords.CONTROLLER);
 
-		ProxyNode proxyNode = new ProxyNode(type, nextNode, this);
+			ProxyNode proxyNode = new ProxyNode(type, nextNode, this);
 
-		if (className != null) {
-			controller = Loader.loadController(className, type, auth, proxyNode);
-		} else {
-			controller = new Controller(type, auth, proxyNode);
+			if (className != null) {
+				controller = Loader.loadController(className, type, auth, proxyNode);
+			} else {
+				controller = new Controller(type, auth, proxyNode);
+			}
+
+			controllers.put(type, controller);
 		}
 
 		return controller;
@@ -121,7 +127,8 @@ public class ControllersNode extends Node {
 	
 	@Override
 	public LinkedHashMap<String, TypeField> getActionFields(String type, String action) {
-		return getController(type).getActionFields(action);
+		LinkedHashMap<String, TypeField> fields = getController(type).getActionFields(action);
+		return fields != null ? new LinkedHashMap<>(fields) : null;
 	}
 	
 	@Override
@@ -154,6 +161,11 @@ public class ControllersNode extends Node {
 		return getController(type).executeAction(objects, action, parameters);
 	}
 
+	public ActionResult executeJob(Long job, int attempts, String type, String[] objects, String action,
+			String lang, byte[] parameters) {
+		return getController(type).executeJob(job, attempts, objects, action, lang, parameters);
+	}
+
 	@Override
 	public Type getType(String type) {
 		return getController(type).getType();
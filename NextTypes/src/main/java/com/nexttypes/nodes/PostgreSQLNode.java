@@ -36,8 +36,10 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.Map.Entry;
 
@@ -111,11 +113,15 @@ import com.nexttypes.exceptions.ObjectNotFoundException;
 import com.nexttypes.exceptions.StringException;
 import com.nexttypes.exceptions.TypeException;
 import com.nexttypes.exceptions.TypeNotFoundException;
+import com.nexttypes.exceptions.XMLException;
 import com.nexttypes.interfaces.ObjectsStream;
 import com.nexttypes.interfaces.TuplesStream;
 import com.nexttypes.interfaces.TypesStream;
 import com.nexttypes.logging.Logger;
+import com.nexttypes.logging.QueryLog;
+import com.nexttypes.metrics.Metrics;
 import com.nexttypes.protocol.http.HTTPRequest;
+import com.nexttypes.protocol.smtp.EmailOutbox;
 import com.nexttypes.security.Checks;
 import com.nexttypes.security.Security;
 import com.nexttypes.serialization.ObjectsStreamDeserializer;
@@ -130,7 +136,10 @@ import com.nexttypes.system.Constants;
 import com.nexttypes.system.Context;
 import com.nexttypes.system.Context.TypesCache;
 import com.nexttypes.system.DBConnection;
+import com.nexttypes.system.JobQueue;
+import com.nexttypes.system.Scheduler;
 import com.nexttypes.system.Utils;
+import com.nexttypes.tracing.Span;
 
 public class PostgreSQLNode extends Node {
 	public static final String POSTGRESQL = "postgresql";
@@ -172,6 +181,12 @@ public class PostgreSQLNode extends Node {
 
 	protected static final String UUID_FUNCTION = "uuid_generate_v4()";
 
+	protected static final String SELECT = "select";
+
+	protected static final String SQL = "sql";
+
+	protected static final String EXPLAIN = "explain (analyze, buffers) ";
+
 	protected static final String GROUPS_QUERY = "select \"group\" from group_user where \"user\" = ?";
 
 	protected static final String GET_TYPES_NAME_QUERY = "select table_name from information_schema.tables"
@@ -272,28 +287,71 @@ public class PostgreSQLNode extends Node {
 
 	protected static final String GET_TYPE_DATES_QUERY = "select unnest(string_to_array(obj_description(?::regclass, 'pg_class'), '|'))";
 
+	public static final String NEXTTYPES = "nexttypes";
+	public static final String SANITIZER_VERSION = "nexttypes.sanitizer_version";
+
+	public static final String NEXTTYPES_SCHEMA = "create schema if not exists nexttypes";
+
+	protected static final String SANITIZER_VERSION_TABLE =
+			"create table if not exists nexttypes.sanitizer_version ("
+					+ "type character varying(100),"
+					+ "field character varying(100),"
+					+ "version character varying(32),"
+					+ "primary key (type, field, version)"
+			+ ")";
+
+	protected static final String GET_SANITIZER_VERSIONS_QUERY =
+			"select version from nexttypes.sanitizer_version where type = ? and field = ?";
+
+	protected static final String ADD_SANITIZER_VERSION_QUERY =
+			"insert into nexttypes.sanitizer_version (type, field, version) values (?, ?, ?)"
+					+ " on conflict do nothing";
+
+	protected static final String DELETE_SANITIZER_VERSION_QUERY =
+			"delete from nexttypes.sanitizer_version where type = ? and field = ? and version in (?)";
+
+	protected static final String DELETE_SANITIZER_VERSIONS_QUERY =
+			"delete from nexttypes.sanitizer_version where type in (?)";
+
+	protected static final String DELETE_FIELD_SANITIZER_VERSIONS_QUERY =
+			"delete from nexttypes.sanitizer_version where type = ? and field = ?";
+
+	protected static final int SANITIZE_BATCH_SIZE = 1000;
+
+	protected static final long SANITIZE_RETRY_DELAY = 60 * Constants.MINUTE_MILLISECONDS;
+
+	protected static final String[] CREDENTIALS_TYPES = new String[] { "user", "group", "group_user" };
+
 	protected DBConnection.DBConnectionPool connectionPool;
 	protected TypesCache cache;
 	protected boolean cacheEnabled = true;
+	protected HashSet<String> sanitizedFields = new HashSet<>();
+	protected boolean credentialsChanged = false;
+	protected boolean permissionsChanged = false;
 
 	protected Auth auth;
 	protected String lang;
 	
 	protected Connection connection;
 	protected PGConnection pgConnection;
+	protected NodeMode mode;
+	protected boolean useConnectionPool;
 	protected Settings settings;
 	protected TypeSettings typeSettings;
 	protected LanguageSettings languageSettings;
 	protected String remoteAddress;
 	protected Context context;
 	protected Logger logger;
+	protected Metrics metrics;
+	protected QueryLog queryLog;
 	
 	public PostgreSQLNode(Context context) {
 		
 		settings = context.getSettings(Settings.POSTGRESQL_SETTINGS);
 		lang = settings.getString(Settings.DEFAULT_LANG);
-		connectionPool = DBConnection.getConnectionPool(settings, POSTGRESQL, DRIVER);
-		context.putDBConnectionPool(settings.getString(Settings.POOL), connectionPool);
+		String pool = settings.getString(Settings.POOL);
+		connectionPool = DBConnection.getConnectionPool(settings, POSTGRESQL, DRIVER, context.getMetrics(), pool);
+		context.putDBConnectionPool(pool, connectionPool);
 		
 		try (PostgreSQLNode node = new PostgreSQLNode(new Auth(Auth.ADMIN, Auth.ADMINISTRATORS),
 				NodeMode.ADMIN, lang, URL.LOCALHOST, context, true)) {
@@ -312,6 +370,22 @@ public class PostgreSQLNode extends Node {
 				
 			}
 			
+			node.execute(NEXTTYPES_SCHEMA);
+			node.grantSchema(NEXTTYPES);
+			node.execute(SANITIZER_VERSION_TABLE);
+			node.grantTable(SANITIZER_VERSION);
+			node.execute(EmailOutbox.OUTBOX_TABLE);
+			node.execute(EmailOutbox.OUTBOX_INDEX);
+			node.grantTable(EmailOutbox.OUTBOX);
+			node.grantSequence(EmailOutbox.OUTBOX_SEQUENCE);
+			node.execute(JobQueue.JOB_TABLE);
+			node.execute(JobQueue.JOB_INDEX);
+			node.execute(JobQueue.JOB_USER_INDEX);
+			node.grantTable(JobQueue.JOB);
+			node.grantSequence(JobQueue.JOB_SEQUENCE);
+			node.execute(Scheduler.TASK_TABLE);
+			node.grantTable(Scheduler.TASK);
+			
 			node.commit();
 		}
 	}
@@ -338,30 +412,62 @@ public class PostgreSQLNode extends Node {
 				
 		languageSettings = context.getLanguageSettings(lang);
 
-		if (useConnectionPool) {
-			connectionPool = context.getDatabaseConnectionPool(settings.getString(Settings.POOL));
-			connection = connectionPool.getConnection(mode);
-		} else {
-			connection = DBConnection.getConnection(settings, POSTGRESQL, mode);
-		}
-
-		try {
-			pgConnection = connection.unwrap(PGConnection.class);
-			pgConnection.setPrepareThreshold(0);
-			pgConnection.addDataType(PT.FILE,  File.class);
-			pgConnection.addDataType(PT.IMAGE, Image.class);
-			pgConnection.addDataType(PT.DOCUMENT, Document.class);
-			pgConnection.addDataType(PT.AUDIO, Audio.class);
-			pgConnection.addDataType(PT.VIDEO, Video.class);
-		} catch (SQLException e) {
-			throwException(e);
-		}
+		this.mode = mode;
+		this.useConnectionPool = useConnectionPool;
 
 		cache = context.getTypesCache();
 
 		logger = context.getLogger();
+		metrics = context.getMetrics();
+		queryLog = context.getQueryLog();
+	}
+
+	protected Connection getConnection() {
+		if (connection == null) {
+			if (useConnectionPool) {
+				connectionPool = context.getDatabaseConnectionPool(settings.getString(Settings.POOL));
+				connection = connectionPool.getConnection(mode);
+			} else {
+				connection = DBConnection.getConnection(settings, POSTGRESQL, mode);
+			}
+
+			try {
+				pgConnection = connection.unwrap(PGConnection.class);
+				pgConnection.setPrepareThreshold(0);
+				pgConnection.addDataType(PT.FILE,  File.class);
+				pgConnection.addDataType(PT.IMAGE, Image.class);
+				pgConnection.addDataType(PT.DOCUMENT, Document.class);
+				pgConnection.addDataType(PT.AUDIO, Audio.class);
+				pgConnection.addDataType(PT.VIDEO, Video.class);
+			} catch (SQLException e) {
+				throwException(e);
+			}
+		}
+
+		return connection;
 	}
 	
+	public void grantSchema(String schema) {
+		execute("grant usage on schema " + schema + " to " + getReadUser() + ", " + getWriteUser());
+	}
+
+	public void grantTable(String table) {
+		execute("grant select on " + table + " to " + getReadUser());
+		execute("grant select, insert, update, delete on " + table + " to " + getWriteUser());
+	}
+
+	public void grantSequence(String sequence) {
+		execute("grant usage on sequence " + sequence + " to " + getWriteUser());
+	}
+
+	protected String getReadUser() {
+		return settings.getString(NodeMode.READ + "_" + KeyWords.USER);
+	}
+
+	protected String getWriteUser() {
+		return settings.getString(NodeMode.WRITE + "_" + KeyWords.USER);
+	}
+
 	@Override
 	public String getVersion() {
 		return Constants.VERSION;
@@ -729,6 +835,8 @@ public class PostgreSQLNode extends Node {
 
 		execute("alter table \"" + type + "\" rename to \"" + newName + "\"");
 
+		execute(DELETE_SANITIZER_VERSIONS_QUERY, (Object) new String[] { type });
+
 		if (single) {
 			adate = updateTypeDates(newName);
 		}
@@ -750,6 +858,8 @@ public class PostgreSQLNode extends Node {
 		String fieldType = getFieldType(type, field);
 
 		execute("alter table \"" + type + "\" rename column \"" + field + "\" to \"" + newName + "\"");
+
+		execute(DELETE_FIELD_SANITIZER_VERSIONS_QUERY, type, field);
 		
 		if (!PT.isPrimitiveType(fieldType)) {
 			renameReference(type, field, newName);
@@ -1031,6 +1141,8 @@ public class PostgreSQLNode extends Node {
 
 		execute("alter table \"" + type + "\" drop column \"" + field + "\"");
 
+		execute(DELETE_FIELD_SANITIZER_VERSIONS_QUERY, type, field);
+
 		if (single) {
 			adate = updateTypeDates(type);
 		}
@@ -1250,6 +1362,10 @@ public class PostgreSQLNode extends Node {
 
 		sql.append(sqlFields.toString() + sqlValues.toString());
 
+		updateSanitizerVersions(type, typeFields, object);
+		updateCredentials(type);
+		updatePermissions();
+
 		execute(sql, true, 1, parameters);
 
 		return udate;
@@ -1334,6 +1450,10 @@ public class PostgreSQLNode extends Node {
 		sql.deleteCharAt(sql.length() - 1).append(" where id = ?");
 		parameters.add(id);
 
+		updateSanitizerVersions(type, typeFields, object);
+		updateCredentials(type);
+		updatePermissions();
+
 		execute(sql, true, 1, parameters);
 
 		return objectUDate;
@@ -1341,6 +1461,9 @@ public class PostgreSQLNode extends Node {
 
 	@Override
 	public UpdateIdResult updateId(String type, String id, String newId) {
+		updateCredentials(type);
+		updatePermissions();
+
 		StringBuilder sql = new StringBuilder("update \"" + type + "\" set id = ");
 		ArrayList<Object> parameters = new ArrayList<>();
 		ZonedDateTime udate = Utils.getZonedDateTimeNow();
@@ -1594,8 +1717,7 @@ public class PostgreSQLNode extends Node {
 			switch (fieldType) {
 			case PT.HTML:
 				if (fulltext) {
-					value = tuple.getHTML(field, lang, typeSettings.getFieldString(type, field,
-							Settings.HTML_ALLOWED_TAGS));
+					value = getHTML(type, field, tuple.getString(field));
 				} else {
 					value = tuple.getHTMLText(field);
 				}
@@ -2109,12 +2231,17 @@ public class PostgreSQLNode extends Node {
 		sql.deleteCharAt(sql.length() - 1);
 
 		execute(sql);
+
+		execute(DELETE_SANITIZER_VERSIONS_QUERY, (Object) types);
 	}
 
 	@Override
 	public void delete(String type, String... objects) {
 		checkObjects(type, objects);
 
+		updateCredentials(type);
+		updatePermissions();
+
 		execute("delete from \"" + type + "\" where id in(?)", objects.length, new Object[] { objects });
 	}
 
@@ -2218,9 +2345,240 @@ public class PostgreSQLNode extends Node {
 
 	@Override
 	public HTMLFragment getHTMLField(String type, String id, String field) {
-		String html = getStringField(type, id, field);
+		return getHTML(type, field, getStringField(type, id, field));
+	}
+
+	protected HTMLFragment getHTML(String type, String field, String html) {
 		String allowedTags = typeSettings.getFieldString(type, field, Settings.HTML_ALLOWED_TAGS);
-		return Tuple.parseHTML(html, lang, allowedTags);
+		String version = HTMLFragment.sanitizerVersion(allowedTags);
+		HTMLFragment value = null;
+
+		if (html != null) {
+			if (version == null || getSanitizerVersions(type, field).contains(version)) {
+				value = HTMLFragment.sanitized(html, lang, version);
+			} else {
+				sanitize(type, field, allowedTags);
+				value = new HTMLFragment(html, lang, allowedTags);
+			}
+		}
+
+		return value;
+	}
+
+	protected Set<String> getSanitizerVersions(String type, String field) {
+		String key = type + "." + field;
+		Set<String> versions = cache.getSanitizerVersions(key);
+
+		if (versions == null) {
+			versions = new HashSet<>(Arrays.asList(getStringArray(GET_SANITIZER_VERSIONS_QUERY,
+					type, field)));
+
+			if (cacheEnabled && !sanitizedFields.contains(key)) {
+				cache.addSanitizerVersions(key, versions);
+			}
+		}
+
+		return versions;
+	}
+
+	protected void updateSanitizerVersions(String type, LinkedHashMap<String, TypeField> typeFields,
+			NXObject object) {
+
+		for (Entry<String, Object> entry : object.getFields().entrySet()) {
+			String field = entry.getKey();
+			Object value = entry.getValue();
+			TypeField typeField = typeFields.get(field);
+
+			if (value != null && typeField != null && PT.HTML.equals(typeField.getType())) {
+				String version = value instanceof HTMLFragment
+						? ((HTMLFragment) value).getSanitizerVersion() : null;
+				String html = value.toString();
+				ArrayList<String> versions = new ArrayList<>();
+
+				for (String other : getStringArray(GET_SANITIZER_VERSIONS_QUERY, type, field)) {
+					if (!other.equals(version) && !HTMLFragment.isSanitized(html, lang, other)) {
+						versions.add(other);
+					}
+				}
+
+				if (versions.size() > 0) {
+					execute(DELETE_SANITIZER_VERSION_QUERY, type, field, versions.toArray(new String[] {}));
+					removeSanitizerVersions(type, field);
+				}
+			}
+		}
+	}
+
+	protected void removeSanitizerVersions(String type, String field) {
+		String key = type + "." + field;
+		sanitizedFields.add(key);
+		cache.removeSanitizerVersions(key);
+	}
+
+	protected void updateCredentials(String type) {
+		if (ArrayUtils.contains(CREDENTIALS_TYPES, type)) {
+			credentialsChanged = true;
+			context.getCredentialsCache().clear();
+		}
+	}
+
+	protected void clearCredentialsCache() {
+		if (credentialsChanged) {
+			context.getCredentialsCache().clear();
+			credentialsChanged = false;
+		}
+	}
+
+	protected void observe(String sql, SQLParameters sqlParameters, long start, int rows) {
+		long time = System.nanoTime() - start;
+		String statement = Metrics.statement(sql);
+
+		metrics.histogram(Metrics.SQL_DURATION, "Time spent executing SQL statements.",
+				Metrics.STATEMENT, statement).observe(time);
+
+		if (rows >= 0) {
+			metrics.counter(Metrics.SQL_ROWS, "Rows returned or changed by SQL statements.",
+					Metrics.STATEMENT, statement).add(rows);
+		}
+
+		Span span = Span.current();
+
+		if (span != null && span.isSampled()) {
+			Span sqlSpan = span.add(SQL, start, start + time);
+			sqlSpan.setAttribute(KeyWords.STATEMENT, statement);
+
+			if (rows >= 0) {
+				sqlSpan.setAttribute(KeyWords.ROWS, rows);
+			}
+		}
+
+		queryLog.record(statement, time, rows);
+
+		if (queryLog.isSlow(time)) {
+			String plan = null;
+
+			if (rows >= 0 && statement.regionMatches(true, 0, SELECT, 0, SELECT.length())
+					&& queryLog.samplePlan()) {
+				plan = explain(sqlParameters);
+			}
+
+			queryLog.log(this, auth.getUser(), remoteAddress, sql, sqlParameters.parameters, time, rows,
+					plan);
+		}
+	}
+
+	protected String explain(SQLParameters sqlParameters) {
+		StringBuilder plan = new StringBuilder();
+		Savepoint savepoint = setSavepoint();
+
+		try (PreparedStatement statement = getConnection().prepareStatement(EXPLAIN + sqlParameters.sql)) {
+			setParameters(statement, sqlParameters.parameters);
+
+			try (ResultSet result = statement.executeQuery()) {
+				while (result.next()) {
+					plan.append(result.getString(1) + "\n");
+				}
+			}
+		} catch (SQLException e) {
+			plan.append(e.getMessage());
+		} finally {
+			rollback(savepoint);
+		}
+
+		return plan.toString();
+	}
+
+	protected void updatePermissions() {
+		permissionsChanged = true;
+	}
+
+	protected void clearPermissionsCache() {
+		if (permissionsChanged) {
+			context.getPermissionsCache().clear();
+			permissionsChanged = false;
+		}
+	}
+
+	protected void removeSanitizerVersions() {
+		for (String key : sanitizedFields) {
+			cache.removeSanitizerVersions(key);
+		}
+
+		sanitizedFields.clear();
+	}
+
+	protected void sanitize(String type, String field, String allowedTags) {
+		String sanitization = type + "." + field + ":" + HTMLFragment.sanitizerVersion(allowedTags);
+
+		if (cache.addSanitization(sanitization)) {
+			context.execute(() -> {
+				boolean sanitized = false;
+
+				try (PostgreSQLNode node = new PostgreSQLNode(new Auth(Auth.ADMIN, Auth.ADMINISTRATORS),
+						NodeMode.ADMIN, lang, URL.LOCALHOST, context, true)) {
+
+					sanitized = node.sanitizeField(type, field, allowedTags);
+					node.commit();
+				} catch (Exception e) {
+					sanitized = false;
+					logger.severe(Auth.ADMIN, URL.LOCALHOST, e);
+				}
+
+				cache.removeSanitization(sanitization, sanitized, SANITIZE_RETRY_DELAY);
+			});
+		}
+	}
+
+	protected boolean sanitizeField(String type, String field, String allowedTags) {
+		ZonedDateTime start = Utils.getZonedDateTimeNow();
+		boolean sanitized = true;
+		String id = "";
+		Tuple[] tuples = null;
+
+		do {
+			tuples = query("select id, # from # where id > ? order by id limit ?", field, type, id,
+					SANITIZE_BATCH_SIZE);
+
+			for (Tuple tuple : tuples) {
+				id = tuple.getString(KeyWords.ID);
+				String html = tuple.getString(field);
+
+				if (html != null) {
+					try {
+						String value = new HTMLFragment(html, lang, allowedTags).toString();
+
+						if (!value.equals(html)) {
+							execute("update # set # = ?, udate = greatest(udate, ?), backup = false"
+									+ " where id = ?", type, field, value, start, id);
+						}
+					} catch (XMLException | InvalidValueException e) {
+						sanitized = false;
+						logger.warning(Auth.ADMIN, URL.LOCALHOST, e);
+					}
+				}
+			}
+		} while (tuples.length == SANITIZE_BATCH_SIZE);
+
+		if (sanitized) {
+			String version = HTMLFragment.sanitizerVersion(allowedTags);
+			execute("lock table # in share mode", type);
+
+			for (Tuple tuple : query("select # from # where udate > ?", field, type, start)) {
+				String html = tuple.getString(field);
+
+				if (html != null && !HTMLFragment.isSanitized(html, lang, version)) {
+					sanitized = false;
+					break;
+				}
+			}
+
+			if (sanitized) {
+				execute(ADD_SANITIZER_VERSION_QUERY, type, field, version);
+				removeSanitizerVersions(type, field);
+			}
+		}
+
+		return sanitized;
 	}
 
 	@Override
@@ -2894,12 +3252,17 @@ public class PostgreSQLNode extends Node {
 			savepoint = setSavepoint();
 		}
 
+		Connection connection = getConnection();
+		long start = System.nanoTime();
+
 		try (PreparedStatement statement = connection.prepareStatement(sqlParameters.sql)) {
 
 			setParameters(statement, sqlParameters.parameters);
 
 			rows = statement.executeUpdate();
 
+			observe(sql, sqlParameters, start, rows);
+
 			if (expectedRows != null && rows != expectedRows) {
 				throw new InvalidValueException(NXException.INVALID_ROW_COUNT, rows);
 			}
@@ -3160,6 +3523,9 @@ public class PostgreSQLNode extends Node {
 
 		SQLParameters sqlParameters = sqlPreprocessor(sql, parameters);
 
+		Connection connection = getConnection();
+		long start = System.nanoTime();
+
 		try (PreparedStatement statement = connection.prepareStatement(sqlParameters.sql)) {
 			setParameters(statement, sqlParameters.parameters);
 
@@ -3171,6 +3537,8 @@ public class PostgreSQLNode extends Node {
 				}
 			}
 
+			observe(sql, sqlParameters, start, objects.size());
+
 		} catch (SQLException e) {
 			throwException(e);
 		}
@@ -3217,6 +3585,9 @@ public class PostgreSQLNode extends Node {
 
 		SQLParameters sqlParameters = sqlPreprocessor(sql, parameters);
 
+		Connection connection = getConnection();
+		long start = System.nanoTime();
+
 		try (PreparedStatement statement = connection.prepareStatement(sqlParameters.sql)) {
 			setParameters(statement, sqlParameters.parameters);
 
@@ -3228,6 +3599,8 @@ public class PostgreSQLNode extends Node {
 					tuples.add(getTuple(result, metaData));
 				}
 			}
+
+			observe(sql, sqlParameters, start, tuples.size());
 		} catch (SQLException e) {
 			throwException(e);
 		}
@@ -3243,6 +3616,9 @@ public class PostgreSQLNode extends Node {
 
 		SQLParameters sqlParameters = sqlPreprocessor(sql, parameters);
 
+		Connection connection = getConnection();
+		long start = System.nanoTime();
+
 		try (PreparedStatement statement = connection.prepareStatement(sqlParameters.sql)) {
 			setParameters(statement, sqlParameters.parameters);
 
@@ -3260,6 +3636,8 @@ public class PostgreSQLNode extends Node {
 					objects.add(getClassObject(result, metaData, constructor));
 				}
 			}
+
+			observe(sql, sqlParameters, start, objects.size());
 		} catch (SQLException | ClassNotFoundException | NoSuchMethodException e) {
 			throwException(e);
 		}
@@ -3377,7 +3755,7 @@ public class PostgreSQLNode extends Node {
 		Savepoint savepoint = null;
 
 		try {
-			savepoint = connection.setSavepoint();
+			savepoint = getConnection().setSavepoint();
 		} catch (SQLException e) {
 			throwException(e);
 		}
@@ -3388,16 +3766,22 @@ public class PostgreSQLNode extends Node {
 	@Override
 	public void rollback() {
 		try {
-			connection.rollback();
+			if (connection != null) {
+				connection.rollback();
+			}
 		} catch (SQLException e) {
 			throwException(e);
 		}
+
+		removeSanitizerVersions();
+		clearCredentialsCache();
+		clearPermissionsCache();
 	}
 
 	@Override
 	public void rollback(Savepoint savepoint) {
 		try {
-			connection.rollback(savepoint);
+			getConnection().rollback(savepoint);
 		} catch (SQLException e) {
 			throwException(e);
 		}
@@ -3410,16 +3794,24 @@ public class PostgreSQLNode extends Node {
 				synchronized (cache) {
 
 					cache.clear();
-					connection.commit();
+
+					if (connection != null) {
+						connection.commit();
+					}
+
 					cacheEnabled = true;
 
 				}
-			} else {
+			} else if (connection != null) {
 				connection.commit();
 			}
 		} catch (SQLException e) {
 			throwException(e);
 		}
+
+		removeSanitizerVersions();
+		clearCredentialsCache();
+		clearPermissionsCache();
 	}
 	
 	@Override
@@ -3665,6 +4057,9 @@ public class PostgreSQLNode extends Node {
 
 			log(sqlParameters.sql);
 
+			Connection connection = getConnection();
+			long start = System.nanoTime();
+
 			try {
 				statement = connection.prepareStatement(sqlParameters.sql, ResultSet.TYPE_FORWARD_ONLY,
 						ResultSet.CONCUR_READ_ONLY);
@@ -3672,6 +4067,8 @@ public class PostgreSQLNode extends Node {
 				setParameters(statement, sqlParameters.parameters);
 				result = statement.executeQuery();
 				metaData = result.getMetaData();
+
+				observe(sql, sqlParameters, start, -1);
 			} catch (SQLException e) {
 				throwException(e);
 			}
@@ -4036,6 +4433,7 @@ public class PostgreSQLNode extends Node {
 			}
 
 			addTypeFilters(type, whereSQL);
+			addPermissionsFilter(type, whereSQL);
 
 			sql = new StringBuilder("select \"" + type + "\".id,\"" + type + "\".cdate,\"" + type + "\".udate,\"" + type
 					+ "\".backup" + fieldsSQL + " from \"" + type + "\"" + joinSQL + whereSQL);
@@ -4092,6 +4490,18 @@ public class PostgreSQLNode extends Node {
 			}
 		}
 
+		protected void addPermissionsFilter(String type, StringBuilder whereSQL) {
+			String permissionsFilter = getPermissions(type).getFilter(type, Action.GET, parameters);
+			if (permissionsFilter != null) {
+				if (whereSQL.length() == 0) {
+					whereSQL.append(" where ");
+				} else {
+					whereSQL.append(" and ");
+				}
+				whereSQL.append("(" + permissionsFilter + ")");
+			}
+		}
+
 		protected void addFilters(String type, StringBuilder whereSQL, Filter[] filters) {
 			if (filters != null && filters.length > 0) {
 				LinkedHashMap<String, TypeField> typeFields = PostgreSQLNode.this.getTypeFields(type);
@@ -0,0 +1,1269 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.nodes;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Savepoint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import jakarta.mail.internet.InternetAddress;
+
+import com.nexttypes.datatypes.ActionResult;
+import com.nexttypes.datatypes.AlterFieldResult;
+import com.nexttypes.datatypes.AlterIndexResult;
+import com.nexttypes.datatypes.AlterResult;
+import com.nexttypes.datatypes.Auth;
+import com.nexttypes.datatypes.Color;
+import com.nexttypes.datatypes.Document;
+import com.nexttypes.datatypes.FieldInfo;
+import com.nexttypes.datatypes.FieldRange;
+import com.nexttypes.datatypes.Filter;
+import com.nexttypes.datatypes.HTMLFragment;
+import com.nexttypes.datatypes.Image;
+import com.nexttypes.datatypes.ImportObjectsResult;
+import com.nexttypes.datatypes.ImportTypesResult;
+import com.nexttypes.datatypes.Matrix;
+import com.nexttypes.datatypes.NXObject;
+import com.nexttypes.datatypes.Names;
+import com.nexttypes.datatypes.ObjectField;
+import com.nexttypes.datatypes.ObjectInfo;
+import com.nexttypes.datatypes.Objects;
+import com.nexttypes.datatypes.Reference;
+import com.nexttypes.datatypes.Tuple;
+import com.nexttypes.datatypes.Tuples;
+import com.nexttypes.datatypes.Type;
+import com.nexttypes.datatypes.TypeField;
+import com.nexttypes.datatypes.TypeIndex;
+import com.nexttypes.datatypes.TypeInfo;
+import com.nexttypes.datatypes.TypeReference;
+import com.nexttypes.datatypes.URL;
+import com.nexttypes.datatypes.UpdateIdResult;
+import com.nexttypes.datatypes.XML;
+import com.nexttypes.datatypes.XML.Element;
+import com.nexttypes.enums.ImportAction;
+import com.nexttypes.enums.NodeMode;
+import com.nexttypes.enums.Order;
+import com.nexttypes.interfaces.ObjectsStream;
+import com.nexttypes.exceptions.NXException;
+import com.nexttypes.interfaces.TypesStream;
+import com.nexttypes.protocol.http.HTTPHeader;
+import com.nexttypes.protocol.http.HTTPRequest;
+import com.nexttypes.settings.LanguageSettings;
+import com.nexttypes.settings.Settings;
+import com.nexttypes.settings.TypeSettings;
+import com.nexttypes.system.Context;
+import com.nexttypes.system.Loader;
+import com.nexttypes.tracing.Span;
+
+public class TracingNode extends Node {
+	protected static final String TRACE = "trace";
+	protected static final String NODE = "node";
+	protected static final String ARGUMENTS = "arguments";
+	protected static final String USER = "user";
+	protected static final String REMOTE_ADDRESS = "remote_address";
+	protected static final String MODE = "mode";
+	protected static final int ARGUMENT_LENGTH = 64;
+
+	protected Auth auth;
+	protected String remoteAddress;
+	protected Context context;
+	protected Settings settings;
+	protected Node nextNode;
+	protected Span span;
+	protected boolean root = false;
+
+	public TracingNode(HTTPRequest request, NodeMode mode) {
+		this(request.getAuth(), mode, request.getLang(), request.getRemoteAddress(),
+				request.getContext(), true,
+				request.getServletRequest().getHeader(HTTPHeader.TRACEPARENT.toString()));
+	}
+
+	public TracingNode(Auth auth, NodeMode mode, String lang, String remoteAddress,
+			Context context, boolean useConnectionPool) {
+		this(auth, mode, lang, remoteAddress, context, useConnectionPool, null);
+	}
+
+	protected TracingNode(Auth auth, NodeMode mode, String lang, String remoteAddress,
+			Context context, boolean useConnectionPool, String traceparent) {
+		this.auth = auth;
+		this.remoteAddress = remoteAddress;
+		this.context = context;
+		settings = context.getSettings(Settings.TRACING_SETTINGS);
+
+		Span current = Span.current();
+
+		if (current == null) {
+			span = new Span(TRACE, traceparent, settings.getFloat64(Settings.SAMPLE_RATE));
+			root = true;
+		} else if (current.isSampled()) {
+			span = current.start(NODE);
+		}
+
+		if (span != null && span.isSampled()) {
+			span.setAttribute(USER, auth.getUser());
+			span.setAttribute(REMOTE_ADDRESS, remoteAddress);
+			span.setAttribute(MODE, mode);
+		}
+
+		try {
+			nextNode = Loader.loadNode(settings.getString(Settings.NEXT_NODE), auth, mode, lang,
+					remoteAddress, context, useConnectionPool);
+		} catch (RuntimeException e) {
+			if (span != null) {
+				span.setError(e);
+				span.end();
+			}
+
+			throw e;
+		}
+	}
+
+	protected <T> T trace(String method, Supplier<T> call, Object... arguments) {
+		if (span == null || !span.isSampled()) {
+			return call.get();
+		}
+
+		Span current = Span.current();
+		Span child = (current != null ? current : span).start(method);
+		child.setAttribute(ARGUMENTS, summary(arguments));
+
+		try {
+			return call.get();
+		} catch (RuntimeException e) {
+			child.setError(e);
+			throw e;
+		} finally {
+			child.end();
+		}
+	}
+
+	protected void trace(String method, Runnable call, Object... arguments) {
+		trace(method, () -> {
+			call.run();
+			return null;
+		}, arguments);
+	}
+
+	protected String summary(Object[] arguments) {
+		if (arguments == null) {
+			return "null";
+		}
+
+		StringJoiner summary = new StringJoiner(", ");
+
+		for (Object argument : arguments) {
+			summary.add(summary(argument));
+		}
+
+		return summary.toString();
+	}
+
+	protected String summary(Object argument) {
+		String summary = null;
+
+		if (argument == null) {
+			summary = "null";
+		} else if (argument instanceof NXObject) {
+			NXObject object = (NXObject) argument;
+			summary = object.getType() + "/" + object.getId();
+		} else if (argument instanceof Type) {
+			summary = ((Type) argument).getName();
+		} else if (argument instanceof byte[]) {
+			summary = "<" + ((byte[]) argument).length + " bytes>";
+		} else if (argument instanceof Object[]) {
+			summary = "[" + summary((Object[]) argument) + "]";
+		} else if (argument instanceof CharSequence || argument instanceof Number
+				|| argument instanceof Boolean || argument instanceof Enum
+				|| argument instanceof TemporalAccessor) {
+
+			summary = argument.toString();
+
+			if (summary.length() > ARGUMENT_LENGTH) {
+				summary = summary.substring(0, ARGUMENT_LENGTH) + "...";
+			}
+		} else {
+			summary = argument.getClass().getSimpleName();
+		}
+
+		return summary;
+	}
+
+	@Override
+	public void close() {
+		try {
+			nextNode.close();
+		} finally {
+			if (span != null) {
+				span.end();
+
+				if (root && span.isSampled()) {
+					try {
+						context.getTraceExporter().export(span);
+					} catch (NXException e) {
+						context.getLogger().severe(auth.getUser(), remoteAddress, e);
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public ZonedDateTime create(Type type) {
+		return trace("create", () -> nextNode.create(type), type);
+	}
+
+	@Override
+	public ZonedDateTime addField(String type, String field, TypeField typeField) {
+		return trace("addField", () -> nextNode.addField(type, field, typeField), type, field,
+				typeField);
+	}
+
+	@Override
+	public ZonedDateTime addIndex(String type, String index, TypeIndex typeIndex) {
+		return trace("addIndex", () -> nextNode.addIndex(type, index, typeIndex), type, index,
+				typeIndex);
+	}
+
+	@Override
+	public AlterResult alter(Type type) {
+		return trace("alter", () -> nextNode.alter(type), type);
+	}
+
+	@Override
+	public AlterResult alter(Type type, ZonedDateTime adate) {
+		return trace("alter", () -> nextNode.alter(type, adate), type, adate);
+	}
+
+	@Override
+	public ZonedDateTime rename(String type, String newName) {
+		return trace("rename", () -> nextNode.rename(type, newName), type, newName);
+	}
+
+	@Override
+	public AlterFieldResult alterField(String type, String field, TypeField typeField) {
+		return trace("alterField", () -> nextNode.alterField(type, field, typeField), type, field,
+				typeField);
+	}
+
+	@Override
+	public AlterIndexResult alterIndex(String type, String index, TypeIndex typeIndex) {
+		return trace("alterIndex", () -> nextNode.alterIndex(type, index, typeIndex), type, index,
+				typeIndex);
+	}
+
+	@Override
+	public ZonedDateTime renameField(String type, String field, String newName) {
+		return trace("renameField", () -> nextNode.renameField(type, field, newName), type, field,
+				newName);
+	}
+
+	@Override
+	public ZonedDateTime renameIndex(String type, String index, String newName) {
+		return trace("renameIndex", () -> nextNode.renameIndex(type, index, newName), type, index,
+				newName);
+	}
+
+	@Override
+	public ZonedDateTime insert(NXObject object) {
+		return trace("insert", () -> nextNode.insert(object), object);
+	}
+
+	@Override
+	public ZonedDateTime update(NXObject object) {
+		return trace("update", () -> nextNode.update(object), object);
+	}
+
+	@Override
+	public ZonedDateTime update(NXObject object, ZonedDateTime udate) {
+		return trace("update", () -> nextNode.update(object, udate), object, udate);
+	}
+
+	@Override
+	public ZonedDateTime update(String type, String id, byte[] data) {
+		return trace("update", () -> nextNode.update(type, id, data), type, id, data);
+	}
+
+	@Override
+	public NXObject get(String type, String id, String[] fields, String lang, boolean fulltext,
+			boolean binary, boolean imageThumbnail, boolean documentPreview, boolean password,
+			boolean objectName, boolean referenceName) {
+		return trace("get", () -> nextNode.get(type, id, fields, lang, fulltext, binary,
+				imageThumbnail, documentPreview, password, objectName, referenceName), type, id,
+				fields, lang, fulltext, binary, imageThumbnail, documentPreview, objectName,
+				referenceName);
+	}
+
+	@Override
+	public UpdateIdResult updateId(String type, String id, String newId) {
+		return trace("updateId", () -> nextNode.updateId(type, id, newId), type, id, newId);
+	}
+
+	@Override
+	public ZonedDateTime updateField(String type, String id, String field, Object value) {
+		return trace("updateField", () -> nextNode.updateField(type, id, field, value), type, id,
+				field);
+	}
+
+	@Override
+	public ZonedDateTime updatePassword(String type, String id, String field, String currentPassword,
+			String newPassword, String newPasswordRepeat) {
+		return trace("updatePassword", () -> nextNode.updatePassword(type, id, field,
+				currentPassword, newPassword, newPasswordRepeat), type, id, field);
+	}
+
+	@Override
+	public boolean checkPassword(String type, String id, String field, String password) {
+		return trace("checkPassword", () -> nextNode.checkPassword(type, id, field, password), type,
+				id, field);
+	}
+
+	@Override
+	public Objects select(String type, String[] fields, String lang, Filter filter, String search,
+			LinkedHashMap<String, Order> order, Long offset, Long limit, boolean imageThumbnail) {
+		return trace("select", () -> nextNode.select(type, fields, lang, filter, search, order,
+				offset, limit, imageThumbnail), type, fields, lang, filter, search, order, offset,
+				limit, imageThumbnail);
+	}
+
+	@Override
+	public Objects select(String type, String[] fields, String lang, Filter filter, String search,
+			LinkedHashMap<String, Order> order, boolean fulltext, boolean binary, boolean imageThumbnail,
+			boolean documentPreview, boolean password, boolean objectName, boolean referenceName,
+			Long offset, Long limit) {
+		return trace("select", () -> nextNode.select(type, fields, lang, filter, search, order,
+				fulltext, binary, imageThumbnail, documentPreview, password, objectName,
+				referenceName, offset, limit), type, fields, lang, filter, search, order, fulltext,
+				binary, imageThumbnail, documentPreview, objectName, referenceName, offset, limit);
+	}
+
+	@Override
+	public Objects select(String type, String[] fields, String lang, Filter[] filters, String search,
+			LinkedHashMap<String, Order> order, Long offset, Long limit, boolean imageThumbnail) {
+		return trace("select", () -> nextNode.select(type, fields, lang, filters, search, order,
+				offset, limit, imageThumbnail), type, fields, lang, filters, search, order, offset,
+				limit, imageThumbnail);
+	}
+
+	@Override
+	public Objects select(String type, String[] fields, String lang, Filter[] filters, String search,
+			LinkedHashMap<String, Order> order, boolean fulltext, boolean binary, boolean imageThumbnail,
+			boolean documentPreview, boolean password, boolean objectName, boolean referenceName,
+			Long offset, Long limit) {
+		return trace("select", () -> nextNode.select(type, fields, lang, filters, search, order,
+				fulltext, binary, imageThumbnail, documentPreview, password, objectName,
+				referenceName, offset, limit), type, fields, lang, filters, search, order, fulltext,
+				binary, imageThumbnail, documentPreview, objectName, referenceName, offset, limit);
+	}
+
+	@Override
+	public Tuples select(String type, StringBuilder sql, ArrayList<Object> parameters, String filters,
+			String search, String[] searchFields, String order, Long offset, Long limit) {
+		return trace("select", () -> nextNode.select(type, sql, parameters, filters, search,
+				searchFields, order, offset, limit), type, sql, filters, search, searchFields,
+				order, offset, limit);
+	}
+
+	@Override
+	public Tuple[] select(String type, StringBuilder sql, ArrayList<Object> parameters, String filters,
+			String order) {
+		return trace("select", () -> nextNode.select(type, sql, parameters, filters, order), type,
+				sql, filters, order);
+	}
+
+	@Override
+	public ObjectsStream selectStream(String type, String[] fields, String lang, Filter filter,
+			String search, LinkedHashMap<String, Order> order, Long offset, Long limit) {
+		return trace("selectStream", () -> nextNode.selectStream(type, fields, lang, filter, search,
+				order, offset, limit), type, fields, lang, filter, search, order, offset, limit);
+	}
+
+	@Override
+	public ObjectsStream selectStream(String type, String[] fields, String lang, Filter filter,
+			String search, LinkedHashMap<String, Order> order, boolean fulltext, boolean binary,
+			boolean imageThumbnail, boolean documentPreview, boolean password, boolean objectName,
+			boolean referenceName, Long offset, Long limit) {
+		return trace("selectStream", () -> nextNode.selectStream(type, fields, lang, filter, search,
+				order, fulltext, binary, imageThumbnail, documentPreview, password, objectName,
+				referenceName, offset, limit), type, fields, lang, filter, search, order, fulltext,
+				binary, imageThumbnail, documentPreview, objectName, referenceName, offset, limit);
+	}
+
+	@Override
+	public ObjectsStream selectStream(String type, String[] fields, String lang, Filter[] filters,
+			String search, LinkedHashMap<String, Order> order, Long offset, Long limit) {
+		return trace("selectStream", () -> nextNode.selectStream(type, fields, lang, filters,
+				search, order, offset, limit), type, fields, lang, filters, search, order, offset,
+				limit);
+	}
+
+	@Override
+	public ObjectsStream selectStream(String type, String[] fields, String lang, Filter[] filters,
+			String search, LinkedHashMap<String, Order> order, boolean fulltext, boolean binary,
+			boolean imageThumbnail, boolean documentPreview, boolean password, boolean objectName, 
+			boolean referenceName, Long offset, Long limit) {
+		return trace("selectStream", () -> nextNode.selectStream(type, fields, lang, filters,
+				search, order, fulltext, binary, imageThumbnail, documentPreview, password,
+				objectName, referenceName, offset, limit), type, fields, lang, filters, search,
+				order, fulltext, binary, imageThumbnail, documentPreview, objectName, referenceName,
+				offset, limit);
+	}
+
+	@Override
+	public Type getType(String type) {
+		return trace("getType", () -> nextNode.getType(type), type);
+	}
+
+	@Override
+	public LinkedHashMap<String, Type> getTypes(String[] types) {
+		return trace("getTypes", () -> nextNode.getTypes(types), (Object) types);
+	}
+
+	@Override
+	public String[] getTypesName() {
+		return trace("getTypesName", () -> nextNode.getTypesName());
+	}
+
+	@Override
+	public TypeInfo[] getTypesInfo() {
+		return trace("getTypesInfo", () -> nextNode.getTypesInfo());
+	}
+
+	@Override
+	public TreeMap<String, TypeInfo> getTypesInfoOrderByName() {
+		return trace("getTypesInfoOrderByName", () -> nextNode.getTypesInfoOrderByName());
+	}
+
+	@Override
+	public Boolean existsType(String type) {
+		return trace("existsType", () -> nextNode.existsType(type), type);
+	}
+
+	@Override
+	public Boolean existsObject(String type, String id) {
+		return trace("existsObject", () -> nextNode.existsObject(type, id), type, id);
+	}
+
+	@Override
+	public String[] getBinaryFieldsName(String type) {
+		return trace("getBinaryFieldsName", () -> nextNode.getBinaryFieldsName(type), type);
+	}
+
+	@Override
+	public String getName(String type, String id, String lang) {
+		return trace("getName", () -> nextNode.getName(type, id, lang), type, id, lang);
+	}
+
+	@Override
+	public Names getNames(String type, String lang) {
+		return trace("getNames", () -> nextNode.getNames(type, lang), type, lang);
+	}
+
+	@Override
+	public Names getNames(String type, String sql, Object[] parameters,
+			String lang, String search, Long offset, Long limit) {
+		return trace("getNames", () -> nextNode.getNames(type, sql, parameters, lang, search,
+				offset, limit), type, sql, lang, search, offset, limit);
+	}
+
+	@Override
+	public Names getNames(String type, StringBuilder sql,
+			ArrayList<Object> parameters, String lang, String search, Long offset, Long limit) {
+		return trace("getNames", () -> nextNode.getNames(type, sql, parameters, lang, search,
+				offset, limit), type, sql, lang, search, offset, limit);
+	}
+
+	@Override
+	public Names getNames(String type, String lang, String search,
+			Long offset, Long limit) {
+		return trace("getNames", () -> nextNode.getNames(type, lang, search, offset, limit), type,
+				lang, search, offset, limit);
+	}
+
+	@Override
+	public Names getNames(String referencedType, String referencingType,
+			String referencingAction, String referencingField, String lang) {
+		return trace("getNames", () -> nextNode.getNames(referencedType, referencingType,
+				referencingAction, referencingField, lang), referencedType, referencingType,
+				referencingAction, referencingField, lang);
+	}
+
+	@Override
+	public Names getNames(String referencedType, String referencingType,
+			String referencingAction, String referencingField, String lang, String search, Long offset,
+			Long limit) {
+		return trace("getNames", () -> nextNode.getNames(referencedType, referencingType,
+				referencingAction, referencingField, lang, search, offset, limit), referencedType,
+				referencingType, referencingAction, referencingField, lang, search, offset, limit);
+	}
+
+	@Override
+	public LinkedHashMap<String, ObjectInfo[]> getObjectsInfo(String[] types) {
+		return trace("getObjectsInfo", () -> nextNode.getObjectsInfo(types), (Object) types);
+	}
+
+	@Override
+	public Reference[] getReferences() {
+		return trace("getReferences", () -> nextNode.getReferences());
+	}
+
+	@Override
+	public TreeMap<String, TreeMap<String, TreeMap<String, Reference>>> getReferencesOrderByNames() {
+		return trace("getReferencesOrderByNames", () -> nextNode.getReferencesOrderByNames());
+	}
+
+	@Override
+	public TypeReference[] getDownReferences(String type) {
+		return trace("getDownReferences", () -> nextNode.getDownReferences(type), type);
+	}
+
+	@Override
+	public TypeReference[] getUpReferences(String type) {
+		return trace("getUpReferences", () -> nextNode.getUpReferences(type), type);
+	}
+
+	@Override
+	public Reference[] getUpReferences(String[] types) {
+		return trace("getUpReferences", () -> nextNode.getUpReferences(types), (Object) types);
+	}
+
+	@Override
+	public TypeField getTypeField(String type, String field) {
+		return trace("getTypeField", () -> nextNode.getTypeField(type, field), type, field);
+	}
+
+	@Override
+	public LinkedHashMap<String, TypeField> getTypeFields(String type, String... fields) {
+		return trace("getTypeFields", () -> nextNode.getTypeFields(type, fields), type, fields);
+	}
+
+	@Override
+	public LinkedHashMap<String, TypeField> getTypeFields(String type) {
+		return trace("getTypeFields", () -> nextNode.getTypeFields(type), type);
+	}
+
+	@Override
+	public TypeIndex getTypeIndex(String type, String index) {
+		return trace("getTypeIndex", () -> nextNode.getTypeIndex(type, index), type, index);
+	}
+
+	@Override
+	public LinkedHashMap<String, TypeIndex> getTypeIndexes(String type, String... indexes) {
+		return trace("getTypeIndexes", () -> nextNode.getTypeIndexes(type, indexes), type, indexes);
+	}
+
+	@Override
+	public LinkedHashMap<String, TypeIndex> getTypeIndexes(String type) {
+		return trace("getTypeIndexes", () -> nextNode.getTypeIndexes(type), type);
+	}
+
+	@Override
+	public String getFieldType(String type, String field) {
+		return trace("getFieldType", () -> nextNode.getFieldType(type, field), type, field);
+	}
+
+	@Override
+	public Tuple getFieldsSize(String type, String id) {
+		return trace("getFieldsSize", () -> nextNode.getFieldsSize(type, id), type, id);
+	}
+
+	@Override
+	public LinkedHashMap<String, TypeField> getActionFields(String type, String action) {
+		return trace("getActionFields", () -> nextNode.getActionFields(type, action), type, action);
+	}
+
+	@Override
+	public LinkedHashMap<String, LinkedHashMap<String, TypeField>> getTypeActions(String type) {
+		return trace("getTypeActions", () -> nextNode.getTypeActions(type), type);
+	}
+
+	@Override
+	public void drop(String... types) {
+		trace("drop", () -> nextNode.drop(types), (Object) types);
+	}
+
+	@Override
+	public ZonedDateTime dropField(String type, String field) {
+		return trace("dropField", () -> nextNode.dropField(type, field), type, field);
+	}
+
+	@Override
+	public ZonedDateTime dropIndex(String type, String index) {
+		return trace("dropIndex", () -> nextNode.dropIndex(type, index), type, index);
+	}
+
+	@Override
+	public void delete(String type, String... objects) {
+		trace("delete", () -> nextNode.delete(type, objects), type, objects);
+	}
+
+	@Override
+	public Object getField(String type, String id, String field) {
+		return trace("getField", () -> nextNode.getField(type, id, field), type, id, field);
+	}
+
+	@Override
+	public String getStringField(String type, String id, String field) {
+		return trace("getStringField", () -> nextNode.getStringField(type, id, field), type, id,
+				field);
+	}
+
+	@Override
+	public byte[] getBinaryField(String type, String id, String field) {
+		return trace("getBinaryField", () -> nextNode.getBinaryField(type, id, field), type, id,
+				field);
+	}
+
+	@Override
+	public Image getImageField(String type, String id, String field) {
+		return trace("getImageField", () -> nextNode.getImageField(type, id, field), type, id,
+				field);
+	}
+
+	@Override
+	public byte[] getImageContent(String type, String id, String field) {
+		return trace("getImageContent", () -> nextNode.getImageContent(type, id, field), type, id,
+				field);
+	}
+
+	@Override
+	public byte[] getImageThumbnail(String type, String id, String field) {
+		return trace("getImageThumbnail", () -> nextNode.getImageThumbnail(type, id, field), type,
+				id, field);
+	}
+
+	@Override
+	public String getImageContentType(String type, String id, String field) {
+		return trace("getImageContentType", () -> nextNode.getImageContentType(type, id, field),
+				type, id, field);
+	}
+
+	@Override
+	public String getDocumentContentType(String type, String id, String field) {
+		return trace("getDocumentContentType", () -> nextNode.getDocumentContentType(type, id,
+				field), type, id, field);
+	}
+
+	@Override
+	public XML getXMLField(String type, String id, String field) {
+		return trace("getXMLField", () -> nextNode.getXMLField(type, id, field), type, id, field);
+	}
+
+	@Override
+	public Element getHTMLElement(String type, String id, String field, String element) {
+		return trace("getHTMLElement", () -> nextNode.getHTMLElement(type, id, field, element),
+				type, id, field, element);
+	}
+
+	@Override
+	public Element getXMLElement(String type, String id, String field, String element) {
+		return trace("getXMLElement", () -> nextNode.getXMLElement(type, id, field, element), type,
+				id, field, element);
+	}
+
+	@Override
+	public HTMLFragment getHTMLField(String type, String id, String field) {
+		return trace("getHTMLField", () -> nextNode.getHTMLField(type, id, field), type, id, field);
+	}
+
+	@Override
+	public Document getDocumentField(String type, String id, String field) {
+		return trace("getDocumentField", () -> nextNode.getDocumentField(type, id, field), type, id,
+				field);
+	}
+
+	@Override
+	public String getPasswordField(String type, String id, String field) {
+		return trace("getPasswordField", () -> nextNode.getPasswordField(type, id, field), type, id,
+				field);
+	}
+
+	@Override
+	public ObjectField getObjectField(String type, String id, String field) {
+		return trace("getObjectField", () -> nextNode.getObjectField(type, id, field), type, id,
+				field);
+	}
+
+	@Override
+	public String getFieldContentType(String type, String field) {
+		return trace("getFieldContentType", () -> nextNode.getFieldContentType(type, field), type,
+				field);
+	}
+
+	@Override
+	public Object getFieldDefault(String type, String field) {
+		return trace("getFieldDefault", () -> nextNode.getFieldDefault(type, field), type, field);
+	}
+
+	@Override
+	public String getCompositeFieldContentType(String type, String id, String field) {
+		return trace("getCompositeFieldContentType", () -> nextNode.getCompositeFieldContentType(
+				type, id, field), type, id, field);
+	}
+
+	@Override
+	public String getFieldContentType(String type, String id, String field) {
+		return trace("getFieldContentType", () -> nextNode.getFieldContentType(type, id, field),
+				type, id, field);
+	}
+
+	@Override
+	public LinkedHashMap<String, String> getFieldsContentType(String type) {
+		return trace("getFieldsContentType", () -> nextNode.getFieldsContentType(type), type);
+	}
+
+	@Override
+	public LinkedHashMap<String, FieldInfo> getFieldsInfo(String type, String id) {
+		return trace("getFieldsInfo", () -> nextNode.getFieldsInfo(type, id), type, id);
+	}
+
+	@Override
+	public ZonedDateTime getADate(String type) {
+		return trace("getADate", () -> nextNode.getADate(type), type);
+	}
+
+	@Override
+	public ZonedDateTime getUDate(String type, String id) {
+		return trace("getUDate", () -> nextNode.getUDate(type, id), type, id);
+	}
+
+	@Override
+	public String getETag(String type, String id) {
+		return trace("getETag", () -> nextNode.getETag(type, id), type, id);
+	}
+
+	@Override
+	public ActionResult executeAction(String type, String id, String action, Object... parameters) {
+		return trace("executeAction", () -> nextNode.executeAction(type, id, action, parameters),
+				type, id, action);
+	}
+
+	@Override
+	public ActionResult executeAction(String type, String[] objects, String action, Object... parameters) {
+		return trace("executeAction", () -> nextNode.executeAction(type, objects, action,
+				parameters), type, objects, action);
+	}
+
+	@Override
+	public Long count(String type) {
+		return trace("count", () -> nextNode.count(type), type);
+	}
+
+	@Override
+	public boolean hasObjects(String type) {
+		return trace("hasObjects", () -> nextNode.hasObjects(type), type);
+	}
+
+	@Override
+	public boolean hasNullValues(String type, String field) {
+		return trace("hasNullValues", () -> nextNode.hasNullValues(type, field), type, field);
+	}
+
+	@Override
+	public Long count(String sql, Object... parameters) {
+		return trace("count", () -> nextNode.count(sql, parameters), sql);
+	}
+
+	@Override
+	public Long count(StringBuilder sql, Object... parameters) {
+		return trace("count", () -> nextNode.count(sql, parameters), sql);
+	}
+
+	@Override
+	public Long count(StringBuilder sql, ArrayList<Object> parameters) {
+		return trace("count", () -> nextNode.count(sql, parameters), sql);
+	}
+
+	@Override
+	public int execute(String sql, Object... parameters) {
+		return trace("execute", () -> nextNode.execute(sql, parameters), sql);
+	}
+
+	@Override
+	public int execute(StringBuilder sql, Object... parameters) {
+		return trace("execute", () -> nextNode.execute(sql, parameters), sql);
+	}
+
+	@Override
+	public int execute(StringBuilder sql, ArrayList<Object> parameters) {
+		return trace("execute", () -> nextNode.execute(sql, parameters), sql);
+	}
+
+	@Override
+	public int execute(String sql, Integer expectedRows, Object... parameters) {
+		return trace("execute", () -> nextNode.execute(sql, expectedRows, parameters), sql,
+				expectedRows);
+	}
+
+	@Override
+	public int execute(StringBuilder sql, Integer expectedRows, Object... parameters) {
+		return trace("execute", () -> nextNode.execute(sql, expectedRows, parameters), sql,
+				expectedRows);
+	}
+
+	@Override
+	public int execute(StringBuilder sql, Integer expectedRows, ArrayList<Object> parameters) {
+		return trace("execute", () -> nextNode.execute(sql, expectedRows, parameters), sql,
+				expectedRows);
+	}
+
+	@Override
+	public int execute(String sql, boolean useSavepoint, Integer expectedRows, Object... parameters) {
+		return trace("execute", () -> nextNode.execute(sql, useSavepoint, expectedRows, parameters),
+				sql, useSavepoint, expectedRows);
+	}
+
+	@Override
+	public int execute(StringBuilder sql, boolean useSavepoint, Integer expectedRows,
+			Object... parameters) {
+		return trace("execute", () -> nextNode.execute(sql, useSavepoint, expectedRows, parameters),
+				sql, useSavepoint, expectedRows);
+	}
+
+	@Override
+	public int execute(StringBuilder sql, boolean useSavepoint, Integer expectedRows,
+			ArrayList<Object> parameters) {
+		return trace("execute", () -> nextNode.execute(sql, useSavepoint, expectedRows, parameters),
+				sql, useSavepoint, expectedRows);
+	}
+
+	@Override
+	public TypesStream exportTypes(String[] types, boolean includeObjects) {
+		return trace("exportTypes", () -> nextNode.exportTypes(types, includeObjects), types,
+				includeObjects);
+	}
+
+	@Override
+	public TypesStream exportTypes(String[] types, Filter filter, boolean includeObjects) {
+		return trace("exportTypes", () -> nextNode.exportTypes(types, filter, includeObjects),
+				types, filter, includeObjects);
+	}
+
+	@Override
+	public TypesStream exportTypes(String[] types, Filter[] filters, boolean includeObjects) {
+		return trace("exportTypes", () -> nextNode.exportTypes(types, filters, includeObjects),
+				types, filters, includeObjects);
+	}
+
+	@Override
+	public TypesStream backup(boolean full) {
+		return trace("backup", () -> nextNode.backup(full), full);
+	}
+
+	@Override
+	public String getVersion() {
+		return trace("getVersion", () -> nextNode.getVersion());
+	}
+
+	@Override
+	public ObjectsStream exportObjects(String type, String[] objects, LinkedHashMap<String, Order> order) {
+		return trace("exportObjects", () -> nextNode.exportObjects(type, objects, order), type,
+				objects, order);
+	}
+
+	@Override
+	public ImportTypesResult importTypes(InputStream types, ImportAction existingTypesAction,
+			ImportAction existingObjectsAction) {
+		return trace("importTypes", () -> nextNode.importTypes(types, existingTypesAction,
+				existingObjectsAction), types, existingTypesAction, existingObjectsAction);
+	}
+
+	@Override
+	public ImportTypesResult importTypes(TypesStream types, ImportAction existingTypesAction,
+			ImportAction existingObjectsAction) {
+		return trace("importTypes", () -> nextNode.importTypes(types, existingTypesAction,
+				existingObjectsAction), types, existingTypesAction, existingObjectsAction);
+	}
+
+	@Override
+	public ImportObjectsResult importObjects(InputStream objects, ImportAction existingObjectsAction) {
+		return trace("importObjects", () -> nextNode.importObjects(objects, existingObjectsAction),
+				objects, existingObjectsAction);
+	}
+
+	@Override
+	public ImportObjectsResult importObjects(ObjectsStream objects, ImportAction existingObjectsAction) {
+		return trace("importObjects", () -> nextNode.importObjects(objects, existingObjectsAction),
+				objects, existingObjectsAction);
+	}
+
+	@Override
+	public void scanVirus(String type, String[] objects) {
+		trace("scanVirus", () -> nextNode.scanVirus(type, objects), type, objects);
+	}
+
+	@Override
+	public Short getInt16(String sql, Object... parameters) {
+		return trace("getInt16", () -> nextNode.getInt16(sql, parameters), sql);
+	}
+
+	@Override
+	public Integer getInt32(String sql, Object... parameters) {
+		return trace("getInt32", () -> nextNode.getInt32(sql, parameters), sql);
+	}
+
+	@Override
+	public Long getInt64(String sql, Object... parameters) {
+		return trace("getInt64", () -> nextNode.getInt64(sql, parameters), sql);
+	}
+
+	@Override
+	public Float getFloat32(String sql, Object... parameters) {
+		return trace("getFloat32", () -> nextNode.getFloat32(sql, parameters), sql);
+	}
+
+	@Override
+	public Double getFloat64(String sql, Object... parameters) {
+		return trace("getFloat64", () -> nextNode.getFloat64(sql, parameters), sql);
+	}
+
+	@Override
+	public BigDecimal getNumeric(String sql, Object... parameters) {
+		return trace("getNumeric", () -> nextNode.getNumeric(sql, parameters), sql);
+	}
+
+	@Override
+	public String getString(String sql, Object... parameters) {
+		return trace("getString", () -> nextNode.getString(sql, parameters), sql);
+	}
+
+	@Override
+	public String getText(String sql, Object... parameters) {
+		return trace("getText", () -> nextNode.getText(sql, parameters), sql);
+	}
+
+	@Override
+	public LocalDate getDate(String sql, Object... parameters) {
+		return trace("getDate", () -> nextNode.getDate(sql, parameters), sql);
+	}
+
+	@Override
+	public LocalTime getTime(String sql, Object... parameters) {
+		return trace("getTime", () -> nextNode.getTime(sql, parameters), sql);
+	}
+
+	@Override
+	public LocalDateTime getDateTime(String sql, Object... parameters) {
+		return trace("getDateTime", () -> nextNode.getDateTime(sql, parameters), sql);
+	}
+
+	@Override
+	public byte[] getBinary(String sql, Object... parameters) {
+		return trace("getBinary", () -> nextNode.getBinary(sql, parameters), sql);
+	}
+
+	@Override
+	public HTMLFragment getHTML(String sql, String allowedTags, Object... parameters) {
+		return trace("getHTML", () -> nextNode.getHTML(sql, allowedTags, parameters), sql,
+				allowedTags);
+	}
+
+	@Override
+	public URL getURL(String sql, Object... parameters) {
+		return trace("getURL", () -> nextNode.getURL(sql, parameters), sql);
+	}
+
+	@Override
+	public InternetAddress getEmail(String sql, Object... parameters) {
+		return trace("getEmail", () -> nextNode.getEmail(sql, parameters), sql);
+	}
+
+	@Override
+	public String getTel(String sql, Object... parameters) {
+		return trace("getTel", () -> nextNode.getTel(sql, parameters), sql);
+	}
+
+	@Override
+	public Boolean getBoolean(String sql, Object... parameters) {
+		return trace("getBoolean", () -> nextNode.getBoolean(sql, parameters), sql);
+	}
+
+	@Override
+	public ZoneId getTimeZone(String sql, Object... parameters) {
+		return trace("getTimeZone", () -> nextNode.getTimeZone(sql, parameters), sql);
+	}
+
+	@Override
+	public Color getColor(String sql, Object... parameters) {
+		return trace("getColor", () -> nextNode.getColor(sql, parameters), sql);
+	}
+
+	@Override
+	public Image getImage(String sql, Object... parameters) {
+		return trace("getImage", () -> nextNode.getImage(sql, parameters), sql);
+	}
+
+	@Override
+	public Document getDocument(String sql, Object... parameters) {
+		return trace("getDocument", () -> nextNode.getDocument(sql, parameters), sql);
+	}
+
+	@Override
+	public ZonedDateTime getUTCDateTime(String sql, Object... parameters) {
+		return trace("getUTCDateTime", () -> nextNode.getUTCDateTime(sql, parameters), sql);
+	}
+
+	@Override
+	public byte[][] getBinaryArray(String sql, Object... parameters) {
+		return trace("getBinaryArray", () -> nextNode.getBinaryArray(sql, parameters), sql);
+	}
+
+	@Override
+	public Object getObject(String sql, Object... parameters) {
+		return trace("getObject", () -> nextNode.getObject(sql, parameters), sql);
+	}
+
+	@Override
+	public Short[] getInt16Array(String sql, Object... parameters) {
+		return trace("getInt16Array", () -> nextNode.getInt16Array(sql, parameters), sql);
+	}
+
+	@Override
+	public Integer[] getInt32Array(String sql, Object... parameters) {
+		return trace("getInt32Array", () -> nextNode.getInt32Array(sql, parameters), sql);
+	}
+
+	@Override
+	public Long[] getInt64Array(String sql, Object... parameters) {
+		return trace("getInt64Array", () -> nextNode.getInt64Array(sql, parameters), sql);
+	}
+
+	@Override
+	public Float[] getFloat32Array(String sql, Object... parameters) {
+		return trace("getFloat32Array", () -> nextNode.getFloat32Array(sql, parameters), sql);
+	}
+
+	@Override
+	public Double[] getFloat64Array(String sql, Object... parameters) {
+		return trace("getFloat64Array", () -> nextNode.getFloat64Array(sql, parameters), sql);
+	}
+
+	@Override
+	public BigDecimal[] getNumericArray(String sql, Object... parameters) {
+		return trace("getNumericArray", () -> nextNode.getNumericArray(sql, parameters), sql);
+	}
+
+	@Override
+	public Boolean[] getBooleanArray(String sql, Object... parameters) {
+		return trace("getBooleanArray", () -> nextNode.getBooleanArray(sql, parameters), sql);
+	}
+
+	@Override
+	public String[] getStringArray(String sql, Object... parameters) {
+		return trace("getStringArray", () -> nextNode.getStringArray(sql, parameters), sql);
+	}
+
+	@Override
+	public String[] getTextArray(String sql, Object... parameters) {
+		return trace("getTextArray", () -> nextNode.getTextArray(sql, parameters), sql);
+	}
+
+	@Override
+	public LocalDate[] getDateArray(String sql, Object... parameters) {
+		return trace("getDateArray", () -> nextNode.getDateArray(sql, parameters), sql);
+	}
+
+	@Override
+	public LocalTime[] getTimeArray(String sql, Object... parameters) {
+		return trace("getTimeArray", () -> nextNode.getTimeArray(sql, parameters), sql);
+	}
+
+	@Override
+	public LocalDateTime[] getDateTimeArray(String sql, Object... parameters) {
+		return trace("getDateTimeArray", () -> nextNode.getDateTimeArray(sql, parameters), sql);
+	}
+
+	@Override
+	public ZonedDateTime[] getUTCDateTimeArray(String sql, Object... parameters) {
+		return trace("getUTCDateTimeArray", () -> nextNode.getUTCDateTimeArray(sql, parameters),
+				sql);
+	}
+
+	@Override
+	public HTMLFragment[] getHTMLArray(String sql, String allowedTags, Object... parameters) {
+		return trace("getHTMLArray", () -> nextNode.getHTMLArray(sql, allowedTags, parameters), sql,
+				allowedTags);
+	}
+
+	@Override
+	public URL[] getURLArray(String sql, Object... parameters) {
+		return trace("getURLArray", () -> nextNode.getURLArray(sql, parameters), sql);
+	}
+
+	@Override
+	public InternetAddress[] getEmailArray(String sql, Object... parameters) {
+		return trace("getEmailArray", () -> nextNode.getEmailArray(sql, parameters), sql);
+	}
+
+	@Override
+	public String[] getTelArray(String sql, Object... parameters) {
+		return trace("getTelArray", () -> nextNode.getTelArray(sql, parameters), sql);
+	}
+
+	@Override
+	public ZoneId[] getTimeZoneArray(String sql, Object... parameters) {
+		return trace("getTimeZoneArray", () -> nextNode.getTimeZoneArray(sql, parameters), sql);
+	}
+
+	@Override
+	public Color[] getColorArray(String sql, Object... parameters) {
+		return trace("getColorArray", () -> nextNode.getColorArray(sql, parameters), sql);
+	}
+
+	@Override
+	public Image[] getImageArray(String sql, Object... parameters) {
+		return trace("getImageArray", () -> nextNode.getImageArray(sql, parameters), sql);
+	}
+
+	@Override
+	public Document[] getDocumentArray(String sql, Object... parameters) {
+		return trace("getDocumentArray", () -> nextNode.getDocumentArray(sql, parameters), sql);
+	}
+
+	@Override
+	public <T> T[] getArray(String sql, Class<T> type, Object... parameters) {
+		return trace("getArray", () -> nextNode.getArray(sql, type, parameters), sql, type);
+	}
+
+	@Override
+	public Tuple getTuple(String sql, Object... parameters) {
+		return trace("getTuple", () -> nextNode.getTuple(sql, parameters), sql);
+	}
+
+	@Override
+	public Tuple getTuple(StringBuilder sql, Object... parameters) {
+		return trace("getTuple", () -> nextNode.getTuple(sql, parameters), sql);
+	}
+
+	@Override
+	public Tuple getTuple(StringBuilder sql, ArrayList<Object> parameters) {
+		return trace("getTuple", () -> nextNode.getTuple(sql, parameters), sql);
+	}
+
+	@Override
+	public Matrix getMatrix(String sql, String[] axes, Object... parameters) {
+		return trace("getMatrix", () -> nextNode.getMatrix(sql, axes, parameters), sql, axes);
+	}
+
+	@Override
+	public Tuple[] query(StringBuilder sql, ArrayList<Object> parameters) {
+		return trace("query", () -> nextNode.query(sql, parameters), sql);
+	}
+
+	@Override
+	public Tuple[] query(StringBuilder sql, Object... parameters) {
+		return trace("query", () -> nextNode.query(sql, parameters), sql);
+	}
+
+	@Override
+	public Tuple[] query(String sql, Object... parameters) {
+		return trace("query", () -> nextNode.query(sql, parameters), sql);
+	}
+
+	@Override
+	public <T> T[] query(String sql, Class<T> type, Object... parameters) {
+		return trace("query", () -> nextNode.query(sql, type, parameters), sql, type);
+	}
+
+	@Override
+	public void commit() {
+		trace("commit", () -> nextNode.commit());
+	}
+
+	@Override
+	public Savepoint setSavepoint() {
+		return trace("setSavepoint", () -> nextNode.setSavepoint());
+	}
+
+	@Override
+	public void rollback() {
+		trace("rollback", () -> nextNode.rollback());
+	}
+
+	@Override
+	public void rollback(Savepoint savepoint) {
+		trace("rollback", () -> nextNode.rollback(savepoint), savepoint);
+	}
+
+	@Override
+	public Auth getAuth() {
+		return nextNode.getAuth();
+	}
+
+	@Override
+	public void setDeferredConstraints(boolean status) {
+		trace("setDeferredConstraints", () -> nextNode.setDeferredConstraints(status), status);
+	}
+
+	@Override
+	public Context getContext() {
+		return nextNode.getContext();
+	}
+
+	@Override
+	public LanguageSettings getLanguageSettings() {
+		return nextNode.getLanguageSettings();
+	}
+
+	@Override
+	public TypeSettings getTypeSettings() {
+		return nextNode.getTypeSettings();
+	}
+
+	@Override
+	public String[] getGroups(String user) {
+		return trace("getGroups", () -> nextNode.getGroups(user), user);
+	}
+
+	@Override
+	public String getActionFieldType(String type, String action, String field) {
+		return trace("getActionFieldType", () -> nextNode.getActionFieldType(type, action, field),
+				type, action, field);
+	}
+
+	@Override
+	public TypeField getActionField(String type, String action, String field) {
+		return trace("getActionField", () -> nextNode.getActionField(type, action, field), type,
+				action, field);
+	}
+
+	@Override
+	public FieldRange getFieldRange(String type, String field) {
+		return trace("getFieldRange", () -> nextNode.getFieldRange(type, field), type, field);
+	}
+
+	@Override
+	public FieldRange getActionFieldRange(String type, String action, String field) {
+		return trace("getActionFieldRange", () -> nextNode.getActionFieldRange(type, action, field),
+				type, action, field);
+	}
+
+	@Override
+	public Node getNextNode() {
+		return nextNode;
+	}
+}
\ No newline at end of file
@@ -27,6 +27,7 @@ public enum HTTPHeader {
 	IF_NONE_MATCH("If-None-Match"),
 	LOCATION("Location"),
 	REFERRER_POLICY("Referrer-Policy"),
+	TRACEPARENT("traceparent"),
 	USER_AGENT("User-Agent"),
 	WWW_AUTHENTICATE("WWW-Authenticate"),
 	NEXTTYPES_TITLE("NextTypes-Title");
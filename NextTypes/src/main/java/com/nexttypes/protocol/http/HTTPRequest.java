@@ -63,6 +63,7 @@ import com.nexttypes.exceptions.NXException;
 import com.nexttypes.exceptions.TypeFieldException;
 import com.nexttypes.security.Checks;
 import com.nexttypes.security.Security;
+import com.nexttypes.security.SessionTokens;
 import com.nexttypes.settings.Settings;
 import com.nexttypes.settings.LanguageSettings;
 import com.nexttypes.settings.TypeSettings;
@@ -81,7 +82,8 @@ public class HTTPRequest {
 			KeyWords.VIEW, KeyWords.REF, KeyWords.AREF, KeyWords.FORM, KeyWords.YEAR, KeyWords.MONTH,
 			KeyWords.ACTION, KeyWords._ACTION, KeyWords.LOGIN_USER, KeyWords.LOGIN_PASSWORD, 
 			KeyWords.COMPONENT, KeyWords.INCLUDE_OBJECTS, KeyWords.VERSION, KeyWords.INFO, KeyWords.NAMES,
-			KeyWords.CALENDAR, KeyWords.PREVIEW, KeyWords.REFERENCES, Action.FILTER_COMPONENT};
+			KeyWords.CALENDAR, KeyWords.PREVIEW, KeyWords.REFERENCES, KeyWords.QUERIES, KeyWords.JOBS, KeyWords.INLINE,
+			Action.FILTER_COMPONENT};
 
 	protected Settings settings;
 	protected TypeSettings typeSettings;
@@ -92,6 +94,8 @@ public class HTTPRequest {
 	protected HTTPMethod requestMethod;
 	protected String remoteAddress;
 	protected HttpSession session;
+	protected String sessionToken;
+	protected boolean newSessionToken = false;
 	protected String etag;
 	protected Context context;
 	protected boolean secure;
@@ -135,8 +139,11 @@ public class HTTPRequest {
 	protected boolean info = false;
 	protected boolean names = false;
 	protected boolean references = false;
+	protected boolean queries = false;
+	protected boolean jobs = false;
 	protected boolean preview = false;
 	protected boolean calendar = false;
+	protected boolean inline = false;
 	protected boolean default_parameter = false;
 
 	protected LinkedHashMap<String, LinkedHashMap<String, HashMap<String, String>>> compositeParameters;
@@ -152,7 +159,17 @@ public class HTTPRequest {
 		this.url = url;
 
 		remoteAddress = request.getRemoteAddr();
-		session = request.getSession();
+		if (context.getSessionTokens().isEnabled()) {
+			SessionTokens.Token token = (SessionTokens.Token) request
+					.getAttribute(SessionTokens.REQUEST_ATTRIBUTE);
+
+			if (token != null) {
+				sessionToken = token.getSessionToken();
+			}
+		} else {
+			session = request.getSession();
+		}
+
 		secure = request.isSecure();
 
 		requestMethod = HTTPMethod.valueOf(request.getMethod());
@@ -232,13 +249,22 @@ public class HTTPRequest {
 	}
 
 	protected void setSessionToken() {
-		if (session.getAttribute(KeyWords.SESSION) == null) {
+		if (session == null) {
+			if (sessionToken == null) {
+				sessionToken = Security.randomString();
+				newSessionToken = true;
+			}
+		} else if (session.getAttribute(KeyWords.SESSION) == null) {
 			session.setAttribute(KeyWords.SESSION, Security.randomString());
 		}
 	}
 
 	public String getSessionToken() {
-		return (String) session.getAttribute(KeyWords.SESSION);
+		return session != null ? (String) session.getAttribute(KeyWords.SESSION) : sessionToken;
+	}
+
+	public boolean isNewSessionToken() {
+		return newSessionToken;
 	}
 
 	protected void parseURLPath() {
@@ -738,6 +764,14 @@ public class HTTPRequest {
 		return references;
 	}
 
+	public boolean isQueries() {
+		return queries;
+	}
+
+	public boolean isJobs() {
+		return jobs;
+	}
+
 	public boolean isPreview() {
 		return preview;
 	}
@@ -746,6 +780,10 @@ public class HTTPRequest {
 		return calendar;
 	}
 	
+	public boolean isInline() {
+		return inline;
+	}
+	
 	public boolean isDefault() {
 		return default_parameter;
 	}
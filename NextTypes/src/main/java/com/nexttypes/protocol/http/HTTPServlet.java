@@ -25,11 +25,11 @@ import java.util.Enumeration;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -55,6 +55,7 @@ import com.nexttypes.datatypes.UpdateIdResult;
 import com.nexttypes.datatypes.UpdateResult;
 import com.nexttypes.enums.Format;
 import com.nexttypes.enums.NodeMode;
+import com.nexttypes.enums.RateLimit;
 import com.nexttypes.exceptions.ActionNotFoundException;
 import com.nexttypes.exceptions.CertificateNotFoundException;
 import com.nexttypes.exceptions.InvalidHostNameException;
@@ -66,8 +67,12 @@ import com.nexttypes.exceptions.ObjectFieldException;
 import com.nexttypes.exceptions.UnauthorizedException;
 import com.nexttypes.exceptions.ViewNotFoundException;
 import com.nexttypes.interfaces.Stream;
+import com.nexttypes.limiters.RateLimiter;
 import com.nexttypes.logging.Logger;
+import com.nexttypes.metrics.Metrics;
 import com.nexttypes.nodes.Node;
+import com.nexttypes.security.Security;
+import com.nexttypes.security.SessionTokens;
 import com.nexttypes.settings.Settings;
 import com.nexttypes.settings.TypeSettings;
 import com.nexttypes.settings.LanguageSettings;
@@ -95,12 +100,8 @@ public class HTTPServlet extends HttpServlet {
 	protected boolean binaryDebug;
 	protected int binaryDebugLimit;
 	protected Antivirus antivirus;
-	protected ConcurrentHashMap<String, Requests> requestsMap = new ConcurrentHashMap<>();
-	protected ConcurrentHashMap<String, Requests> authErrorsMap = new ConcurrentHashMap<>();
-	protected ConcurrentHashMap<String, ConcurrentHashMap<String, Requests>> insertRequestsMap
-		= new ConcurrentHashMap<>();
-	protected ConcurrentHashMap<String, Requests>[] requestsMaps = new ConcurrentHashMap[] { requestsMap,
-			authErrorsMap };
+	protected SessionTokens sessionTokens;
+	protected RateLimiter rateLimiter;
 
 	@Override
 	public void init(ServletConfig config) throws ServletException {
@@ -114,56 +115,11 @@ public class HTTPServlet extends HttpServlet {
 		binaryDebug = settings.getBoolean(Settings.BINARY_DEBUG);
 		binaryDebugLimit = settings.getInt32(Settings.BINARY_DEBUG_LIMIT);
 		logger = context.getLogger();
+		sessionTokens = context.getSessionTokens();
+		rateLimiter = context.getRateLimiter();
 		antivirus = Loader.loadAntivirus(settings.getString(KeyWords.ANTIVIRUS), context);
-				
-		purgeRequestsMapsThread();
 	}
 	
-	protected void purgeRequestsMapsThread() {
-		
-		new Thread () {
-			
-			protected void purge (long now, ConcurrentHashMap<String, Requests> requestsMap, 
-					Map.Entry<String, Requests> entry) {
-				if (now - entry.getValue().firstRequestTime > Constants.MINUTE_MILLISECONDS) {
-					requestsMap.remove(entry.getKey());
-				}
-			}
-			
-			public void run() {
-				while (true) {
-					try {
-						sleep(Constants.MINUTE_MILLISECONDS);
-					} catch (InterruptedException e) {
-						throw new NXException(e);
-					}
-					
-					long now = System.currentTimeMillis();
-					
-					for (ConcurrentHashMap<String, Requests> requestsMap : requestsMaps) {
-						for (Map.Entry<String, Requests> entry : requestsMap.entrySet()) {
-							purge(now, requestsMap, entry);
-						}
-					}
-					
-					for (Map.Entry<String, ConcurrentHashMap<String, Requests>> entry
-							: insertRequestsMap.entrySet()) {
-						
-						ConcurrentHashMap<String, Requests> typesRequests = entry.getValue();
-						
-						for (Map.Entry<String, Requests> typeEntry : typesRequests.entrySet()) {
-							purge(now, typesRequests, typeEntry);
-						}
-						
-						if (typesRequests.size() == 0) {
-							insertRequestsMap.remove(entry.getKey());
-						}
-					}
-				}
-			}
-		}.start();
-	}
-
 	protected Content get(HTTPRequest req, HttpServletResponse response) throws IOException,
 		URISyntaxException {
 		
@@ -200,6 +156,10 @@ public class HTTPServlet extends HttpServlet {
 							content = view.getTypesName(req.getLang(), req.getView());
 						} else if (req.isReferences()) {
 							content = view.getReferences(req.getLang(), req.getView());
+						} else if (req.isQueries()) {
+							content = view.getQueries(req.getLang(), req.getView());
+						} else if (req.isJobs()) {
+							content = view.getJobs(req.getLang(), req.getView());
 						} else {
 							URIBuilder newURL = new URIBuilder(settings.getString(KeyWords.INDEX));
 							newURL.setParameter(KeyWords.LANG, req.getLang());
@@ -475,11 +435,11 @@ public class HTTPServlet extends HttpServlet {
 				break;
 
 			case Action.LOGIN:
-				content = login(req, nextNode, languageSettings);
+				content = login(req, response, nextNode, languageSettings);
 				break;
 
 			case Action.LOGOUT:
-				content = logout(req, languageSettings);
+				content = logout(req, response, languageSettings);
 				break;
 			
 			case Action.PRINT:
@@ -534,7 +494,8 @@ public class HTTPServlet extends HttpServlet {
 		return content;
 	}
 	
-	protected Content login(HTTPRequest req, Node nextNode, LanguageSettings languageSettings) {
+	protected Content login(HTTPRequest req, HttpServletResponse response, Node nextNode,
+			LanguageSettings languageSettings) {
 		String remoteAddress = req.getRemoteAddress();
 
 		checkAuthErrors(remoteAddress);
@@ -554,8 +515,13 @@ public class HTTPServlet extends HttpServlet {
 		if (nextNode.checkPassword(KeyWords.USER, user, KeyWords.PASSWORD, password)) {
 			String[] groups = nextNode.getGroups(user);
 
-			HttpSession session = req.getSession();
-			session.setAttribute(KeyWords.AUTH, new Auth(user, groups, true));
+			Auth auth = new Auth(user, groups, true);
+
+			if (sessionTokens.isEnabled()) {
+				setSessionCookie(req, response, auth);
+			} else {
+				req.getSession().setAttribute(KeyWords.AUTH, auth);
+			}
 
 			content = new Content(languageSettings.gts(Settings.SUCCESSFUL_LOGIN));
 			logger.info(user, remoteAddress, new NXException(Settings.SUCCESSFUL_LOGIN));
@@ -567,15 +533,32 @@ public class HTTPServlet extends HttpServlet {
 		return content;
 	}
 
-	protected Content logout(HTTPRequest req, LanguageSettings languageSettings) {
+	protected Content logout(HTTPRequest req, HttpServletResponse response,
+			LanguageSettings languageSettings) {
 		Content content = null;
 		HttpServletRequest request = req.getServletRequest();
-		HttpSession session = request.getSession();
+		HttpSession session = null;
 		String remoteAddress = request.getRemoteAddr();
-		Auth auth = (Auth) session.getAttribute(KeyWords.AUTH);
+		Auth auth = null;
+
+		if (sessionTokens.isEnabled()) {
+			SessionTokens.Token token = sessionToken(request);
+
+			if (token != null && !token.isGuest()) {
+				auth = token.getAuth();
+			}
+		} else {
+			session = request.getSession();
+			auth = (Auth) session.getAttribute(KeyWords.AUTH);
+		}
 
 		if (auth != null) {
-			session.removeAttribute(KeyWords.AUTH);
+			if (session != null) {
+				session.removeAttribute(KeyWords.AUTH);
+			} else {
+				setSessionCookie(req, response, new Auth(Auth.GUEST, Auth.GUESTS));
+			}
+
 			content = new Content(languageSettings.gts(Settings.SUCCESSFUL_LOGOUT));
 			logger.info(auth.getUser(), remoteAddress, new NXException(Settings.SUCCESSFUL_LOGOUT));
 		} else {
@@ -807,6 +790,18 @@ public class HTTPServlet extends HttpServlet {
 		}
 	}
 
+	protected Content metrics(HttpServletRequest request, String lang, Auth auth) {
+		try (Node nextNode = Loader.loadNode(settings.getString(Settings.NEXT_NODE), auth,
+				NodeMode.READ, lang, request.getRemoteAddr(), context, true)) {
+
+			nextNode.getPermissions().checkPermissions(Action.GET_METRICS);
+
+			Content content = new Content(context.getMetrics().toString(), Format.TEXT);
+			content.setHeader("cache-control", "no-cache, no-store, must-revalidate");
+			return content;
+		}
+	}
+
 	protected Content checkRequest(HttpServletRequest request, URL url) {
 		Content content = null;
 
@@ -875,28 +870,60 @@ public class HTTPServlet extends HttpServlet {
 	}
 
 	protected Auth auth(HttpServletRequest request) {
-		HttpSession session = request.getSession();
+		HttpSession session = null;
+		Auth auth = null;
 
-		Auth auth = (Auth) session.getAttribute(KeyWords.AUTH);
+		if (sessionTokens.isEnabled()) {
+			SessionTokens.Token token = sessionToken(request);
 
-		if (auth == null) {
+			if (token != null && !token.isGuest()) {
+				auth = token.getAuth();
+			}
+		} else {
+			session = request.getSession();
+			auth = (Auth) session.getAttribute(KeyWords.AUTH);
+		}
 
-			try (Node nextNode = Loader.loadNode(settings.getString(Settings.NEXT_NODE), 
-					new Auth(Auth.GUEST, Auth.GUESTS), NodeMode.READ,
-					settings.getString(Settings.DEFAULT_LANG), request.getRemoteAddr(), context, true)) {
+		if (auth == null && !hasCredentials(request)) {
+			auth = new Auth(Auth.GUEST, Auth.GUESTS);
+		} else if (auth == null) {
 
-				String user = tlsAuth(request, nextNode);
+			auth = cachedBasicAuth(request);
 
-				if (user == null) {
-					user = basicAuth(request, nextNode);
+			if (auth != null) {
+				if (session != null) {
+					session.setAttribute(KeyWords.AUTH, auth);
 				}
+			} else {
+				try (Node nextNode = Loader.loadNode(settings.getString(Settings.NEXT_NODE), 
+						new Auth(Auth.GUEST, Auth.GUESTS), NodeMode.READ,
+						settings.getString(Settings.DEFAULT_LANG), request.getRemoteAddr(), context, true)) {
 
-				if (user == null) {
-					auth = new Auth(Auth.GUEST, Auth.GUESTS);
-				} else {
-					String[] groups = nextNode.getGroups(user);
-					auth = new Auth(user, groups, false);
-					session.setAttribute(KeyWords.AUTH, auth);
+					long generation = context.getCredentialsCache().getGeneration();
+					String user = tlsAuth(request, nextNode);
+					boolean basicAuth = false;
+
+					if (user == null) {
+						user = basicAuth(request, nextNode);
+						basicAuth = user != null;
+					}
+
+					if (user == null) {
+						auth = new Auth(Auth.GUEST, Auth.GUESTS);
+					} else {
+						String[] groups = nextNode.getGroups(user);
+						auth = new Auth(user, groups, false);
+
+						if (session != null) {
+							session.setAttribute(KeyWords.AUTH, auth);
+						}
+
+						if (basicAuth) {
+							String[] credentials = basicAuthCredentials(request);
+							context.getCredentialsCache().put(credentials[0], credentials[1], groups,
+									generation);
+						}
+					}
 				}
 			}
 		}
@@ -904,20 +931,95 @@ public class HTTPServlet extends HttpServlet {
 		return auth;
 	}
 
-	protected String basicAuth(HttpServletRequest request, Node nextNode) {
-		String user = null;
+	protected SessionTokens.Token sessionToken(HttpServletRequest request) {
+		SessionTokens.Token token = null;
+		Cookie[] cookies = request.getCookies();
 
-		String basicAuth = request.getHeader(HTTPHeader.AUTHORIZATION.toString());
+		if (cookies != null) {
+			for (Cookie cookie : cookies) {
+				if (KeyWords.SESSION.equals(cookie.getName())) {
+					token = sessionTokens.verify(cookie.getValue());
+					break;
+				}
+			}
+		}
 
-		if (basicAuth != null) {
-			String remoteAddress = request.getRemoteAddr();
+		request.setAttribute(SessionTokens.REQUEST_ATTRIBUTE, token);
 
-			checkAuthErrors(remoteAddress);
+		return token;
+	}
+
+	protected void setSessionCookie(HTTPRequest req, HttpServletResponse response, Auth auth) {
+		String sessionToken = req.getSessionToken();
+
+		if (sessionToken == null) {
+			sessionToken = Security.randomString();
+		}
+
+		Cookie cookie = new Cookie(KeyWords.SESSION, sessionTokens.create(auth, sessionToken));
+		cookie.setPath("/");
+		cookie.setHttpOnly(true);
+		cookie.setSecure(req.isSecure());
+		cookie.setMaxAge((int) (sessionTokens.getTTL() / Constants.SECOND_MILLISECONDS));
+		response.addCookie(cookie);
+	}
+
+	protected boolean hasCredentials(HttpServletRequest request) {
+		return request.getHeader(HTTPHeader.AUTHORIZATION.toString()) != null || hasCertificate(request);
+	}
+
+	protected boolean hasCertificate(HttpServletRequest request) {
+		if (request.isSecure()) {
+			X509Certificate[] requestCertificates = (X509Certificate[]) request.getAttribute(X509_CERTIFICATES);
+			return requestCertificates != null && requestCertificates.length > 0;
+		}
+
+		return false;
+	}
+
+	protected String[] basicAuthCredentials(HttpServletRequest request) {
+		String[] credentials = null;
+
+		String basicAuth = request.getHeader(HTTPHeader.AUTHORIZATION.toString());
 
+		if (basicAuth != null) {
 			String userPassword = Utils.base64decode(basicAuth.substring(6, basicAuth.length()));
 			int separatorIndex = userPassword.indexOf(":");
 			String authUser = userPassword.substring(0, separatorIndex);
 			String authPassword = userPassword.substring(separatorIndex + 1, userPassword.length());
+			credentials = new String[] { authUser, authPassword };
+		}
+
+		return credentials;
+	}
+
+	protected Auth cachedBasicAuth(HttpServletRequest request) {
+		Auth auth = null;
+
+		if (!hasCertificate(request)) {
+			String[] credentials = basicAuthCredentials(request);
+
+			if (credentials != null) {
+				checkAuthErrors(request.getRemoteAddr());
+				auth = context.getCredentialsCache().get(credentials[0], credentials[1]);
+			}
+		}
+
+		return auth;
+	}
+
+	protected String basicAuth(HttpServletRequest request, Node nextNode) {
+		String user = null;
+
+		String[] credentials = basicAuthCredentials(request);
+
+		if (credentials != null) {
+			String remoteAddress = request.getRemoteAddr();
+
+			checkAuthErrors(remoteAddress);
+
+			String authUser = credentials[0];
+			String authPassword = credentials[1];
 
 			if (nextNode.checkPassword(KeyWords.USER, authUser, KeyWords.PASSWORD, authPassword)) {
 				user = authUser;
@@ -1057,9 +1159,12 @@ public class HTTPServlet extends HttpServlet {
 
 	protected void service(HttpServletRequest request, HttpServletResponse response) {
 		
+		long start = System.nanoTime();
 		String lang = null;
 		LanguageSettings languageSettings = null;
 		String user = Auth.GUEST;
+		String view = null;
+		String action = null;
 
 		try {
 			request.setCharacterEncoding(Constants.UTF_8_CHARSET);
@@ -1089,38 +1194,51 @@ public class HTTPServlet extends HttpServlet {
 						content = robots();
 					} else if (url.isSitemap()) {
 						content = sitemap(request, lang, auth);
+					} else if (url.isMetrics()) {
+						content = metrics(request, lang, auth);
 					} else {
 						HTTPRequest req = new HTTPRequest(request, settings, context, lang, 
 								languageSettings, auth, url);
 
-						switch (req.getRequestMethod()) {
-						case GET:
-							content = get(req, response);
-							break;
+						view = req.getView();
+						action = req.getAction();
 
-						case POST:
-							content = post(req, response);
-							break;
+						if (req.isNewSessionToken()) {
+							setSessionCookie(req, response, new Auth(Auth.GUEST, Auth.GUESTS));
+						}
+
+						content = checkMaxTypeRequests(req);
+
+						if (content == null) {
+							switch (req.getRequestMethod()) {
+							case GET:
+								content = get(req, response);
+								break;
+
+							case POST:
+								content = post(req, response);
+								break;
 							
-						case DELETE:
-							content = delete(req);
-							break;
+							case DELETE:
+								content = delete(req);
+								break;
 
-						case PUT:
-							content = put(req);
-							break;
+							case PUT:
+								content = put(req);
+								break;
 
-						case PROPFIND:
-						case REPORT:
-							content = webdav(req);
-							break;
+							case PROPFIND:
+							case REPORT:
+								content = webdav(req);
+								break;
 
-						case HEAD:
-							break;
+							case HEAD:
+								break;
 
-						case OPTIONS:
-							content = options();
-							break;
+							case OPTIONS:
+								content = options();
+								break;
+							}
 						}
 					}
 				}
@@ -1130,6 +1248,10 @@ public class HTTPServlet extends HttpServlet {
 
 		} catch (Exception e) {
 			writeException(e, request, response, languageSettings, user);
+		} finally {
+			context.getMetrics().histogram(Metrics.HTTP_REQUEST_DURATION,
+					"Time spent serving HTTP requests.", Metrics.METHOD, request.getMethod(),
+					Metrics.VIEW, view, Metrics.ACTION, action).observe(System.nanoTime() - start);
 		}
 	}
 
@@ -1266,30 +1388,47 @@ public class HTTPServlet extends HttpServlet {
 			
 			String remoteAddress = req.getRemoteAddress();
 
-			ConcurrentHashMap<String, Requests> typesRequests = insertRequestsMap.get(remoteAddress);
-			
-			if (typesRequests != null) {
-			
-				Requests requests = typesRequests.get(type);
-
-				if (requests != null) {
-					long now = System.currentTimeMillis();
+			RateLimit result = rateLimiter.check(RateLimiter.INSERTS, remoteAddress + ":" + type, maxInserts);
 
-					if (now - requests.firstRequestTime > Constants.MINUTE_MILLISECONDS) {
-						typesRequests.remove(type);
-					} else {
+			if (!result.isAllowed()) {
+				NXException exception = new NXException(type, NXException.MAX_INSERTS_EXCEEDED);
+				String message = exception.getMessage(req.getLanguageSettings());
 				
-						if (requests.requests >= maxInserts) {
-							NXException exception = new NXException(type, NXException.MAX_INSERTS_EXCEEDED);
-							String message = exception.getMessage(req.getLanguageSettings());
-							
-							content = new Content(message, Format.TEXT, HTTPStatus.TOO_MANY_REQUESTS);
+				content = new Content(message, Format.TEXT, HTTPStatus.TOO_MANY_REQUESTS);
 
-							if (!requests.logged) {
-								logger.severe(req.getAuth().getUser(), remoteAddress, exception);
-								requests.logged = true;
-							}
-						}
+				if (RateLimit.EXCEEDED.equals(result)) {
+					logger.severe(req.getAuth().getUser(), remoteAddress, exception);
+				}
+			}
+		}
+
+		return content;
+	}
+
+	protected Content checkMaxTypeRequests(HTTPRequest req) {
+		Content content = null;
+
+		String type = req.getType();
+
+		if (type != null) {
+			String action = req.getAction();
+			TypeSettings typeSettings = req.getTypeSettings();
+
+			Integer maxTypeRequests = action != null
+					? typeSettings.getActionInt32(type, action, Settings.MAX_REQUESTS)
+					: typeSettings.getTypeInt32(type, Settings.MAX_REQUESTS);
+
+			if (maxTypeRequests != null && maxTypeRequests > 0) {
+				String remoteAddress = req.getRemoteAddress();
+
+				RateLimit result = rateLimiter.acquire(RateLimiter.TYPE_REQUESTS,
+						remoteAddress + ":" + type + ":" + action, maxTypeRequests);
+
+				if (!result.isAllowed()) {
+					content = new Content(MAX_REQUESTS, Format.TEXT, HTTPStatus.TOO_MANY_REQUESTS);
+
+					if (RateLimit.EXCEEDED.equals(result)) {
+						logger.severe(this, req.getAuth().getUser(), remoteAddress, MAX_REQUESTS);
 					}
 				}
 			}
@@ -1304,33 +1443,31 @@ public class HTTPServlet extends HttpServlet {
 		if (maxRequests > 0) {
 			String remoteAddress = req.getRemoteAddr();
 
-			Requests requests = requestsMap.get(remoteAddress);
+			RateLimit result = rateLimiter.acquire(RateLimiter.REQUESTS, remoteAddress, maxRequests);
 
-			if (requests != null) {
-				long now = System.currentTimeMillis();
+			if (!result.isAllowed()) {
 
-				if (now - requests.firstRequestTime > Constants.MINUTE_MILLISECONDS) {
-					requests.requests = 1;
-					requests.firstRequestTime = now;
-					requests.logged = false;
-				} else {
-					requests.requests += 1;
+				content = new Content(MAX_REQUESTS, Format.TEXT, HTTPStatus.TOO_MANY_REQUESTS);
 
-					if (requests.requests > maxRequests) {
+				if (RateLimit.EXCEEDED.equals(result)) {
+					String user = Auth.GUEST;
 
-						content = new Content(MAX_REQUESTS, Format.TEXT, HTTPStatus.TOO_MANY_REQUESTS);
+					if (sessionTokens.isEnabled()) {
+						SessionTokens.Token token = sessionToken(req);
 
-						if (!requests.logged) {
-							Auth auth = (Auth) req.getSession().getAttribute(KeyWords.AUTH);
-							String user = auth != null ? auth.getUser() : Auth.GUEST;
+						if (token != null) {
+							user = token.getUser();
+						}
+					} else {
+						Auth auth = (Auth) req.getSession().getAttribute(KeyWords.AUTH);
 
-							logger.severe(this, user, remoteAddress, MAX_REQUESTS);
-							requests.logged = true;
+						if (auth != null) {
+							user = auth.getUser();
 						}
 					}
+
+					logger.severe(this, user, remoteAddress, MAX_REQUESTS);
 				}
-			} else {
-				requestsMap.putIfAbsent(remoteAddress, new Requests());
 			}
 		}
 
@@ -1346,39 +1483,14 @@ public class HTTPServlet extends HttpServlet {
 		int maxInserts = req.getTypeSettings().getTypeInt32(type, Settings.MAX_INSERTS);
 
 		if (maxInserts > 0) {
-			
-			String remoteAddress = req.getRemoteAddress();
-			
-			ConcurrentHashMap<String, Requests> typesRequests = insertRequestsMap.get(remoteAddress);
-			
-			if (typesRequests == null) {
-				typesRequests = new ConcurrentHashMap<>();
-				insertRequestsMap.putIfAbsent(remoteAddress, typesRequests);
-			}
-
-			Requests requests = typesRequests.get(type);
-
-			if (requests == null) {
-				requests = new Requests();
-				typesRequests.putIfAbsent(type, requests);
-			} else {
-				requests.requests += 1;
-			}
+			rateLimiter.consume(RateLimiter.INSERTS, req.getRemoteAddress() + ":" + type, maxInserts);
 		}
 	}
 
 	protected void authError(String remoteAddress) {
 
 		if (maxAuthErrors > 0) {
-			
-			Requests authErrors = authErrorsMap.get(remoteAddress);
-	
-			if (authErrors == null) {
-				authErrors = new Requests();
-				authErrorsMap.putIfAbsent(remoteAddress, authErrors);
-			} else {
-				authErrors.requests += 1;
-			}
+			rateLimiter.consume(RateLimiter.AUTH_ERRORS, remoteAddress, maxAuthErrors);
 		}
 	}
 
@@ -1386,21 +1498,8 @@ public class HTTPServlet extends HttpServlet {
 
 		if (maxAuthErrors > 0) {
 			
-			Requests authErrors = authErrorsMap.get(remoteAddress);
-	
-			if (authErrors != null) {
-	
-				long now = System.currentTimeMillis();
-	
-				if (now - authErrors.firstRequestTime > Constants.MINUTE_MILLISECONDS) {
-					authErrorsMap.remove(remoteAddress);
-				} else {
-	
-					if (authErrors.requests >= maxAuthErrors) {
-	
-						throw new NXException(NXException.AUTH_ERRORS_PER_MINUTE_EXCEEDED);
-					}
-				}
+			if (!rateLimiter.check(RateLimiter.AUTH_ERRORS, remoteAddress, maxAuthErrors).isAllowed()) {
+				throw new NXException(NXException.AUTH_ERRORS_PER_MINUTE_EXCEEDED);
 			}
 		}
 	}
@@ -1433,16 +1532,4 @@ public class HTTPServlet extends HttpServlet {
 			antivirus.scan(type, id, field, fieldType, value);
 		}
 	}
-	
-	protected class Requests {
-		protected int requests;
-		protected long firstRequestTime;
-		protected boolean logged;
-
-		protected Requests() {
-			requests = 1;
-			firstRequestTime = System.currentTimeMillis();
-			logged = false;
-		}
-	}
 }
\ No newline at end of file
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.protocol.smtp;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Properties;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+import com.nexttypes.datatypes.Auth;
+import com.nexttypes.datatypes.Email;
+import com.nexttypes.datatypes.Tuple;
+import com.nexttypes.datatypes.URL;
+import com.nexttypes.enums.NodeMode;
+import com.nexttypes.logging.Logger;
+import com.nexttypes.metrics.Counter;
+import com.nexttypes.metrics.Metrics;
+import com.nexttypes.nodes.Node;
+import com.nexttypes.settings.Settings;
+import com.nexttypes.system.Constants;
+import com.nexttypes.system.Context;
+import com.nexttypes.system.KeyWords;
+import com.nexttypes.system.Loader;
+import com.nexttypes.system.Utils;
+
+public class EmailOutbox {
+	public static final String PENDING = "pending";
+	public static final String SENT = "sent";
+	public static final String FAILED = "failed";
+	public static final String SMTP = "smtp";
+	public static final String OUTBOX = "nexttypes.email_outbox";
+	public static final String OUTBOX_SEQUENCE = "nexttypes.email_outbox_id_seq";
+
+	public static final String OUTBOX_TABLE =
+			"create table if not exists nexttypes.email_outbox ("
+					+ "id bigserial primary key,"
+					+ "cdate timestamp not null default now(),"
+					+ "message bytea not null,"
+					+ "status character varying(10) not null default '" + PENDING + "',"
+					+ "attempts integer not null default 0,"
+					+ "next_attempt timestamp not null default now(),"
+					+ "sent timestamp,"
+					+ "error text"
+			+ ")";
+
+	public static final String OUTBOX_INDEX =
+			"create index if not exists email_outbox_pending_index on nexttypes.email_outbox (next_attempt)"
+					+ " where status = '" + PENDING + "'";
+
+	protected static final String ENQUEUE_QUERY =
+			"insert into nexttypes.email_outbox (message) values (?)";
+
+	protected static final String CLAIM_QUERY =
+			"select id, message, attempts from nexttypes.email_outbox"
+					+ " where status = '" + PENDING + "' and next_attempt <= now()"
+					+ " order by next_attempt, id limit ? for update skip locked";
+
+	protected static final String SENT_QUERY =
+			"update nexttypes.email_outbox set status = '" + SENT + "', attempts = attempts + 1,"
+					+ " sent = now(), error = null where id = ?";
+
+	protected static final String RETRY_QUERY =
+			"update nexttypes.email_outbox set status = ?, attempts = attempts + 1,"
+					+ " next_attempt = now() + make_interval(secs => ?), error = ? where id = ?";
+
+	protected Context context;
+	protected Settings settings;
+	protected Logger logger;
+	protected Session session;
+	protected String nextNode;
+	protected String lang;
+	protected int batchSize;
+	protected int pollInterval;
+	protected int maxAttempts;
+	protected int retryDelay;
+	protected int maxRetryDelay;
+	protected Counter sent;
+	protected Counter failures;
+	protected ArrayList<Thread> workers = new ArrayList<>();
+	protected volatile boolean open = true;
+
+	public EmailOutbox(Context context) {
+		this.context = context;
+		settings = context.getSettings(Settings.OUTBOX_SETTINGS);
+		logger = context.getLogger();
+		nextNode = settings.getString(Settings.NEXT_NODE);
+		lang = settings.getString(KeyWords.LANG);
+		batchSize = settings.getInt32(Settings.BATCH_SIZE);
+		pollInterval = settings.getInt32(Settings.POLL_INTERVAL);
+		maxAttempts = settings.getInt32(Settings.MAX_ATTEMPTS);
+		retryDelay = settings.getInt32(Settings.RETRY_DELAY);
+		maxRetryDelay = settings.getInt32(Settings.MAX_RETRY_DELAY);
+
+		Properties properties = new Properties();
+		properties.setProperty(Email.MAIL_SMTP_HOST, settings.getString(KeyWords.HOST));
+		properties.setProperty(Email.MAIL_SMTP_PORT, settings.getString(KeyWords.PORT));
+		session = Session.getInstance(properties);
+
+		Metrics metrics = context.getMetrics();
+		sent = metrics.counter(Metrics.EMAIL_SENT, "Emails delivered from the outbox.");
+		failures = metrics.counter(Metrics.EMAIL_FAILURES, "Failed outbox delivery attempts.");
+
+		int count = settings.getInt32(Settings.WORKERS);
+
+		for (int x = 0; x < count; x++) {
+			workers.add(Thread.ofVirtual().name("email-outbox-" + x).start(new Worker()));
+		}
+	}
+
+	public static void enqueue(Node node, Email email) {
+		node.execute(ENQUEUE_QUERY, email.getBytes());
+	}
+
+	public void close() {
+		open = false;
+
+		for (Thread worker : workers) {
+			worker.interrupt();
+		}
+
+		Utils.join(workers, Constants.CLOSE_TIMEOUT);
+	}
+
+	protected class Worker implements Runnable {
+		protected Transport transport;
+
+		@Override
+		public void run() {
+			try {
+				while (open) {
+					int claimed = 0;
+
+					try {
+						claimed = sendBatch();
+					} catch (Exception e) {
+						logger.severe(Auth.SMTP, URL.LOCALHOST, e);
+					}
+
+					if (claimed < batchSize) {
+						if (claimed == 0) {
+							closeTransport();
+						}
+
+						Thread.sleep(pollInterval);
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				closeTransport();
+			}
+		}
+
+		protected int sendBatch() {
+			try (Node node = Loader.loadNode(nextNode, new Auth(Auth.SMTP), NodeMode.WRITE, lang,
+					URL.LOCALHOST, context, true)) {
+
+				Tuple[] messages = node.query(CLAIM_QUERY, batchSize);
+
+				for (Tuple message : messages) {
+					Long id = message.getInt64(KeyWords.ID);
+					int attempts = message.getInt32("attempts") + 1;
+
+					try {
+						send(message.getBinary(KeyWords.MESSAGE));
+						node.execute(SENT_QUERY, id);
+						sent.increment();
+					} catch (MessagingException e) {
+						failures.increment();
+						closeTransport();
+
+						String status = attempts >= maxAttempts ? FAILED : PENDING;
+						int delay = (int) Math.min((long) retryDelay << Math.min(attempts - 1, 30),
+								maxRetryDelay);
+
+						node.execute(RETRY_QUERY, status, delay, e.getMessage(), id);
+
+						if (FAILED.equals(status)) {
+							logger.severe(Auth.SMTP, URL.LOCALHOST, e);
+						}
+					}
+				}
+
+				node.commit();
+
+				return messages.length;
+			}
+		}
+
+		protected void send(byte[] bytes) throws MessagingException {
+			MimeMessage message = new MimeMessage(session, new ByteArrayInputStream(bytes));
+
+			if (transport == null || !transport.isConnected()) {
+				closeTransport();
+				transport = session.getTransport(SMTP);
+				transport.connect();
+			}
+
+			transport.sendMessage(message, message.getAllRecipients());
+		}
+
+		protected void closeTransport() {
+			if (transport != null) {
+				try {
+					transport.close();
+				} catch (MessagingException e) {
+					logger.severe(Auth.SMTP, URL.LOCALHOST, e);
+				}
+
+				transport = null;
+			}
+		}
+	}
+}
\ No newline at end of file
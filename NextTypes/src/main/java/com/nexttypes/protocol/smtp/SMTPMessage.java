@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.protocol.smtp;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.postgresql.util.ByteStreamWriter;
+
+public class SMTPMessage extends OutputStream implements ByteStreamWriter {
+	protected static final String PREFIX = "nexttypes-smtp-";
+	protected static final String SUFFIX = ".eml";
+
+	protected int maxSize;
+	protected int memoryThreshold;
+	protected ByteArrayOutputStream memory = new ByteArrayOutputStream();
+	protected Path file;
+	protected OutputStream fileOutput;
+	protected int size = 0;
+	protected boolean exceeded = false;
+
+	public SMTPMessage(int maxSize, int memoryThreshold) {
+		this.maxSize = maxSize;
+		this.memoryThreshold = memoryThreshold;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (exceeded) {
+			return;
+		}
+
+		if ((long) size + len > maxSize) {
+			exceeded = true;
+			delete();
+			return;
+		}
+
+		if (file == null && size + len > memoryThreshold) {
+			file = Files.createTempFile(PREFIX, SUFFIX);
+			fileOutput = new BufferedOutputStream(Files.newOutputStream(file));
+			memory.writeTo(fileOutput);
+			memory = null;
+		}
+
+		if (file != null) {
+			fileOutput.write(b, off, len);
+		} else {
+			memory.write(b, off, len);
+		}
+
+		size += len;
+	}
+
+	public boolean isExceeded() {
+		return exceeded;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public InputStream getInputStream() throws IOException {
+		if (file != null) {
+			fileOutput.flush();
+			return Files.newInputStream(file);
+		} else {
+			return new ByteArrayInputStream(memory.toByteArray());
+		}
+	}
+
+	public String getText() throws IOException {
+		try (InputStream input = getInputStream()) {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+		}
+	}
+
+	@Override
+	public int getLength() {
+		return size;
+	}
+
+	@Override
+	public void writeTo(ByteStreamTarget target) throws IOException {
+		try (InputStream input = getInputStream()) {
+			input.transferTo(target.getOutputStream());
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		delete();
+	}
+
+	protected void delete() throws IOException {
+		memory = new ByteArrayOutputStream();
+
+		if (file != null) {
+			fileOutput.close();
+			Files.deleteIfExists(file);
+			fileOutput = null;
+			file = null;
+		}
+	}
+}
\ No newline at end of file
@@ -16,12 +16,18 @@
 
 package com.nexttypes.protocol.smtp;
 
+import java.io.IOException;
+import java.io.PrintStream;
 import java.net.InetAddress;
 import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.Semaphore;
 
 import com.nexttypes.datatypes.Auth;
 import com.nexttypes.datatypes.URL;
 import com.nexttypes.logging.Logger;
+import com.nexttypes.metrics.Counter;
+import com.nexttypes.metrics.Metrics;
 import com.nexttypes.settings.Settings;
 import com.nexttypes.settings.LanguageSettings;
 import com.nexttypes.system.KeyWords;
@@ -33,6 +39,10 @@ public class SMTPServer extends Thread {
 	protected ServerSocket socket;
 	protected Context context;
 	protected Logger logger;
+	protected Semaphore connections;
+	protected int maxConnections;
+	protected int idleTimeout;
+	protected Counter rejections;
 	protected boolean open;
 
 	public SMTPServer(Context context) {
@@ -41,6 +51,16 @@ public class SMTPServer extends Thread {
 			logger = context.getLogger();
 			settings = context.getSettings(Settings.SMTP_SETTINGS);
 			languageSettings = context.getLanguageSettings(settings.getString(KeyWords.LANG));
+			maxConnections = settings.getInt32(Settings.MAX_CONNECTIONS);
+			idleTimeout = settings.getInt32(Settings.IDLE_TIMEOUT) * 1000;
+			connections = new Semaphore(maxConnections);
+
+			Metrics metrics = context.getMetrics();
+			metrics.gauge(Metrics.SMTP_CONNECTIONS, "Open SMTP connections.",
+					() -> maxConnections - connections.availablePermits());
+			rejections = metrics.counter(Metrics.SMTP_REJECTIONS,
+					"SMTP connections rejected because max_connections was reached.");
+
 			socket = new ServerSocket(settings.getInt32(KeyWords.PORT), settings.getInt32(Settings.BACKLOG),
 					InetAddress.getByName((settings.getString(Settings.BIND_ADDRESS))));
 			open = true;
@@ -52,9 +72,30 @@ public class SMTPServer extends Thread {
 	public void run() {
 		while (!socket.isClosed()) {
 			try {
-				SMTPServerConnection connection = new SMTPServerConnection(socket.accept(), context, settings, languageSettings,
-						logger);
-				connection.start();
+				Socket client = socket.accept();
+
+				if (connections.tryAcquire()) {
+					try {
+						client.setSoTimeout(idleTimeout);
+
+						SMTPServerConnection connection = new SMTPServerConnection(client, context, settings,
+								languageSettings, logger);
+
+						Thread.ofVirtual().name("smtp-" + client.getRemoteSocketAddress()).start(() -> {
+							try {
+								connection.run();
+							} finally {
+								connections.release();
+							}
+						});
+					} catch (Exception e) {
+						connections.release();
+						client.close();
+						throw e;
+					}
+				} else {
+					reject(client);
+				}
 			} catch (Exception e) {
 				if (open) {
 					logger.severe(Auth.SMTP, URL.LOCALHOST, e);
@@ -63,6 +104,17 @@ public class SMTPServer extends Thread {
 		}
 	}
 
+	protected void reject(Socket client) {
+		rejections.increment();
+
+		try (client; PrintStream output = new PrintStream(client.getOutputStream())) {
+			output.print("421 " + settings.getString(KeyWords.HOST) + " Too many connections, try again later."
+					+ SMTPServerConnection.CRLF);
+		} catch (IOException e) {
+			logger.severe(Auth.SMTP, client.getRemoteSocketAddress().toString(), e);
+		}
+	}
+
 	public void close() {
 		open = false;
 
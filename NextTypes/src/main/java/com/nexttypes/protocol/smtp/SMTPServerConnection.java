@@ -16,14 +16,20 @@
 
 package com.nexttypes.protocol.smtp;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
 
 import com.nexttypes.datatypes.Auth;
 import com.nexttypes.datatypes.NXObject;
+import com.nexttypes.datatypes.PT;
+import com.nexttypes.datatypes.TypeField;
 import com.nexttypes.enums.NodeMode;
 import com.nexttypes.exceptions.NXException;
 import com.nexttypes.logging.Logger;
@@ -34,7 +40,14 @@ import com.nexttypes.system.KeyWords;
 import com.nexttypes.system.Context;
 import com.nexttypes.system.Loader;
 
-public class SMTPServerConnection extends Thread {
+public class SMTPServerConnection implements Runnable {
+	public static final String CRLF = "\r\n";
+	public static final String RAW_EMAIL = "raw_email";
+	public static final String DATA = "data";
+	public static final String SIZE_PARAMETER = "SIZE=";
+	public static final String LAST = "LAST";
+	public static final int LINE_LENGTH = 8192;
+
 	protected String host;
 	protected Settings settings;
 	protected LanguageSettings languageSettings;
@@ -42,13 +55,16 @@ public class SMTPServerConnection extends Thread {
 	protected String remoteAddress;
 	protected Context context;
 	protected Logger logger;
-	protected Node nextNode;
-	protected BufferedReader input;
-	protected PrintStream output;
+	protected InputStream input;
+	protected OutputStream output;
+	protected int maxMessageSize;
+	protected int memoryThreshold;
+	protected byte[] line = new byte[LINE_LENGTH];
+	protected int lineLength;
 
 	protected String mailFrom;
 	protected StringBuilder rcptTo = new StringBuilder();
-	protected StringBuilder data = new StringBuilder();
+	protected SMTPMessage message;
 
 	public SMTPServerConnection(Socket socket, Context context, Settings settings, LanguageSettings languageSettings, Logger logger) {
 		this.socket = socket;
@@ -59,72 +75,244 @@ public class SMTPServerConnection extends Thread {
 		this.logger = logger;
 
 		host = settings.getString(KeyWords.HOST);
+		maxMessageSize = settings.getInt32(Settings.MAX_MESSAGE_SIZE);
+		memoryThreshold = settings.getInt32(Settings.MEMORY_THRESHOLD);
 	}
 
-	public void init() {
+	public void init() throws IOException {
 		write("220 " + host + " NextTypes SMTP");
 	}
 
-	public void ok() {
+	public void ok() throws IOException {
 		write("250 OK");
 	}
 
-	public void ehlo() {
+	public void ehlo() throws IOException {
 		write("250-" + host);
-		write("250 SIZE 10240000");
+		write("250-SIZE " + maxMessageSize);
+		write("250-PIPELINING");
+		write("250-8BITMIME");
+		write("250 CHUNKING");
 	}
 
-	public void mailFrom(String command) {
-		mailFrom = command.substring(10, command.length());
+	public void mailFrom(String command) throws IOException {
+		String[] parameters = command.substring(10, command.length()).trim().split(" ");
+
+		for (int x = 1; x < parameters.length; x++) {
+			if (parameters[x].toUpperCase().startsWith(SIZE_PARAMETER)) {
+				long size;
+
+				try {
+					size = Long.parseLong(parameters[x].substring(SIZE_PARAMETER.length()));
+				} catch (NumberFormatException e) {
+					syntaxError();
+					return;
+				}
+
+				if (size > maxMessageSize) {
+					exceeded();
+					return;
+				}
+			}
+		}
+
+		mailFrom = parameters[0];
 		ok();
 	}
 
-	public void rcptTo(String command) {
+	public void rcptTo(String command) throws IOException {
 		rcptTo.append(command.substring(8, command.length()) + ",");
 		ok();
 	}
 
 	public void data() throws IOException {
+		if (!checkSequence()) {
+			return;
+		}
+
 		write("354 Start mail input; end with <CRLF>.<CRLF>");
 
-		String line = null;
+		message = new SMTPMessage(maxMessageSize, memoryThreshold);
+		boolean lineStart = true;
 
 		while (true) {
-			line = input.readLine();
-			if (line.equals(".")) {
-				insertRawEmailObject();
+			if (!readLine()) {
+				throw new EOFException();
+			}
+
+			if (lineStart && isEndOfData()) {
 				break;
+			} else if (lineStart && line[0] == '.') {
+				message.write(line, 1, lineLength - 1);
 			} else {
-				data.append(line + "\n");
+				message.write(line, 0, lineLength);
 			}
+
+			lineStart = line[lineLength - 1] == '\n';
+		}
+
+		endMessage();
+	}
+
+	public void bdat(String command) throws IOException {
+		String[] parameters = command.trim().split(" +");
+		long size;
+
+		try {
+			size = Long.parseLong(parameters[1]);
+		} catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+			syntaxError();
+			return;
+		}
+
+		boolean last = parameters.length > 2 && LAST.equalsIgnoreCase(parameters[2]);
+
+		if (message == null) {
+			message = new SMTPMessage(maxMessageSize, memoryThreshold);
+		}
+
+		long remaining = size;
+
+		while (remaining > 0) {
+			int length = input.read(line, 0, (int) Math.min(line.length, remaining));
+
+			if (length == -1) {
+				throw new EOFException();
+			}
+
+			message.write(line, 0, length);
+			remaining -= length;
+		}
+
+		if (last) {
+			if (checkSequence()) {
+				endMessage();
+			} else {
+				resetMessage();
+			}
+		} else if (message.isExceeded()) {
+			exceeded();
+		} else {
+			write("250 " + size + " octets received");
+		}
+	}
+
+	protected void endMessage() throws IOException {
+		if (message.isExceeded()) {
+			exceeded();
+		} else {
+			insertRawEmailObject();
+		}
+
+		resetMessage();
+		mailFrom = null;
+		rcptTo = new StringBuilder();
+	}
+
+	protected boolean checkSequence() throws IOException {
+		boolean valid = mailFrom != null && rcptTo.length() > 0;
+
+		if (!valid) {
+			write("503 Bad sequence of commands");
 		}
+
+		return valid;
+	}
+
+	protected boolean isEndOfData() {
+		return (lineLength == 3 && line[0] == '.' && line[1] == '\r' && line[2] == '\n')
+				|| (lineLength == 2 && line[0] == '.' && line[1] == '\n');
 	}
 
-	public void rset() {
+	public void syntaxError() throws IOException {
+		write("501 Syntax error in parameters or arguments");
+	}
+
+	public void notImplemented() throws IOException {
+		write("502 Command not implemented");
+	}
+
+	public void exceeded() throws IOException {
+		write("552 Message size exceeds fixed maximum message size");
+	}
+
+	public void rset() throws IOException {
 		mailFrom = null;
 		rcptTo = new StringBuilder();
-		data = new StringBuilder();
+		resetMessage();
 		ok();
 	}
 
-	public void noop() {
+	protected void resetMessage() throws IOException {
+		if (message != null) {
+			message.close();
+			message = null;
+		}
+	}
+
+	public void noop() throws IOException {
 		ok();
 	}
 
-	public void write(String message) {
-		output.println(message);
+	public void write(String message) throws IOException {
+		output.write((message + CRLF).getBytes(StandardCharsets.UTF_8));
 	}
 
-	public void quit() {
+	public void quit() throws IOException {
 		write("221 " + host + " NextTypes SMTP closing connection.");
 	}
 
-	public void insertRawEmailObject() {
-		try {
-			NXObject object = new NXObject("raw_email");
+	protected boolean readLine() throws IOException {
+		if (input.available() == 0) {
+			output.flush();
+		}
+
+		lineLength = 0;
+
+		while (lineLength < line.length) {
+			int b = input.read();
+
+			if (b == -1) {
+				break;
+			}
+
+			line[lineLength++] = (byte) b;
+
+			if (b == '\n') {
+				break;
+			}
+		}
+
+		return lineLength > 0;
+	}
+
+	protected String readCommand() throws IOException {
+		String command = null;
+
+		if (readLine()) {
+			if (line[lineLength - 1] == '\n') {
+				command = new String(line, 0, lineLength, StandardCharsets.ISO_8859_1).strip();
+			} else {
+				while (readLine() && line[lineLength - 1] != '\n');
+				command = "";
+				write("500 Line too long");
+			}
+		}
+
+		return command;
+	}
+
+	public void insertRawEmailObject() throws IOException {
+		try (Node nextNode = Loader.loadNode(settings.getString(Settings.NEXT_NODE), new Auth(Auth.SMTP),
+				NodeMode.WRITE, settings.getString(KeyWords.LANG), remoteAddress, context, true)) {
+
+			TypeField dataField = nextNode.getTypeField(RAW_EMAIL, DATA);
+
+			NXObject object = new NXObject(RAW_EMAIL);
 			object.put("mail_from", mailFrom);
 			object.put("rcpt_to", rcptTo.deleteCharAt(rcptTo.length() - 1).toString());
-			object.put("data", data.toString());
+			object.put(DATA, dataField != null && PT.BINARY.equals(dataField.getType()) ? message
+					: message.getText());
 			nextNode.insert(object);
 			nextNode.commit();
 			ok();
@@ -134,21 +322,20 @@ public class SMTPServerConnection extends Thread {
 		}
 	}
 
-	public void error(String message) {
+	public void error(String message) throws IOException {
 		write("451 Error: " + message);
 	}
 
+	public void timeout() throws IOException {
+		write("421 " + host + " Idle timeout, closing connection.");
+	}
+
 	public void run() {
 
 		try (
-			Node nextNode = Loader.loadNode(settings.getString(Settings.NEXT_NODE),
-				new Auth(Auth.SMTP), NodeMode.WRITE, settings.getString(KeyWords.LANG),
-				remoteAddress, context, true);
-				
-			BufferedReader input = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-			PrintStream output = new PrintStream(socket.getOutputStream())) {
-
-			this.nextNode = nextNode;
+			InputStream input = new BufferedInputStream(socket.getInputStream());
+			OutputStream output = new BufferedOutputStream(socket.getOutputStream())) {
+
 			this.input = input;
 			this.output = output;
 
@@ -157,16 +344,27 @@ public class SMTPServerConnection extends Thread {
 			String command = null;
 
 			while (true) {
-				command = input.readLine();
+				try {
+					command = readCommand();
+				} catch (SocketTimeoutException e) {
+					timeout();
+					break;
+				}
 
-				if (command.toUpperCase().startsWith("EHLO")) {
+				if (command == null) {
+					break;
+				} else if (command.toUpperCase().startsWith("EHLO")) {
 					ehlo();
+				} else if (command.toUpperCase().startsWith("HELO")) {
+					write("250 " + host);
 				} else if (command.toUpperCase().startsWith("MAIL FROM:")) {
 					mailFrom(command);
 				} else if (command.toUpperCase().startsWith("RCPT TO:")) {
 					rcptTo(command);
 				} else if (command.toUpperCase().startsWith("DATA")) {
 					data();
+				} else if (command.toUpperCase().startsWith("BDAT")) {
+					bdat(command);
 				} else if (command.toUpperCase().startsWith("RSET")) {
 					rset();
 				} else if (command.toUpperCase().startsWith("NOOP")) {
@@ -174,14 +372,19 @@ public class SMTPServerConnection extends Thread {
 				} else if (command.toUpperCase().startsWith("QUIT")) {
 					quit();
 					break;
+				} else if (command.length() > 0) {
+					notImplemented();
 				}
 			}
 
+			output.flush();
+
 		} catch (Exception e) {
 			logger.severe(Auth.SMTP, remoteAddress, e);
 
 		} finally {
 			try {
+				resetMessage();
 				socket.close();
 			} catch (IOException e) {
 				logger.severe(Auth.SMTP, remoteAddress, e);
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.nexttypes.datatypes.Auth;
+import com.nexttypes.exceptions.NXException;
+import com.nexttypes.settings.Settings;
+import com.nexttypes.system.Constants;
+
+public class CredentialsCache {
+	public static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	protected SecretKeySpec key;
+	protected ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::createMac);
+	protected ConcurrentHashMap<String, Credentials> credentials = new ConcurrentHashMap<>();
+	protected long ttl;
+	protected int size;
+	protected AtomicLong generation = new AtomicLong();
+	protected LongAdder hits = new LongAdder();
+	protected LongAdder misses = new LongAdder();
+
+	public CredentialsCache(Settings settings) {
+		ttl = settings.getInt64(Settings.CREDENTIALS_CACHE_TTL) * Constants.SECOND_MILLISECONDS;
+		size = settings.getInt32(Settings.CREDENTIALS_CACHE_SIZE);
+
+		byte[] bytes = new byte[32];
+		new SecureRandom().nextBytes(bytes);
+		key = new SecretKeySpec(bytes, HMAC_ALGORITHM);
+	}
+
+	protected Mac createMac() {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(key);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new NXException(e);
+		}
+	}
+
+	protected String hmac(String user, String password) {
+		byte[] hmac = macs.get().doFinal((user + "\u0000" + password).getBytes(StandardCharsets.UTF_8));
+		return Base64.getEncoder().encodeToString(hmac);
+	}
+
+	public boolean isEnabled() {
+		return ttl > 0 && size > 0;
+	}
+
+	public Auth get(String user, String password) {
+		Auth auth = null;
+
+		if (isEnabled()) {
+			Credentials entry = credentials.get(hmac(user, password));
+
+			if (entry != null && entry.expires > System.currentTimeMillis()) {
+				auth = new Auth(user, entry.groups != null ? entry.groups.clone() : null, false);
+				hits.increment();
+			} else {
+				misses.increment();
+			}
+		}
+
+		return auth;
+	}
+
+	public long getGeneration() {
+		return generation.get();
+	}
+
+	public void put(String user, String password, String[] groups, long generation) {
+		if (isEnabled() && generation == this.generation.get()) {
+			long now = System.currentTimeMillis();
+
+			if (credentials.size() >= size) {
+				credentials.values().removeIf(entry -> entry.expires <= now);
+			}
+
+			if (credentials.size() < size) {
+				String key = hmac(user, password);
+				Credentials entry = new Credentials(groups != null ? groups.clone() : null, now + ttl);
+				credentials.put(key, entry);
+
+				if (generation != this.generation.get()) {
+					credentials.remove(key, entry);
+				}
+			}
+		}
+	}
+
+	public void clear() {
+		generation.incrementAndGet();
+		credentials.clear();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public int getSize() {
+		return credentials.size();
+	}
+
+	protected static class Credentials {
+		protected String[] groups;
+		protected long expires;
+
+		protected Credentials(String[] groups, long expires) {
+			this.groups = groups;
+			this.expires = expires;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.nexttypes.settings.Settings;
+import com.nexttypes.system.Constants;
+
+public class PermissionsCache {
+	protected ConcurrentHashMap<String, Decision> decisions = new ConcurrentHashMap<>();
+	protected long ttl;
+	protected int size;
+	protected LongAdder hits = new LongAdder();
+	protected LongAdder misses = new LongAdder();
+
+	public PermissionsCache(Settings settings) {
+		ttl = settings.getInt64(Settings.PERMISSIONS_CACHE_TTL) * Constants.SECOND_MILLISECONDS;
+		size = settings.getInt32(Settings.PERMISSIONS_CACHE_SIZE);
+	}
+
+	public boolean isEnabled() {
+		return ttl > 0 && size > 0;
+	}
+
+	public Boolean get(String user, String key) {
+		Boolean allowed = null;
+
+		if (isEnabled()) {
+			Decision entry = decisions.get(user + "\u0000" + key);
+
+			if (entry != null && entry.expires > System.currentTimeMillis()) {
+				allowed = entry.allowed;
+				hits.increment();
+			} else {
+				misses.increment();
+			}
+		}
+
+		return allowed;
+	}
+
+	public void put(String user, String key, boolean allowed) {
+		if (isEnabled()) {
+			long now = System.currentTimeMillis();
+
+			if (decisions.size() >= size) {
+				decisions.values().removeIf(entry -> entry.expires <= now);
+			}
+
+			if (decisions.size() < size) {
+				decisions.put(user + "\u0000" + key, new Decision(allowed, now + ttl));
+			}
+		}
+	}
+
+	public void clear() {
+		decisions.clear();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public int getSize() {
+		return decisions.size();
+	}
+
+	protected static class Decision {
+		protected boolean allowed;
+		protected long expires;
+
+		protected Decision(boolean allowed, long expires) {
+			this.allowed = allowed;
+			this.expires = expires;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.nexttypes.datatypes.Auth;
+import com.nexttypes.exceptions.InvalidValueException;
+import com.nexttypes.exceptions.NXException;
+import com.nexttypes.settings.Settings;
+import com.nexttypes.system.Constants;
+import com.nexttypes.system.Utils;
+
+public class SessionTokens {
+	public static final String HMAC_ALGORITHM = "HmacSHA256";
+	public static final String SEPARATOR = "\u0000";
+	public static final String REQUEST_ATTRIBUTE = "com.nexttypes.session_token";
+
+	protected boolean enabled;
+	protected long ttl;
+	protected String signingKey;
+	protected LinkedHashMap<String, SecretKeySpec> keys = new LinkedHashMap<>();
+	protected ThreadLocal<HashMap<String, Mac>> macs = ThreadLocal.withInitial(HashMap::new);
+
+	public SessionTokens(Settings settings) {
+		enabled = Boolean.TRUE.equals(settings.getBoolean(Settings.SESSION_TOKENS));
+		ttl = settings.getInt64(Settings.SESSION_TOKEN_TTL) * Constants.SECOND_MILLISECONDS;
+
+		String[] keys = settings.getStringArray(Settings.SESSION_TOKEN_KEYS);
+
+		if (keys != null) {
+			for (String key : keys) {
+				int separatorIndex = key.indexOf(":");
+				String id = separatorIndex > 0 ? key.substring(0, separatorIndex) : null;
+
+				if (id == null || id.contains(".")) {
+					throw new InvalidValueException(NXException.INVALID_SESSION_TOKEN_KEY, id);
+				}
+
+				SecretKeySpec secret = null;
+
+				try {
+					secret = new SecretKeySpec(Base64.getDecoder().decode(key.substring(separatorIndex + 1)),
+							HMAC_ALGORITHM);
+				} catch (IllegalArgumentException e) {
+					throw new InvalidValueException(NXException.INVALID_SESSION_TOKEN_KEY, id);
+				}
+
+				this.keys.put(id, secret);
+
+				if (signingKey == null) {
+					signingKey = id;
+				}
+			}
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled && signingKey != null;
+	}
+
+	public String create(Auth auth, String sessionToken) {
+		String groups = auth.getGroups() != null ? String.join(",", auth.getGroups()) : "";
+		long expires = System.currentTimeMillis() + ttl;
+
+		String payload = encode(auth.getUser() + SEPARATOR + groups + SEPARATOR + sessionToken
+				+ SEPARATOR + expires);
+		String data = signingKey + "." + payload;
+
+		return data + "." + encode(sign(signingKey, data));
+	}
+
+	public Token verify(String value) {
+		Token token = null;
+
+		if (isEnabled() && value != null) {
+			String[] parts = value.split("\\.");
+
+			if (parts.length == 3 && keys.containsKey(parts[0])) {
+				try {
+					byte[] signature = Base64.getUrlDecoder().decode(parts[2]);
+
+					if (MessageDigest.isEqual(signature, sign(parts[0], parts[0] + "." + parts[1]))) {
+						String payload = new String(Base64.getUrlDecoder().decode(parts[1]),
+								StandardCharsets.UTF_8);
+						String[] fields = payload.split(SEPARATOR, -1);
+
+						if (fields.length == 4) {
+							long expires = Long.parseLong(fields[3]);
+
+							if (expires > System.currentTimeMillis()) {
+								token = new Token(fields[0], Utils.split(fields[1]), fields[2], expires);
+							}
+						}
+					}
+				} catch (IllegalArgumentException e) {
+					token = null;
+				}
+			}
+		}
+
+		return token;
+	}
+
+	protected byte[] sign(String key, String data) {
+		HashMap<String, Mac> macs = this.macs.get();
+		Mac mac = macs.get(key);
+
+		if (mac == null) {
+			try {
+				mac = Mac.getInstance(HMAC_ALGORITHM);
+				mac.init(keys.get(key));
+			} catch (GeneralSecurityException e) {
+				throw new NXException(e);
+			}
+
+			macs.put(key, mac);
+		}
+
+		return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+	}
+
+	protected String encode(String value) {
+		return encode(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	protected String encode(byte[] value) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+	}
+
+	public long getTTL() {
+		return ttl;
+	}
+
+	public static class Token {
+		protected String user;
+		protected String[] groups;
+		protected String sessionToken;
+		protected long expires;
+
+		protected Token(String user, String[] groups, String sessionToken, long expires) {
+			this.user = user;
+			this.groups = groups;
+			this.sessionToken = sessionToken;
+			this.expires = expires;
+		}
+
+		public String getUser() {
+			return user;
+		}
+
+		public String[] getGroups() {
+			return groups;
+		}
+
+		public String getSessionToken() {
+			return sessionToken;
+		}
+
+		public long getExpires() {
+			return expires;
+		}
+
+		public boolean isGuest() {
+			return Auth.GUEST.equals(user);
+		}
+
+		public Auth getAuth() {
+			return new Auth(user, groups, !isGuest());
+		}
+	}
+}
\ No newline at end of file
@@ -28,6 +28,10 @@ public class LanguageSettings extends TypeSettings {
 		super(settings);
 	}
 
+	public LanguageSettings(SettingsSnapshot snapshot) {
+		super(snapshot);
+	}
+
 	public String getTypeName(String type) {
 		return getTypeString(type, KeyWords.TYPE + "." + KeyWords.NAME, type);
 	}
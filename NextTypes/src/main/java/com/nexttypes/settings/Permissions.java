@@ -18,7 +18,8 @@ package com.nexttypes.settings;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Properties;
+import java.util.HashMap;
+import java.util.HashSet;
 
 import org.apache.commons.lang3.ArrayUtils;
 
@@ -28,13 +29,15 @@ import com.nexttypes.datatypes.NXObject;
 import com.nexttypes.exceptions.UnauthorizedActionException;
 import com.nexttypes.exceptions.UnauthorizedReferenceException;
 import com.nexttypes.nodes.Node;
+import com.nexttypes.security.PermissionsCache;
 import com.nexttypes.system.KeyWords;
 
 public class Permissions extends TypeSettings {
 	protected Auth auth;
 	protected Node nextNode;
+	protected HashMap<String, Boolean> decisions = new HashMap<>();
 	
-	public Permissions(ArrayList<Properties> settings, Auth auth, Node nextNode) {
+	public Permissions(SettingsSnapshot settings, Auth auth, Node nextNode) {
 		super(settings);
 		
 		this.auth = auth;
@@ -114,9 +117,63 @@ public class Permissions extends TypeSettings {
 	}
 	
 	public String[] isAllowed(String type, String[] objects, String action) {
+		if (objects == null || objects.length == 0) {
+			return getDisallowedObjects(type, objects, action);
+		}
+		
+		PermissionsCache cache = nextNode.getContext().getPermissionsCache();
+		String user = auth.getUser();
+		ArrayList<String> pendingObjects = new ArrayList<>();
+		
+		for (String object : objects) {
+			String key = decisionKey(type, object, action);
+			
+			if (!decisions.containsKey(key)) {
+				Boolean allowed = cache.get(user, key);
+				
+				if (allowed != null) {
+					decisions.put(key, allowed);
+				} else {
+					pendingObjects.add(object);
+				}
+			}
+		}
+		
+		if (pendingObjects.size() > 0) {
+			String[] disallowedObjects = getDisallowedObjects(type,
+					pendingObjects.toArray(new String[] {}), action);
+			
+			if (disallowedObjects == null) {
+				return null;
+			}
+			
+			HashSet<String> disallowed = new HashSet<>(Arrays.asList(disallowedObjects));
+			
+			for (String object : pendingObjects) {
+				String key = decisionKey(type, object, action);
+				boolean allowed = !disallowed.contains(object);
+				
+				decisions.put(key, allowed);
+				cache.put(user, key, allowed);
+			}
+		}
+		
+		return Arrays.stream(objects).filter(object -> !decisions.get(decisionKey(type, object, action)))
+				.toArray(String[]::new);
+	}
+	
+	protected String[] getDisallowedObjects(String type, String[] objects, String action) {
 		return isAllowed(type, action) ? new String[] {} : objects;
 	}
 	
+	protected String decisionKey(String type, String id, String action) {
+		return type + "\u0000" + id + "\u0000" + action;
+	}
+	
+	public String getFilter(String type, String action, ArrayList<Object> parameters) {
+		return null;
+	}
+	
 	public String[] isAllowed(String type, NXObject[] objects, String action) {
 		return isAllowed(type, Arrays.stream(objects).map(object -> object.getId())
 				.toArray(String[]::new), action);
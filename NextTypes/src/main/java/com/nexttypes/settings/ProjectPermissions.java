@@ -17,7 +17,6 @@
 package com.nexttypes.settings;
 
 import java.util.ArrayList;
-import java.util.Properties;
 
 import com.nexttypes.controllers.ProjectController;
 import com.nexttypes.datatypes.Auth;
@@ -28,14 +27,14 @@ public class ProjectPermissions extends Permissions {
 
 	protected Node nextNode;
 	
-	public ProjectPermissions(ArrayList<Properties> settings, Auth auth, Node nextNode) {
+	public ProjectPermissions(SettingsSnapshot settings, Auth auth, Node nextNode) {
 		super(settings, auth, nextNode);
 		
 		this.nextNode = nextNode;
 	}
 	
 	@Override
-	public String[] isAllowed(String type, String[] objects, String action) {
+	protected String[] getDisallowedObjects(String type, String[] objects, String action) {
 						
 		if ((auth.isGuest() || auth.isAdministrator()) && isAllowed(type, action)) {
 			return new String[] {};
@@ -138,6 +137,77 @@ public class ProjectPermissions extends Permissions {
 		return nextNode.getStringArray(sql, parameters);
 	}
 	
+	@Override
+	public String getFilter(String type, String action, ArrayList<Object> parameters) {
+		
+		if ((auth.isGuest() || auth.isAdministrator()) && isAllowed(type, action)) {
+			return null;
+		}
+		
+		String user = auth.getUser();
+		String member = "(p.owner = ? or exists (select 1 from project_member pm"
+				+ " where pm.project = p.id and pm.member = ?))";
+		String filter = null;
+		
+		root:
+		switch (type) {
+		case ProjectController.PROJECT:
+			
+			switch (action) {
+			case Action.UPDATE:
+			case Action.UPDATE_FIELD:
+			case Action.UPDATE_FORM:
+			case Action.UPDATE_ID:
+			case Action.UPDATE_ID_FORM:
+			case Action.DELETE:
+				filter = "\"project\".owner = ?";
+				parameters.add(user);
+				break;
+				
+			default:
+				filter = "exists (select 1 from project p where p.id = \"project\".id and " + member + ")";
+				parameters.add(user);
+				parameters.add(user);
+			}
+			
+			break;
+			
+		case ProjectController.PROJECT_DOCUMENT_CHAPTER:
+		case ProjectController.PROJECT_MEETING_PARTICIPANT:
+		case ProjectController.PROJECT_TICKET_MESSAGE:
+			filter = "exists (select 1 from \"" + ProjectController.getReferencedType(type) + "\" rtype"
+					+ " join project p on rtype.project = p.id"
+					+ " where rtype.id = \"" + type + "\".\"" + ProjectController.getReferencingField(type)
+					+ "\" and " + member + ")";
+			parameters.add(user);
+			parameters.add(user);
+			
+			break;
+			
+		case ProjectController.PROJECT_MEMBER:
+			switch (action) {
+			case Action.UPDATE:
+			case Action.UPDATE_FIELD:
+			case Action.UPDATE_FORM:
+			case Action.UPDATE_ID:
+			case Action.UPDATE_ID_FORM:
+			case Action.DELETE:
+				filter = "exists (select 1 from project p where p.id = \"project_member\".project and p.owner = ?)";
+				parameters.add(user);
+				
+				break root;
+			}
+			
+		default:
+			filter = "exists (select 1 from project p where p.id = \"" + type + "\".project and "
+					+ member + ")";
+			parameters.add(user);
+			parameters.add(user);
+		}
+		
+		return filter;
+	}
+	
 	@Override
 	public boolean isAllowedToMakeReference(String referencingType, String referencingId,
 			String referencingfield, String referencedType, String referencedId) {
@@ -20,8 +20,8 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Properties;
 
+import com.nexttypes.datatypes.PT;
 import com.nexttypes.datatypes.Tuple;
-import com.nexttypes.system.Utils;
 
 public class Settings {
 
@@ -42,6 +42,9 @@ public class Settings {
 	public static final String PERMISSIONS_SETTINGS = "permissions.properties";
 	public static final String CONTEXT_SETTINGS = "context.properties";
 	public static final String CLAMAV_SETTINGS = "clamav.properties";
+	public static final String TRACING_SETTINGS = "tracing.properties";
+	public static final String OUTBOX_SETTINGS = "outbox.properties";
+	public static final String JOBS_SETTINGS = "jobs.properties";
 
 	public static final String DEFAULT_SETTINGS = "/com/nexttypes/settings/defaults/";
 	public static final String SETTINGS_DIRECTORY = "settings_directory";
@@ -52,15 +55,20 @@ public class Settings {
 	public static final String BACKLOG = "backlog";
 	public static final String BASIC_AUTH_REALM = "basic_auth_realm";
 	public static final String BASIC_AUTH_USER_AGENTS = "basic_auth_user_agents";
+	public static final String BATCH_SIZE = "batch_size";
 	public static final String BINARY_DEBUG = "binary_debug";
 	public static final String BINARY_DEBUG_LIMIT = "binary_debug_limit";
 	public static final String BIND_ADDRESS = "bind_address";
 	public static final String CALENDAR_TITLE = "calendar_title";
+	public static final String CATCH_UP = "catch_up";
 	public static final String CHECK_UNCHECK_ALL = "check_uncheck_all";
 	public static final String CONTENT_SECURITY_POLICY = "content_security_policy";
 	public static final String CONTROL_PANEL = "control_panel";
 	public static final String CREATE_TITLE = "create_title";
 	public static final String CREATION_DATE = "creation_date";
+	public static final String CREDENTIALS_CACHE_SIZE = "credentials_cache_size";
+	public static final String CREDENTIALS_CACHE_TTL = "credentials_cache_ttl";
+	public static final String CRON = "cron";
 	public static final String DATE_FORMAT = "date_format";
 	public static final String DATETIME_FORMAT = "datetime_format";
 	public static final String DEFAULT_LANG = "default_lang";
@@ -72,26 +80,38 @@ public class Settings {
 	public static final String EXECUTE_ACTION_TITLE = "execute_action_title";
 	public static final String EXISTING_OBJECTS_ACTIONS = "existing_objects_actions";
 	public static final String EXISTING_TYPES_ACTIONS = "existing_types_actions";
+	public static final String EXPORTER = "exporter";
+	public static final String FLUSH_INTERVAL = "flush_interval";
+	public static final String FLUSH_SIZE = "flush_size";
 	public static final String FULLTEXT_SEARCH_TYPES = "fulltext_search_types";
 	public static final String HTML_ALLOWED_TAGS = "html_allowed_tags";
 	public static final String HTTPS_PORT = "https_port";
 	public static final String ID_INPUT_SIZE = "id_input_size";
 	public static final String ID_NAME = "id_name";
+	public static final String IDLE_TIMEOUT = "idle_timeout";
 	public static final String INDEX_TYPES = "index_types";
 	public static final String INPUT_SIZE = "input_size";
 	public static final String INSERT_TITLE = "insert_title";
 	public static final String JAVASCRIPT_DISABLED_WARNING = "javascript_disabled_warning";
+	public static final String LEASE_TIME = "lease_time";
+	public static final String LIST_SIZE = "list_size";
 	public static final String LOGIN_TITLE = "login_title";
 	public static final String LOGO_SIZES = "logo_sizes";
 	public static final String LOGO_SRCSET = "logo_srcset";
 	public static final String LOGO_TEXT = "logo_text";
 	public static final String LOGO_URL = "logo_url";
 	public static final String LONG_OBJECTS_COUNT = "long_objects_count";
+	public static final String MAX_ATTEMPTS = "max_attempts";
 	public static final String MAX_AUTH_ERRORS = "max_auth_errors";
 	public static final String MAX_CONNECTIONS = "max_connections";
 	public static final String MAX_INSERTS = "max_inserts";
+	public static final String MAX_MESSAGE_SIZE = "max_message_size";
 	public static final String MAX_REQUESTS = "max_requests";
+	public static final String MAX_RETRY_DELAY = "max_retry_delay";
 	public static final String MAX_TIME = "max_time";
+	public static final String MEMORY_THRESHOLD = "memory_threshold";
+	public static final String METRICS_JMX = "metrics_jmx";
+	public static final String METRICS_MAX_SERIES = "metrics_max_series";
 	public static final String NEXT_NODE = "next_node";
 	public static final String OBJECT_ID_SUCCESSFULLY_UPDATED = "object_id_successfully_updated";
 	public static final String OBJECT_INPUT_MODE = "object_input_mode";
@@ -108,7 +128,11 @@ public class Settings {
 	public static final String OBJECTS_SUCCESSFULLY_IMPORTED = "objects_successfully_imported";
 	public static final String OFFSET_TEXT_MODE = "offset_text_mode";
 	public static final String OTHER_TYPES = "other_types";
+	public static final String OVERFLOW = "overflow";
 	public static final String PASSWORD_SUCCESSFULLY_UPDATED = "password_successfully_updated";
+	public static final String PERMISSIONS_CACHE_SIZE = "permissions_cache_size";
+	public static final String PERMISSIONS_CACHE_TTL = "permissions_cache_ttl";
+	public static final String POLL_INTERVAL = "poll_interval";
 	public static final String POOL = "pool";
 	public static final String PORT = "port";
 	public static final String PREVIEW_TITLE = "preview_title";
@@ -119,10 +143,20 @@ public class Settings {
 	public static final String PRINT_REFERENCES_TITLE = "print_references_title";
 	public static final String PRINT_TYPE_TITLE = "print_type_title";
 	public static final String PRINT_TYPES_TITLE = "print_types_title";
+	public static final String QUERY_STATISTICS_SIZE = "query_statistics_size";
+	public static final String QUEUE_SIZE = "queue_size";
+	public static final String RATE_LIMITER = "rate_limiter";
+	public static final String RATE_LIMITER_SIZE = "rate_limiter_size";
+	public static final String RATE_LIMITER_SYNC_INTERVAL = "rate_limiter_sync_interval";
 	public static final String READ_MORE = "read_more";
 	public static final String REFERRER_POLICY = "referrer_policy";
 	public static final String RENAME_TITLE = "rename_title";
+	public static final String RETRY_DELAY = "retry_delay";
+	public static final String SAMPLE_RATE = "sample_rate";
 	public static final String SELECT_TITLE = "select_title";
+	public static final String SESSION_TOKEN_KEYS = "session_token_keys";
+	public static final String SESSION_TOKEN_TTL = "session_token_ttl";
+	public static final String SESSION_TOKENS = "session_tokens";
 	public static final String SHOW_CONTROL_PANEL = "show_control_panel";
 	public static final String SHOW_DEFAULT = "show_default";
 	public static final String SHOW_HEADER = "show_header";
@@ -133,9 +167,13 @@ public class Settings {
 	public static final String SHOW_RANGE = "show_range";
 	public static final String SHOW_TYPE = "show_type";
 	public static final String SHOW_VALIDATORS = "show_validators";
+	public static final String SLOW_QUERY_PLAN_SAMPLE = "slow_query_plan_sample";
+	public static final String SLOW_QUERY_THRESHOLD = "slow_query_threshold";
 	public static final String SUCCESSFUL_LOGIN = "successful_login";
 	public static final String SUCCESSFUL_LOGOUT = "successful_logout";
 	public static final String TIME_FORMAT = "time_format";
+	public static final String TIME_ZONE = "time_zone";
+	public static final String TRIGGER = "trigger";
 	public static final String TYPE_NAME = "type_name";
 	public static final String TYPE_NOT_ALTERED = "type_not_altered";
 	public static final String TYPE_SUCCESSFULLY_ALTERED = "type_successfully_altered";
@@ -147,12 +185,21 @@ public class Settings {
 	public static final String UPDATE_PASSWORD_TITLE = "update_password_title";
 	public static final String UPDATE_TITLE = "update_title";
 	public static final String UPDATING_DATE = "updating_date";
+	public static final String WORKERS = "workers";
 	public static final String XML_ALLOWED_TAGS = "xml_allowed_tags";
 		
-	protected ArrayList<Properties> settings;
+	protected SettingsSnapshot snapshot;
 
 	public Settings(ArrayList<Properties> settings) {
-		this.settings = settings;
+		this(new SettingsSnapshot(settings));
+	}
+
+	public Settings(SettingsSnapshot snapshot) {
+		this.snapshot = snapshot;
+	}
+
+	public SettingsSnapshot getSnapshot() {
+		return snapshot;
 	}
 
 	public String getString(String prefix, String[] settings) {
@@ -169,49 +216,43 @@ public class Settings {
 	}
 
 	public String getString(String setting) {
-		String value = null;
-
-		for (Properties file : settings) {
-			value = Utils.trim(file.getProperty(setting));
-
-			if (value != null) {
-				break;
-			}
-		}
+		return snapshot.getString(setting);
+	}
 
-		return value;
+	protected SettingsSnapshot.Value getValue(String setting) {
+		return snapshot.getValue(setting, () -> getString(setting));
 	}
 
 	public String[] getStringArray(String setting) {
-		return Utils.split(getString(setting));
+		return getValue(setting).getStringArray();
 	}
 
 	public Short getInt16(String setting) {
-		return Tuple.parseInt16(getString(setting));
+		return getValue(setting).parse(PT.INT16, Tuple::parseInt16);
 	}
 
 	public Integer getInt32(String setting) {
-		return Tuple.parseInt32(getString(setting));
+		return getValue(setting).parse(PT.INT32, Tuple::parseInt32);
 	}
 
 	public Long getInt64(String setting) {
-		return Tuple.parseInt64(getString(setting));
+		return getValue(setting).parse(PT.INT64, Tuple::parseInt64);
 	}
 
 	public Float getFloat32(String setting) {
-		return Tuple.parseFloat32(getString(setting));
+		return getValue(setting).parse(PT.FLOAT32, Tuple::parseFloat32);
 	}
 
 	public Double getFloat64(String setting) {
-		return Tuple.parseFloat64(getString(setting));
+		return getValue(setting).parse(PT.FLOAT64, Tuple::parseFloat64);
 	}
 
 	public BigDecimal getNumeric(String setting) {
-		return Tuple.parseNumeric(getString(setting));
+		return getValue(setting).parse(PT.NUMERIC, Tuple::parseNumeric);
 	}
 
 	public Boolean getBoolean(String setting) {
-		return Tuple.parseBoolean(getString(setting));
+		return getValue(setting).parse(PT.BOOLEAN, Tuple::parseBoolean);
 	}
 
 	public Tuple getTuple(String setting) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.settings;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.nexttypes.system.Utils;
+
+public class SettingsSnapshot {
+	public static final int MAX_VALUES = 10000;
+
+	protected HashMap<String, String> settings = new HashMap<>();
+	protected ConcurrentHashMap<String, Value> values = new ConcurrentHashMap<>();
+
+	public SettingsSnapshot(ArrayList<Properties> settings) {
+		for (int x = settings.size() - 1; x >= 0; x--) {
+			Properties file = settings.get(x);
+
+			for (String setting : file.stringPropertyNames()) {
+				String value = Utils.trim(file.getProperty(setting));
+
+				if (value != null) {
+					this.settings.put(setting, value);
+				}
+			}
+		}
+	}
+
+	public String getString(String setting) {
+		return settings.get(setting);
+	}
+
+	public Value getValue(String key, Supplier<String> resolver) {
+		Value value = values.get(key);
+
+		if (value == null) {
+			value = new Value(resolver.get());
+
+			if (values.size() >= MAX_VALUES) {
+				return value;
+			}
+
+			Value current = values.putIfAbsent(key, value);
+
+			if (current != null) {
+				value = current;
+			}
+		}
+
+		return value;
+	}
+
+	public static class Value {
+		protected static final Object NULL = new Object();
+
+		protected String value;
+		protected volatile String[] array;
+		protected volatile ConcurrentHashMap<String, Object> parsedValues;
+
+		protected Value(String value) {
+			this.value = value;
+		}
+
+		public String getString() {
+			return value;
+		}
+
+		public String[] getStringArray() {
+			if (value == null) {
+				return null;
+			}
+
+			if (array == null) {
+				array = Utils.split(value);
+			}
+
+			return array.clone();
+		}
+
+		@SuppressWarnings("unchecked")
+		public <T> T parse(String type, Function<String, T> parser) {
+			if (value == null) {
+				return null;
+			}
+
+			ConcurrentHashMap<String, Object> parsedValues = this.parsedValues;
+
+			if (parsedValues == null) {
+				parsedValues = new ConcurrentHashMap<>();
+				this.parsedValues = parsedValues;
+			}
+
+			Object parsedValue = parsedValues.get(type);
+
+			if (parsedValue == null) {
+				parsedValue = parser.apply(value);
+				parsedValues.putIfAbsent(type, parsedValue != null ? parsedValue : NULL);
+			}
+
+			return parsedValue != NULL ? (T) parsedValue : null;
+		}
+	}
+}
\ No newline at end of file
@@ -23,17 +23,21 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Properties;
 
+import com.nexttypes.datatypes.PT;
 import com.nexttypes.datatypes.Tuple;
 import com.nexttypes.datatypes.TypeField;
 import com.nexttypes.enums.Format;
 import com.nexttypes.system.KeyWords;
-import com.nexttypes.system.Utils;
 
 public class TypeSettings extends Settings {
 
 	public TypeSettings(ArrayList<Properties> settings) {
 		super(settings);
 	}
+
+	public TypeSettings(SettingsSnapshot snapshot) {
+		super(snapshot);
+	}
 	
 	public String getView(String type, String view) {
 		String className = getTypeString(type, KeyWords.VIEWS + "." + view);
@@ -64,10 +68,23 @@ public class TypeSettings extends Settings {
 	}
 
 	public String getTypeString(String type, String setting) {
-		return getTypeString(type, new String[] { setting });
+		return getTypeValue(type, setting).getString();
 	}
 
 	protected String getTypeString(String type, String[] settings) {
+		return getTypeValue(type, settings).getString();
+	}
+
+	protected SettingsSnapshot.Value getTypeValue(String type, String setting) {
+		return getTypeValue(type, new String[] { setting });
+	}
+
+	protected SettingsSnapshot.Value getTypeValue(String type, String[] settings) {
+		String key = (type != null ? type : "*") + "\u0000" + String.join("\u0000", settings);
+		return snapshot.getValue(key, () -> readTypeString(type, settings));
+	}
+
+	protected String readTypeString(String type, String[] settings) {
 		String value = null;
 
 		if (type == null) {
@@ -105,27 +122,27 @@ public class TypeSettings extends Settings {
 	}
 	
 	public Short getTypeInt16(String type, String setting) {
-		return Tuple.parseInt16(getTypeString(type, setting));
+		return getTypeValue(type, setting).parse(PT.INT16, Tuple::parseInt16);
 	}
 
 	public Integer getTypeInt32(String type, String setting) {
-		return Tuple.parseInt32(getTypeString(type, setting));
+		return getTypeValue(type, setting).parse(PT.INT32, Tuple::parseInt32);
 	}
 
 	public Long getTypeInt64(String type, String setting) {
-		return Tuple.parseInt64(getTypeString(type, setting));
+		return getTypeValue(type, setting).parse(PT.INT64, Tuple::parseInt64);
 	}
 
 	public Float getTypeFloat32(String type, String setting) {
-		return Tuple.parseFloat32(getTypeString(type, setting));
+		return getTypeValue(type, setting).parse(PT.FLOAT32, Tuple::parseFloat32);
 	}
 
 	public Double getTypeFloat64(String type, String setting) {
-		return Tuple.parseFloat64(getTypeString(type, setting));
+		return getTypeValue(type, setting).parse(PT.FLOAT64, Tuple::parseFloat64);
 	}
 
 	public BigDecimal getTypeNumeric(String type, String setting) {
-		return Tuple.parseNumeric(getTypeString(type, setting));
+		return getTypeValue(type, setting).parse(PT.NUMERIC, Tuple::parseNumeric);
 	}
 	
 	public BigDecimal getTypeNumeric(String type, String setting, BigDecimal min, BigDecimal max) {
@@ -137,19 +154,19 @@ public class TypeSettings extends Settings {
 	}
 
 	public Boolean getTypeBoolean(String type, String setting) {
-		return Tuple.parseBoolean(getTypeString(type, setting));
+		return getTypeValue(type, setting).parse(PT.BOOLEAN, Tuple::parseBoolean);
 	}
 	
 	public LocalDate getTypeDate(String type, String setting) {
-		return Tuple.parseDate(getTypeString(type, setting));
+		return getTypeValue(type, setting).parse(PT.DATE, Tuple::parseDate);
 	}
 	
 	public LocalTime getTypeTime(String type, String setting) {
-		return Tuple.parseTime(getTypeString(type, setting));
+		return getTypeValue(type, setting).parse(PT.TIME, Tuple::parseTime);
 	}
 	
 	public LocalDateTime getTypeDateTime(String type, String setting) {
-		return Tuple.parseDateTime(getTypeString(type, setting));
+		return getTypeValue(type, setting).parse(PT.DATETIME, Tuple::parseDateTime);
 	}
 
 	public Tuple getTypeTuple(String type, String setting) {
@@ -157,11 +174,11 @@ public class TypeSettings extends Settings {
 	}
 	
 	public String[] getTypeStringArray(String type, String setting) {
-		return Utils.split(getTypeString(type, setting));
+		return getTypeValue(type, setting).getStringArray();
 	}
 
 	public String[] getTypeStringArray(String type, String[] settings) {
-		return Utils.split(getTypeString(type, settings));
+		return getTypeValue(type, settings).getStringArray();
 	}
 
 	public String[] getTypeStringArray(String type, String setting, String[] defaultValues) {
@@ -172,7 +189,11 @@ public class TypeSettings extends Settings {
 	//Fields Methods
 
 	public String getFieldString(String type, String field, String setting) {
-		return getTypeString(type, new String[] {
+		return getFieldValue(type, field, setting).getString();
+	}
+
+	protected SettingsSnapshot.Value getFieldValue(String type, String field, String setting) {
+		return getTypeValue(type, new String[] {
 				KeyWords.FIELDS + "." + field + "." + setting,
 				KeyWords.FIELDS + "." + setting
 		});
@@ -183,27 +204,27 @@ public class TypeSettings extends Settings {
 	}
 	
 	public Short getFieldInt16(String type, String field, String setting) {
-		return Tuple.parseInt16(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).parse(PT.INT16, Tuple::parseInt16);
 	}
 
 	public Integer getFieldInt32(String type, String field, String setting) {
-		return Tuple.parseInt32(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).parse(PT.INT32, Tuple::parseInt32);
 	}
 
 	public Long getFieldInt64(String type, String field, String setting) {
-		return Tuple.parseInt64(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).parse(PT.INT64, Tuple::parseInt64);
 	}
 
 	public Float getFieldFloat32(String type, String field, String setting) {
-		return Tuple.parseFloat32(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).parse(PT.FLOAT32, Tuple::parseFloat32);
 	}
 
 	public Double getFieldFloat64(String type, String field, String setting) {
-		return Tuple.parseFloat64(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).parse(PT.FLOAT64, Tuple::parseFloat64);
 	}
 
 	public BigDecimal getFieldNumeric(String type, String field, String setting) {
-		return Tuple.parseNumeric(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).parse(PT.NUMERIC, Tuple::parseNumeric);
 	}
 	
 	public BigDecimal getFieldNumeric(String type, String field, String setting, BigDecimal min,
@@ -216,19 +237,19 @@ public class TypeSettings extends Settings {
 	}
 	
 	public Boolean getFieldBoolean(String type, String field, String setting) {
-		return Tuple.parseBoolean(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).parse(PT.BOOLEAN, Tuple::parseBoolean);
 	}
 	
 	public LocalDate getFieldDate(String type, String field, String setting) {
-		return Tuple.parseDate(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).parse(PT.DATE, Tuple::parseDate);
 	}
 	
 	public LocalTime getFieldTime(String type, String field, String setting) {
-		return Tuple.parseTime(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).parse(PT.TIME, Tuple::parseTime);
 	}
 	
 	public LocalDateTime getFieldDateTime(String type, String field, String setting) {
-		return Tuple.parseDateTime(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).parse(PT.DATETIME, Tuple::parseDateTime);
 	}
 	
 	public Tuple getFieldTuple(String type, String field, String setting) {
@@ -236,7 +257,7 @@ public class TypeSettings extends Settings {
 	}
 	
 	public String[] getFieldStringArray(String type, String field, String setting) {
-		return Utils.split(getFieldString(type, field, setting));
+		return getFieldValue(type, field, setting).getStringArray();
 	}
 	
 	public String[] getFieldStringArray(String type, String field, String setting, 
@@ -248,7 +269,11 @@ public class TypeSettings extends Settings {
 	//Actions Methods
 	
 	public String getActionString(String type, String action, String setting) {
-		return getTypeString(type, new String[] {
+		return getActionValue(type, action, setting).getString();
+	}
+
+	protected SettingsSnapshot.Value getActionValue(String type, String action, String setting) {
+		return getTypeValue(type, new String[] {
 				KeyWords.ACTIONS + "." + action + "." + setting,
 				KeyWords.ACTIONS + "." + setting
 		});
@@ -259,27 +284,27 @@ public class TypeSettings extends Settings {
 	}
 
 	public Short getActionInt16(String type, String action, String setting) {
-		return Tuple.parseInt16(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).parse(PT.INT16, Tuple::parseInt16);
 	}
 
 	public Integer getActionInt32(String type, String action, String setting) {
-		return Tuple.parseInt32(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).parse(PT.INT32, Tuple::parseInt32);
 	}
 
 	public Long getActionInt64(String type, String action, String setting) {
-		return Tuple.parseInt64(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).parse(PT.INT64, Tuple::parseInt64);
 	}
 	
 	public Float getActionFloat32(String type, String action, String setting) {
-		return Tuple.parseFloat32(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).parse(PT.FLOAT32, Tuple::parseFloat32);
 	}
 	
 	public Double getActionFloat64(String type, String action, String setting) {
-		return Tuple.parseFloat64(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).parse(PT.FLOAT64, Tuple::parseFloat64);
 	}
 
 	public BigDecimal getActionNumeric(String type, String action, String setting) {
-		return Tuple.parseNumeric(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).parse(PT.NUMERIC, Tuple::parseNumeric);
 	}
 	
 	public BigDecimal getActionNumeric(String type, String action, String setting, BigDecimal min,
@@ -292,19 +317,19 @@ public class TypeSettings extends Settings {
 	}
 	
 	public Boolean getActionBoolean(String type, String action, String setting) {
-		return Tuple.parseBoolean(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).parse(PT.BOOLEAN, Tuple::parseBoolean);
 	}
 	
 	public LocalDate getActionDate(String type, String action, String setting) {
-		return Tuple.parseDate(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).parse(PT.DATE, Tuple::parseDate);
 	}
 	
 	public LocalTime getActionTime(String type, String action, String setting) {
-		return Tuple.parseTime(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).parse(PT.TIME, Tuple::parseTime);
 	}
 	
 	public LocalDateTime getActionDateTime(String type, String action, String setting) {
-		return Tuple.parseDateTime(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).parse(PT.DATETIME, Tuple::parseDateTime);
 	}
 	
 	public Tuple getActionTuple(String type, String field, String setting) {
@@ -312,7 +337,7 @@ public class TypeSettings extends Settings {
 	}
 	
 	public String[] getActionStringArray(String type, String action, String setting) {
-		return Utils.split(getActionString(type, action, setting));
+		return getActionValue(type, action, setting).getStringArray();
 	}
 	
 	public String[] getActionStringArray(String type, String action, String setting, 
@@ -328,7 +353,12 @@ public class TypeSettings extends Settings {
 	//Actions Fields Methods
 	
 	public String getActionFieldString(String type, String action, String field, String setting) {
-		return getTypeString(type, new String[] {
+		return getActionFieldValue(type, action, field, setting).getString();
+	}
+
+	protected SettingsSnapshot.Value getActionFieldValue(String type, String action, String field,
+			String setting) {
+		return getTypeValue(type, new String[] {
 				KeyWords.ACTIONS + "." + action + "." + KeyWords.FIELDS + "." + field + "." + setting,
 				KeyWords.ACTIONS + "." + action + "." + KeyWords.FIELDS + "." + setting,
 				KeyWords.ACTIONS + "." + KeyWords.FIELDS + "." + field + "." + setting,
@@ -343,27 +373,27 @@ public class TypeSettings extends Settings {
 	}
 
 	public Short getActionFieldInt16(String type, String action, String field, String setting) {
-		return Tuple.parseInt16(getActionFieldString(type, action, field, setting));
+		return getActionFieldValue(type, action, field, setting).parse(PT.INT16, Tuple::parseInt16);
 	}
 
 	public Integer getActionFieldInt32(String type, String action, String field, String setting) {
-		return Tuple.parseInt32(getActionFieldString(type, action, field, setting));
+		return getActionFieldValue(type, action, field, setting).parse(PT.INT32, Tuple::parseInt32);
 	}
 
 	public Long getActionFieldInt64(String type, String action, String field, String setting) {
-		return Tuple.parseInt64(getActionFieldString(type, action, field, setting));
+		return getActionFieldValue(type, action, field, setting).parse(PT.INT64, Tuple::parseInt64);
 	}
 
 	public Float getActionFieldFloat32(String type, String action, String field, String setting) {
-		return Tuple.parseFloat32(getActionFieldString(type, action, field, setting));
+		return getActionFieldValue(type, action, field, setting).parse(PT.FLOAT32, Tuple::parseFloat32);
 	}
 
 	public Double getActionFieldFloat64(String type, String action, String field, String setting) {
-		return Tuple.parseFloat64(getActionFieldString(type, action, field, setting));
+		return getActionFieldValue(type, action, field, setting).parse(PT.FLOAT64, Tuple::parseFloat64);
 	}
 
 	public BigDecimal getActionFieldNumeric(String type, String action, String field, String setting) {
-		return Tuple.parseNumeric(getActionFieldString(type, action, field, setting));
+		return getActionFieldValue(type, action, field, setting).parse(PT.NUMERIC, Tuple::parseNumeric);
 	}
 	
 	public BigDecimal getActionFieldNumeric(String type, String action, String field, String setting,
@@ -377,16 +407,16 @@ public class TypeSettings extends Settings {
 	}
 	
 	public LocalDate getActionFieldDate(String type, String action, String field, String setting) {
-		return Tuple.parseDate(getActionFieldString(type, action, field, setting));
+		return getActionFieldValue(type, action, field, setting).parse(PT.DATE, Tuple::parseDate);
 	}
 	
 	public LocalTime getActionFieldTime(String type, String action, String field, String setting) {
-		return Tuple.parseTime(getActionFieldString(type, action, field, setting));
+		return getActionFieldValue(type, action, field, setting).parse(PT.TIME, Tuple::parseTime);
 	}
 	
 	public LocalDateTime getActionFieldDateTime(String type, String action, String field,
 			String setting) {
-		return Tuple.parseDateTime(getActionFieldString(type, action, field, setting));
+		return getActionFieldValue(type, action, field, setting).parse(PT.DATETIME, Tuple::parseDateTime);
 	}
 	
 	public Tuple getActionFieldTuple(String type, String action, String field, String setting) {
@@ -394,7 +424,7 @@ public class TypeSettings extends Settings {
 	}
 	
 	public String[] getActionFieldStringArray(String type, String action, String field, String setting) {
-		return Utils.split(getActionFieldString(type, action, field, setting));
+		return getActionFieldValue(type, action, field, setting).getStringArray();
 	}
 	
 	public String[] getActionFieldStringArray(String type, String action, String field, String setting,
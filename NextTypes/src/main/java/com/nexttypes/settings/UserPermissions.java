@@ -17,7 +17,6 @@
 package com.nexttypes.settings;
 
 import java.util.ArrayList;
-import java.util.Properties;
 
 import com.nexttypes.datatypes.Auth;
 import com.nexttypes.nodes.Node;
@@ -28,14 +27,14 @@ public class UserPermissions extends Permissions {
 	
 	protected Node nextNode;
 	
-	public UserPermissions(ArrayList<Properties> settings, Auth auth, Node nextNode) {
+	public UserPermissions(SettingsSnapshot settings, Auth auth, Node nextNode) {
 		super(settings, auth, nextNode);
 		
 		this.nextNode = nextNode;
 	}
 	
 	@Override
-	public String[] isAllowed(String type, String[] objects, String action) {
+	protected String[] getDisallowedObjects(String type, String[] objects, String action) {
 		
 		String user = auth.getUser();
 		
@@ -68,7 +67,7 @@ public class UserPermissions extends Permissions {
 				break;
 				
 			default:
-				disallowedObjects = super.isAllowed(type, objects, action);
+				disallowedObjects = super.getDisallowedObjects(type, objects, action);
 			}
 			
 			break;
@@ -86,7 +85,7 @@ public class UserPermissions extends Permissions {
 				break;
 				
 			default:
-				disallowedObjects = super.isAllowed(type, objects, action);	
+				disallowedObjects = super.getDisallowedObjects(type, objects, action);	
 			}
 			
 			break;
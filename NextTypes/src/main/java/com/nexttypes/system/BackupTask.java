@@ -22,7 +22,6 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -35,7 +34,6 @@ import com.nexttypes.enums.Format;
 import com.nexttypes.enums.NodeMode;
 import com.nexttypes.exceptions.NXException;
 import com.nexttypes.interfaces.TypesStream;
-import com.nexttypes.logging.Logger;
 import com.nexttypes.nodes.Node;
 import com.nexttypes.settings.Settings;
 
@@ -43,99 +41,33 @@ public class BackupTask extends Task {
 
 	public static final String INCR = "incr";
 
-	protected Context context;
 	protected Settings settings;
 	protected String directory;
 	protected String prefix;
 	protected String lang;
-	protected long interval;
 	protected int incremental;
-	protected int count = 0;
-	protected Logger logger;
-	protected boolean finished = false;
-	protected boolean running = false;
-	protected long previousFileTime = 0;
 
 	public BackupTask(Context context) {
-		this.context = context;
+		super(context);
 		settings = context.getSettings(Settings.BACKUP_SETTINGS);
 		directory = Utils.readDirectory(settings.getString(KeyWords.DIRECTORY));
 		prefix = settings.getString(KeyWords.PREFIX);
 		lang = settings.getString(KeyWords.LANG);
-		interval = settings.getInt32(KeyWords.INTERVAL) * Constants.MINUTE_MILLISECONDS;
 		incremental = settings.getInt32(KeyWords.INCREMENTAL);
-		logger = context.getLogger();
-
-		ArrayList<String> filesByDate = new ArrayList<>();
-
-		try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(directory))) {
-			for (Path file : files) {
-				String fileName = file.getFileName().toString();
-				filesByDate.add(fileName.substring(prefix.length(), prefix.length() + 25));
-			}
-		} catch (IOException e) {
-			throw new NXException(e);
-		}
-
-		if (filesByDate.size() > 0) {
-
-			filesByDate.sort(Collections.reverseOrder());
-
-			previousFileTime = Duration.between(ZonedDateTime.parse(filesByDate.get(0).substring(0, 20)),
-					Utils.getZonedDateTimeNow()).toMillis();
-
-			if (incremental > 0) {
-				for (String file : filesByDate) {
-					if (file.substring(file.length() - 4, file.length()).equals(INCR)) {
-						count++;
-					} else {
-						break;
-					}
+	}
 
-					if (count == incremental) {
-						break;
-					}
-				}
-			}
-		} else {
-			count = incremental;
-		}
+	@Override
+	public Settings getSettings() {
+		return settings;
 	}
 
+	@Override
 	public void run() {
-		try {
-			
-			if (previousFileTime > 0) {
-				
-				long initTime;
-				
-				if (previousFileTime >= interval) {
-					initTime = 0;
-				} else {
-					initTime = interval - previousFileTime;
-				}
-				
-				sleep(initTime);
-			} 		
-
-			backup();
-
-			while (!finished) {
-
-				sleep(interval);
-
-				backup();
-
-			}
-		} catch (InterruptedException e) {
-			if (!finished) {
-				logger.severe(Auth.BACKUP, URL.LOCALHOST, e);
-			}
-		}
+		backup();
 	}
 
 	public void backup() {
-		running = true;
+		int count = getIncrementalCount();
 
 		try (Node nextNode = Loader.loadNode(settings.getString(Settings.NEXT_NODE),
 				new Auth(Auth.BACKUP), NodeMode.WRITE, lang, URL.LOCALHOST, context, true)) {
@@ -147,13 +79,11 @@ public class BackupTask extends Task {
 
 			boolean full;
 
-			if (count == incremental) {
+			if (count >= incremental) {
 				filePath.append("-" + KeyWords.FULL);
-				count = 0;
 				full = true;
 			} else {
 				filePath.append("-" + INCR);
-				count++;
 				full = false;
 			}
 
@@ -168,18 +98,52 @@ public class BackupTask extends Task {
 
 			nextNode.commit();
 
-		} catch (Exception e) {
-			logger.severe(Auth.BACKUP, URL.LOCALHOST, e);
+		} catch (IOException e) {
+			throw new NXException(e);
+		}
+	}
+
+	@Override
+	public ZonedDateTime getLastStart() {
+		ArrayList<String> filesByDate = getFilesByDate();
+
+		return filesByDate.size() > 0 ? ZonedDateTime.parse(filesByDate.get(0).substring(0, 20)) : null;
+	}
+
+	protected int getIncrementalCount() {
+		ArrayList<String> filesByDate = getFilesByDate();
+
+		if (filesByDate.size() == 0) {
+			return incremental;
+		}
+
+		int count = 0;
+
+		for (String file : filesByDate) {
+			if (count == incremental || !file.substring(file.length() - 4, file.length()).equals(INCR)) {
+				break;
+			}
+
+			count++;
 		}
 
-		running = false;
+		return count;
 	}
 
-	public void finish() {
-		finished = true;
+	protected ArrayList<String> getFilesByDate() {
+		ArrayList<String> filesByDate = new ArrayList<>();
 
-		if (!running) {
-			interrupt();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(directory))) {
+			for (Path file : files) {
+				String fileName = file.getFileName().toString();
+				filesByDate.add(fileName.substring(prefix.length(), prefix.length() + 25));
+			}
+		} catch (IOException e) {
+			throw new NXException(e);
 		}
+
+		filesByDate.sort(Collections.reverseOrder());
+
+		return filesByDate;
 	}
 }
\ No newline at end of file
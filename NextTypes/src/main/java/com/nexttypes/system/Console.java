@@ -279,6 +279,10 @@ public class Console {
 		} catch (ParseException e) {
 			System.out.println(e.getMessage());
 			printHelp();
+		} finally {
+			if (context != null) {
+				context.getLogger().close();
+			}
 		}
 	}
 
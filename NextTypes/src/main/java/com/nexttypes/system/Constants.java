@@ -24,7 +24,9 @@ public class Constants {
 	
 	public static final String BASIC_DATETIME_FORMAT = "yyyyMMdd'T'HHmmss";
 	public static final String UTC_DATETIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss'Z'";
+	public static final long SECOND_MILLISECONDS = 1000;
 	public static final long MINUTE_MILLISECONDS = 60000;
+	public static final long CLOSE_TIMEOUT = 30 * SECOND_MILLISECONDS;
 	
 	public static final String CALENDAR_SELECT = "calendar.select";
 	public static final String ICALENDAR_SELECT = "views.icalendar.select";
@@ -21,11 +21,26 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import javax.servlet.ServletContext;
 
@@ -35,27 +50,55 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.nexttypes.datatypes.Auth;
 import com.nexttypes.datatypes.HTML;
+import com.nexttypes.datatypes.HTMLTemplate;
 import com.nexttypes.datatypes.Image;
 import com.nexttypes.datatypes.Menu;
 import com.nexttypes.datatypes.MenuSection;
 import com.nexttypes.datatypes.TypeField;
 import com.nexttypes.datatypes.TypeIndex;
+import com.nexttypes.datatypes.URL;
+import com.nexttypes.datatypes.XML;
 import com.nexttypes.exceptions.NXException;
+import com.nexttypes.limiters.RateLimiter;
 import com.nexttypes.logging.Logger;
+import com.nexttypes.logging.QueryLog;
+import com.nexttypes.metrics.Counter;
+import com.nexttypes.metrics.Metrics;
 import com.nexttypes.nodes.Node;
+import com.nexttypes.protocol.smtp.EmailOutbox;
+import com.nexttypes.security.CredentialsCache;
+import com.nexttypes.security.PermissionsCache;
+import com.nexttypes.security.SessionTokens;
 import com.nexttypes.settings.Permissions;
 import com.nexttypes.settings.Settings;
+import com.nexttypes.settings.SettingsSnapshot;
 import com.nexttypes.settings.LanguageSettings;
 import com.nexttypes.settings.TypeSettings;
+import com.nexttypes.tracing.TraceExporter;
 
 public class Context {
 
 	public static final String CONTEXT = "com.nexttypes.context";
+	public static final String CREDENTIALS = "credentials";
+	protected static final String CACHE_HITS_HELP = "Cache lookups that found an entry.";
+	protected static final String CACHE_MISSES_HELP = "Cache lookups that did not find an entry.";
 
 	protected Settings settings;
 	protected ServletContext context;
 	protected String directory;
 	protected Logger logger;
+	protected QueryLog queryLog;
+	protected CredentialsCache credentialsCache;
+	protected PermissionsCache permissionsCache;
+	protected Metrics metrics;
+	protected Counter templateHits;
+	protected Counter templateMisses;
+	protected SessionTokens sessionTokens;
+	protected RateLimiter rateLimiter;
+	protected TraceExporter traceExporter;
+	protected EmailOutbox emailOutbox;
+	protected JobQueue jobQueue;
+	protected Scheduler scheduler;
 	protected ConcurrentHashMap<String, DBConnection.DBConnectionPool> connectionPools
 		= new ConcurrentHashMap<>();
 	protected TypesCache typesCache = new TypesCache();
@@ -63,11 +106,20 @@ public class Context {
 	protected ConcurrentHashMap<String, Properties> files = new ConcurrentHashMap<>();
 	protected ConcurrentHashMap<String, Properties> resourcesAndFiles[]
 		= new ConcurrentHashMap[] { resources, files };
-	protected ConcurrentHashMap<String, HTML> templates = new ConcurrentHashMap<>();
+	protected volatile ConcurrentHashMap<String, SettingsSnapshot> snapshots = new ConcurrentHashMap<>();
+	protected Thread settingsWatcher;
+	protected ConcurrentHashMap<String, HTMLTemplate> templates = new ConcurrentHashMap<>();
 	protected ConcurrentHashMap<String, byte[]> defaults = new ConcurrentHashMap<>();
 	protected ConcurrentHashMap<String, Menu> menus = new ConcurrentHashMap<>();
 	protected ConcurrentHashMap<String, String> styles = new ConcurrentHashMap<>();
 	protected ConcurrentHashMap<String, Image> images = new ConcurrentHashMap<>();
+	protected ConcurrentHashMap<String, LinkedHashMap<String, LinkedHashMap<String, TypeField>>> actions
+		= new ConcurrentHashMap<>();
+	protected ExecutorService jobs = Executors.newSingleThreadExecutor(job -> {
+		Thread thread = new Thread(job);
+		thread.setDaemon(true);
+		return thread;
+	});
 	
 	public Context(String directory) {
 		this.directory = Utils.readDirectory(directory);
@@ -80,14 +132,65 @@ public class Context {
 		context.setAttribute(CONTEXT, this);
 		init();
 
+		if (directory != null) {
+			watchSettings();
+		}
+
 		for (String className : settings.getStringArray(KeyWords.NODES)) {
 			Loader.initNode(className, this);
 		}
+
+		emailOutbox = new EmailOutbox(this);
+		jobQueue = new JobQueue(this);
+		scheduler = new Scheduler(this);
+
+		rateLimiter = Loader.loadRateLimiter(getSettings(Settings.HTTP_SETTINGS)
+				.getString(Settings.RATE_LIMITER), this);
+
+		for (String limit : new String[] { RateLimiter.REQUESTS, RateLimiter.TYPE_REQUESTS,
+				RateLimiter.INSERTS, RateLimiter.AUTH_ERRORS }) {
+
+			metrics.counter(Metrics.RATE_LIMITER_REJECTIONS, "Requests rejected by the rate limiter.",
+					() -> rateLimiter.getRejections().getOrDefault(limit, 0L), Metrics.LIMIT, limit);
+		}
+
+		metrics.counter(Metrics.RATE_LIMITER_EVICTIONS, "Rate limiter buckets evicted to make room.",
+				rateLimiter::getEvictions);
+		metrics.gauge(Metrics.RATE_LIMITER_SIZE, "Rate limiter buckets in use.", rateLimiter::getSize);
 	}
 
 	protected void init() {
 		settings = getSettings(Settings.CONTEXT_SETTINGS);
 		logger = new Logger(this);
+		queryLog = new QueryLog(getSettings(Settings.LOGGER_SETTINGS), logger);
+		Settings httpSettings = getSettings(Settings.HTTP_SETTINGS);
+		credentialsCache = new CredentialsCache(httpSettings);
+		permissionsCache = new PermissionsCache(httpSettings);
+		sessionTokens = new SessionTokens(httpSettings);
+		metrics = new Metrics(settings, directory);
+		templateHits = metrics.counter(Metrics.CACHE_HITS, CACHE_HITS_HELP, Metrics.CACHE, KeyWords.TEMPLATES);
+		templateMisses = metrics.counter(Metrics.CACHE_MISSES, CACHE_MISSES_HELP, Metrics.CACHE,
+				KeyWords.TEMPLATES);
+
+		metrics.counter(Metrics.CACHE_HITS, CACHE_HITS_HELP, typesCache::getHits, Metrics.CACHE,
+				KeyWords.TYPES);
+		metrics.counter(Metrics.CACHE_MISSES, CACHE_MISSES_HELP, typesCache::getMisses, Metrics.CACHE,
+				KeyWords.TYPES);
+		metrics.counter(Metrics.CACHE_HITS, CACHE_HITS_HELP, credentialsCache::getHits, Metrics.CACHE,
+				CREDENTIALS);
+		metrics.counter(Metrics.CACHE_MISSES, CACHE_MISSES_HELP, credentialsCache::getMisses, Metrics.CACHE,
+				CREDENTIALS);
+		metrics.gauge(Metrics.CACHE_SIZE, "Entries in a cache.", credentialsCache::getSize, Metrics.CACHE,
+				CREDENTIALS);
+		metrics.counter(Metrics.CACHE_HITS, CACHE_HITS_HELP, permissionsCache::getHits, Metrics.CACHE,
+				KeyWords.PERMISSIONS);
+		metrics.counter(Metrics.CACHE_MISSES, CACHE_MISSES_HELP, permissionsCache::getMisses, Metrics.CACHE,
+				KeyWords.PERMISSIONS);
+		metrics.gauge(Metrics.CACHE_SIZE, "Entries in a cache.", permissionsCache::getSize, Metrics.CACHE,
+				KeyWords.PERMISSIONS);
+		metrics.counter(Metrics.LOGGER_DROPPED, "Log records dropped because the queue was full.",
+				logger::getDropped);
+		metrics.gauge(Metrics.LOGGER_QUEUED, "Log records waiting to be written.", logger::getQueued);
 	}
 
 	public static Context get(ServletContext servletContext) {
@@ -97,6 +200,36 @@ public class Context {
 	public static void close(ServletContext servletContext) {
 		Context context = get(servletContext);
 
+		context.jobs.shutdownNow();
+
+		if (context.emailOutbox != null) {
+			context.emailOutbox.close();
+		}
+
+		if (context.jobQueue != null) {
+			context.jobQueue.close();
+		}
+
+		if (context.scheduler != null) {
+			context.scheduler.close();
+		}
+
+		if (context.settingsWatcher != null) {
+			context.settingsWatcher.interrupt();
+		}
+
+		context.rateLimiter.close();
+
+		try {
+			context.metrics.close();
+		} catch (NXException e) {
+			context.logger.severe(Auth.ADMIN, URL.LOCALHOST, e);
+		}
+
+		if (context.traceExporter != null) {
+			context.traceExporter.close();
+		}
+
 		context.logger.close();
 
 		for (Map.Entry<String, DBConnection.DBConnectionPool> entry
@@ -105,6 +238,8 @@ public class Context {
 			entry.getValue().close();
 		}
 
+		XML.close();
+
 		context.context.removeAttribute(CONTEXT);
 	}
 
@@ -115,7 +250,9 @@ public class Context {
 	public void putDBConnectionPool(String name,
 			DBConnection.DBConnectionPool connectionPool) {
 		
-		connectionPools.putIfAbsent(name, connectionPool);
+		if (connectionPools.putIfAbsent(name, connectionPool) == null) {
+			connectionPool.register(metrics, name);
+		}
 	}
 	
 	public void removeDBConnectionPool(String name) {
@@ -126,24 +263,74 @@ public class Context {
 		return logger;
 	}
 
-	public TypeSettings getTypeSettings(Auth auth) {
-		ArrayList<Properties> properties = new ArrayList<>();
+	public QueryLog getQueryLog() {
+		return queryLog;
+	}
+
+	public CredentialsCache getCredentialsCache() {
+		return credentialsCache;
+	}
 
+	public PermissionsCache getPermissionsCache() {
+		return permissionsCache;
+	}
+
+	public SessionTokens getSessionTokens() {
+		return sessionTokens;
+	}
+
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
+	public RateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	public JobQueue getJobQueue() {
+		return jobQueue;
+	}
+
+	public Scheduler getScheduler() {
+		return scheduler;
+	}
+
+	public synchronized TraceExporter getTraceExporter() {
+		if (traceExporter == null) {
+			traceExporter = Loader.loadTraceExporter(getSettings(Settings.TRACING_SETTINGS)
+					.getString(Settings.EXPORTER), this);
+		}
+
+		return traceExporter;
+	}
+
+	public void execute(Runnable job) {
+		jobs.execute(job);
+	}
+
+	public TypeSettings getTypeSettings(Auth auth) {
 		String [] groups = auth.getGroups();
-		
-		properties.addAll(0, getProperties(Settings.TYPES_SETTINGS));
 
-		if (groups != null) {
-			for (String group : groups) {
-				properties.addAll(0, getProperties(KeyWords.GROUPS + "/" + group + ".properties"));
+		String key = groups != null ? Settings.TYPES_SETTINGS + ":" + String.join(",", groups)
+				: Settings.TYPES_SETTINGS;
+
+		return new TypeSettings(getSnapshot(key, () -> {
+			ArrayList<Properties> properties = new ArrayList<>();
+
+			properties.addAll(0, getProperties(Settings.TYPES_SETTINGS));
+
+			if (groups != null) {
+				for (String group : groups) {
+					properties.addAll(0, getProperties(KeyWords.GROUPS + "/" + group + ".properties"));
+				}
 			}
-		}
 
-		return new TypeSettings(properties);
+			return properties;
+		}));
 	}
 
 	public LanguageSettings getLanguageSettings(String lang) {
-		return new LanguageSettings(getProperties(KeyWords.LANG + "/" + lang + ".properties"));
+		return new LanguageSettings(getSnapshot(KeyWords.LANG + "/" + lang + ".properties"));
 	}
 	
 	public Permissions getPermissions(Module module) {
@@ -160,7 +347,7 @@ public class Context {
 		
 		Permissions permissions = null;
 		
-		ArrayList<Properties> settings = getProperties(Settings.PERMISSIONS_SETTINGS);
+		SettingsSnapshot settings = getSnapshot(Settings.PERMISSIONS_SETTINGS);
 		
 		String className = typeSettings.gts(type, KeyWords.PERMISSIONS);
 			
@@ -174,7 +361,82 @@ public class Context {
 	}
 
 	public Settings getSettings(String file) {
-		return new Settings(getProperties(file));
+		return new Settings(getSnapshot(file));
+	}
+
+	protected SettingsSnapshot getSnapshot(String file) {
+		return getSnapshot(file, () -> getProperties(file));
+	}
+
+	protected SettingsSnapshot getSnapshot(String key, Supplier<ArrayList<Properties>> properties) {
+		ConcurrentHashMap<String, SettingsSnapshot> snapshots = this.snapshots;
+		SettingsSnapshot snapshot = snapshots.get(key);
+
+		if (snapshot == null) {
+			snapshot = new SettingsSnapshot(properties.get());
+			SettingsSnapshot current = snapshots.putIfAbsent(key, snapshot);
+
+			if (current != null) {
+				snapshot = current;
+			}
+		}
+
+		return snapshot;
+	}
+
+	public void reloadSettings() {
+		files.clear();
+		snapshots = new ConcurrentHashMap<>();
+	}
+
+	protected void watchSettings() {
+		settingsWatcher = new Thread(() -> {
+			try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+				watchDirectories(watchService, Paths.get(directory));
+
+				while (true) {
+					WatchKey key = watchService.take();
+					boolean reload = false;
+
+					for (WatchEvent<?> event : key.pollEvents()) {
+						if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+							reload = true;
+						} else if (event.context() != null) {
+							Path path = ((Path) key.watchable()).resolve((Path) event.context());
+
+							if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+									&& Files.isDirectory(path)) {
+								watchDirectories(watchService, path);
+								reload = true;
+							} else if (path.toString().endsWith(".properties")) {
+								reload = true;
+							}
+						}
+					}
+
+					if (reload) {
+						reloadSettings();
+					}
+
+					key.reset();
+				}
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+			} catch (IOException e) {
+				logger.severe(Auth.ADMIN, URL.LOCALHOST, new NXException(e));
+			}
+		});
+
+		settingsWatcher.setDaemon(true);
+		settingsWatcher.start();
+	}
+
+	protected void watchDirectories(WatchService watchService, Path directory) throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			for (Path path : (Iterable<Path>) paths.filter(Files::isDirectory)::iterator) {
+				path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+			}
+		}
 	}
 
 	protected ArrayList<Properties> getProperties(String file) {
@@ -247,19 +509,18 @@ public class Context {
 	}
 	
 	public HTML getTemplate(String file, String lang) {
-		HTML document = templates.get(file);
-		HTML documentClone = null;
+		String key = file + ":" + lang;
+		HTMLTemplate template = templates.get(key);
 		
-		if (document == null) {
-			document = new HTML(getFile(KeyWords.TEMPLATES + "/" + file), lang);
-			templates.putIfAbsent(file, document);
-			documentClone = document.clone();
+		if (template == null) {
+			templateMisses.increment();
+			template = new HTMLTemplate(getFile(KeyWords.TEMPLATES + "/" + file), lang);
+			templates.putIfAbsent(key, template);
 		} else {
-			documentClone = document.clone();
-			documentClone.setLang(lang);
+			templateHits.increment();
 		}
 
-		return documentClone;
+		return template.instance();
 	}
 	
 	public byte[] getDefault(String file) {
@@ -298,6 +559,30 @@ public class Context {
 		return menu;
 	}
 	
+	public LinkedHashMap<String, LinkedHashMap<String, TypeField>> getActions(Class<?> controller,
+			String actionsInfo) {
+		String key = controller.getName() + ":" + actionsInfo;
+		LinkedHashMap<String, LinkedHashMap<String, TypeField>> value = actions.get(key);
+
+		if (value == null) {
+			try (InputStream stream = controller.getResourceAsStream(actionsInfo)) {
+				if (stream != null) {
+					ObjectMapper mapper = new ObjectMapper();
+					value = mapper.readValue(stream, new com.fasterxml.jackson.core.type.TypeReference
+						<LinkedHashMap<String, LinkedHashMap<String, TypeField>>>() {});
+				} else {
+					value = new LinkedHashMap<>();
+				}
+
+				actions.putIfAbsent(key, value);
+			} catch (IOException e) {
+				throw new NXException(e);
+			}
+		}
+
+		return value;
+	}
+
 	public String getStyle(String file) {
 		String style = styles.get(file);
 		
@@ -335,22 +620,48 @@ public class Context {
 			= new ConcurrentHashMap<>();
 		protected ConcurrentHashMap<String, LinkedHashMap<String, String>> contentTypes
 			= new ConcurrentHashMap<>();
+		protected ConcurrentHashMap<String, Set<String>> sanitizerVersions = new ConcurrentHashMap<>();
+		protected Set<String> sanitizations = ConcurrentHashMap.newKeySet();
+		protected ConcurrentHashMap<String, Long> sanitizationRetries = new ConcurrentHashMap<>();
+		protected LongAdder hits = new LongAdder();
+		protected LongAdder misses = new LongAdder();
 
 		public void clear() {
 			fields.clear();
 			indexes.clear();
+			sanitizerVersions.clear();
+			sanitizations.clear();
+			sanitizationRetries.clear();
 		}
 
 		public LinkedHashMap<String, TypeField> getFields(String type) {
-			return fields.get(type);
+			return count(fields.get(type));
 		}
 
 		public LinkedHashMap<String, TypeIndex> getIndexes(String type) {
-			return indexes.get(type);
+			return count(indexes.get(type));
 		}
 
 		public LinkedHashMap<String, String> getContentTypes(String type) {
-			return contentTypes.get(type);
+			return count(contentTypes.get(type));
+		}
+
+		protected <T> T count(T value) {
+			if (value != null) {
+				hits.increment();
+			} else {
+				misses.increment();
+			}
+
+			return value;
+		}
+
+		public long getHits() {
+			return hits.sum();
+		}
+
+		public long getMisses() {
+			return misses.sum();
 		}
 
 		public ConcurrentHashMap<String, LinkedHashMap<String, TypeField>> getFields() {
@@ -376,5 +687,37 @@ public class Context {
 		public void addContentTypes(String type, LinkedHashMap<String, String> contentTypes) {
 			this.contentTypes.putIfAbsent(type, contentTypes);
 		}
+
+		public Set<String> getSanitizerVersions(String field) {
+			return sanitizerVersions.get(field);
+		}
+
+		public void addSanitizerVersions(String field, Set<String> versions) {
+			sanitizerVersions.putIfAbsent(field, versions);
+		}
+
+		public void removeSanitizerVersions(String field) {
+			sanitizerVersions.remove(field);
+		}
+
+		public boolean addSanitization(String sanitization) {
+			Long retry = sanitizationRetries.get(sanitization);
+
+			if (retry != null && retry > System.currentTimeMillis()) {
+				return false;
+			}
+
+			return sanitizations.add(sanitization);
+		}
+
+		public void removeSanitization(String sanitization, boolean sanitized, long retryDelay) {
+			if (sanitized) {
+				sanitizationRetries.remove(sanitization);
+			} else {
+				sanitizationRetries.put(sanitization, System.currentTimeMillis() + retryDelay);
+			}
+
+			sanitizations.remove(sanitization);
+		}
 	}
 }
\ No newline at end of file
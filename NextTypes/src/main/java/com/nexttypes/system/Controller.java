@@ -16,18 +16,21 @@
 
 package com.nexttypes.system;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.ArrayUtils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nexttypes.datatypes.ActionResult;
 import com.nexttypes.datatypes.AlterFieldResult;
 import com.nexttypes.datatypes.AlterIndexResult;
@@ -40,11 +43,14 @@ import com.nexttypes.datatypes.File;
 import com.nexttypes.datatypes.Filter;
 import com.nexttypes.datatypes.HTMLFragment;
 import com.nexttypes.datatypes.Image;
+import com.nexttypes.datatypes.JSON;
+import com.nexttypes.datatypes.JSON.JSONObject;
 import com.nexttypes.datatypes.NXObject;
 import com.nexttypes.datatypes.Names;
 import com.nexttypes.datatypes.ObjectField;
 import com.nexttypes.datatypes.Objects;
 import com.nexttypes.datatypes.PT;
+import com.nexttypes.datatypes.Serial;
 import com.nexttypes.datatypes.Tuple;
 import com.nexttypes.datatypes.Tuples;
 import com.nexttypes.datatypes.Type;
@@ -54,6 +60,7 @@ import com.nexttypes.datatypes.TypeReference;
 import com.nexttypes.datatypes.UpdateIdResult;
 import com.nexttypes.datatypes.XML;
 import com.nexttypes.datatypes.XML.Element;
+import com.nexttypes.enums.Format;
 import com.nexttypes.enums.Order;
 import com.nexttypes.exceptions.ActionExecutionException;
 import com.nexttypes.exceptions.ActionFieldException;
@@ -66,6 +73,12 @@ import com.nexttypes.settings.Settings;
 import com.nexttypes.settings.TypeSettings;
 
 public class Controller {
+	protected static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+	protected static final ConcurrentHashMap<Class<? extends Controller>, Map<String, MethodHandle>>
+		ACTION_METHODS = new ConcurrentHashMap<>();
+	protected static final ConcurrentHashMap<Class<? extends Controller>, Set<String>>
+		JOB_ACTIONS = new ConcurrentHashMap<>();
+
 	protected LinkedHashMap<String, LinkedHashMap<String, TypeField>> actions;
 	protected String actionsInfo;	
 	protected Node nextNode;
@@ -74,6 +87,8 @@ public class Controller {
 	protected Context context;
 	protected TypeSettings typeSettings;
 	protected LanguageSettings languageSettings;
+	protected Long job;
+	protected int jobAttempts;
 
 	public Controller(String type, Auth auth, Node nextNode) {
 		this.nextNode = nextNode;
@@ -101,7 +116,6 @@ public class Controller {
 		}		
 		
 		ActionResult result = null;
-		Method method = null;
 
 		LinkedHashMap<String, TypeField> fields = getActionFields(action);
 
@@ -126,35 +140,202 @@ public class Controller {
 			x++;
 		}
 
-		for (Method m : getClass().getMethods()) {
-			Action annotation = m.getAnnotation(Action.class);
-			if (annotation != null && annotation.value().equals(action)) {
-				method = m;
-				break;
-			}
-		}
+		MethodHandle method = getActionMethods(getClass()).get(action);
 
 		if (method == null) {
 			throw new ActionNotFoundException(type, action);
 		}
 
+		if (job == null && getJobActions(getClass()).contains(action)) {
+			return new ActionResult(languageSettings.gts(type, KeyWords.JOB_ENQUEUED),
+					enqueueJob(objects, action, fields, parameters));
+		}
+
 		try {
-			result = (ActionResult) method.invoke(this, ArrayUtils.insert(0, parameters,
+			result = (ActionResult) method.invokeExact(this, ArrayUtils.insert(0, parameters,
 					(Object) objects));
-		} catch (InvocationTargetException e) {
-			Throwable cause = e.getCause();
-
-			if (cause instanceof NXException) {
-				throw (NXException) cause;
-			} else {
-				throw new ActionExecutionException(type, action, cause);
-			}
-		} catch (IllegalAccessException | IllegalArgumentException e) {
+		} catch (NXException e) {
+			throw e;
+		} catch (Throwable e) {
 			throw new ActionExecutionException(type, action, e);
 		}
 
 		return result;
 	}
+
+	protected static Map<String, MethodHandle> getActionMethods(Class<? extends Controller> controller) {
+		Map<String, MethodHandle> methods = ACTION_METHODS.get(controller);
+
+		if (methods == null) {
+			LinkedHashMap<String, MethodHandle> actionMethods = new LinkedHashMap<>();
+			HashSet<String> jobActions = new HashSet<>();
+
+			try {
+				for (Method method : controller.getMethods()) {
+					Action annotation = method.getAnnotation(Action.class);
+
+					if (annotation != null && !actionMethods.containsKey(annotation.value())) {
+						actionMethods.put(annotation.value(), LOOKUP.unreflect(method)
+								.asSpreader(Object[].class, method.getParameterCount())
+								.asType(MethodType.methodType(ActionResult.class, Controller.class,
+										Object[].class)));
+
+						if (method.getAnnotation(Job.class) != null) {
+							jobActions.add(annotation.value());
+						}
+					}
+				}
+			} catch (IllegalAccessException e) {
+				throw new NXException(e);
+			}
+
+			JOB_ACTIONS.putIfAbsent(controller, Collections.unmodifiableSet(jobActions));
+			methods = Collections.unmodifiableMap(actionMethods);
+			ACTION_METHODS.putIfAbsent(controller, methods);
+		}
+
+		return methods;
+	}
+
+	protected static Set<String> getJobActions(Class<? extends Controller> controller) {
+		getActionMethods(controller);
+		return JOB_ACTIONS.get(controller);
+	}
+
+	protected Long enqueueJob(String[] objects, String action, LinkedHashMap<String, TypeField> fields,
+			Object[] parameters) {
+
+		LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+
+		int x = 0;
+		for (String field : fields.keySet()) {
+			values.put(field, parameters[x]);
+			x++;
+		}
+
+		return JobQueue.enqueue(nextNode, type, action, objects, new Serial(values, Format.SMILE).getBinary(),
+				auth);
+	}
+
+	public ActionResult executeJob(Long job, int attempts, String[] objects, String action, String lang,
+			byte[] parameters) {
+		LinkedHashMap<String, TypeField> fields = getActionFields(action);
+
+		if (fields == null) {
+			throw new ActionNotFoundException(type, action);
+		}
+
+		JSONObject values = JSON.fromSmile(parameters).getDocumentObject();
+		Object[] jobParameters = new Object[fields.size()];
+
+		int x = 0;
+		for (Map.Entry<String, TypeField> entry : fields.entrySet()) {
+			jobParameters[x] = readJobParameter(values, action, entry.getKey(), entry.getValue().getType(),
+					lang);
+			x++;
+		}
+
+		this.job = job;
+		jobAttempts = attempts;
+
+		try {
+			return executeAction(objects, action, jobParameters);
+		} finally {
+			this.job = null;
+		}
+	}
+
+	protected Object readJobParameter(JSONObject values, String action, String field, String fieldType,
+			String lang) {
+		Object value = null;
+
+		switch (fieldType) {
+		case PT.HTML:
+			value = values.getHTML(field, lang, typeSettings.getActionFieldString(type, action, field,
+					Settings.HTML_ALLOWED_TAGS));
+			break;
+		case PT.XML:
+			value = values.getXML(field, lang, typeSettings.getActionFieldString(type, action, field,
+					Settings.XML_ALLOWED_TAGS));
+			break;
+		case PT.JSON:
+			value = values.getJSON(field);
+			break;
+		case PT.INT16:
+			value = values.getInt16(field);
+			break;
+		case PT.INT32:
+			value = values.getInt32(field);
+			break;
+		case PT.INT64:
+			value = values.getInt64(field);
+			break;
+		case PT.FLOAT32:
+			value = values.getFloat32(field);
+			break;
+		case PT.FLOAT64:
+			value = values.getFloat64(field);
+			break;
+		case PT.NUMERIC:
+			value = values.getNumeric(field);
+			break;
+		case PT.BOOLEAN:
+			value = values.getBoolean(field);
+			break;
+		case PT.DATE:
+			value = values.getDate(field);
+			break;
+		case PT.TIME:
+			value = values.getTime(field);
+			break;
+		case PT.DATETIME:
+			value = values.getDateTime(field);
+			break;
+		case PT.TIMEZONE:
+			value = values.getTimeZone(field);
+			break;
+		case PT.COLOR:
+			value = values.getColor(field);
+			break;
+		case PT.URL:
+			value = values.getURL(field);
+			break;
+		case PT.EMAIL:
+			value = values.getEmail(field);
+			break;
+		case PT.BINARY:
+			value = values.getBinary(field);
+			break;
+		case PT.FILE:
+			value = values.getFile(field);
+			break;
+		case PT.IMAGE:
+			value = values.getImage(field);
+			break;
+		case PT.DOCUMENT:
+			value = values.getDocument(field);
+			break;
+		case PT.AUDIO:
+			value = values.getAudio(field);
+			break;
+		case PT.VIDEO:
+			value = values.getVideo(field);
+			break;
+		case PT.PASSWORD:
+			value = values.getPassword(field);
+			break;
+		default:
+			value = values.getString(field);
+		}
+
+		return value;
+	}
+
+	protected void setJobProgress(int progress) {
+		if (job != null) {
+			context.getJobQueue().setProgress(job, jobAttempts, progress);
+		}
+	}
 	
 	protected void checkActionFileField(String[] objects, String action, String field, Object value) {
 		if (value instanceof File) {
@@ -179,7 +360,7 @@ public class Controller {
 	}
 	
 	public LinkedHashMap<String, TypeField> getActionFields(String action) {
-		return getTypeActions().get(action);
+		return getActions().get(action);
 	}
 	
 	public TypeField getActionField(String action, String field) {
@@ -191,21 +372,20 @@ public class Controller {
 	}
 	
 	public LinkedHashMap<String, LinkedHashMap<String, TypeField>> getTypeActions() {
-		if (actions == null && actionsInfo != null) {		
-			try (InputStream stream = getClass().getResourceAsStream(actionsInfo)) {
-				if (stream != null) {
-					ObjectMapper mapper = new ObjectMapper();
-					actions = mapper.readValue(stream, new com.fasterxml.jackson.core.type.TypeReference
-						<LinkedHashMap<String, LinkedHashMap<String, TypeField>>>() {});
-				}
-			} catch (IOException e) {
-				throw new NXException(e);
-			}	
+		LinkedHashMap<String, LinkedHashMap<String, TypeField>> typeActions = new LinkedHashMap<>();
+
+		for (Map.Entry<String, LinkedHashMap<String, TypeField>> entry : getActions().entrySet()) {
+			typeActions.put(entry.getKey(), new LinkedHashMap<>(entry.getValue()));
 		}
-		
+
+		return typeActions;
+	}
+
+	protected LinkedHashMap<String, LinkedHashMap<String, TypeField>> getActions() {
 		if (actions == null) {
-			actions = new LinkedHashMap<>();
-		}	
+			actions = actionsInfo != null ? context.getActions(getClass(), actionsInfo)
+					: new LinkedHashMap<>();
+		}
 
 		return actions;
 	}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.system;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+import com.nexttypes.exceptions.InvalidValueException;
+import com.nexttypes.exceptions.NXException;
+
+public class Cron {
+	protected static final int MAX_YEARS = 5;
+
+	protected String expression;
+	protected BitSet minutes;
+	protected BitSet hours;
+	protected BitSet days;
+	protected BitSet months;
+	protected BitSet weekDays;
+	protected boolean anyDay;
+	protected boolean anyWeekDay;
+
+	public Cron(String expression) {
+		this.expression = expression;
+
+		String[] fields = expression.trim().split("\\s+");
+
+		if (fields.length != 5) {
+			throw new InvalidValueException(NXException.INVALID_CRON_EXPRESSION, expression);
+		}
+
+		minutes = parse(fields[0], 0, 59);
+		hours = parse(fields[1], 0, 23);
+		days = parse(fields[2], 1, 31);
+		months = parse(fields[3], 1, 12);
+		weekDays = parse(fields[4], 0, 7);
+
+		if (weekDays.get(7)) {
+			weekDays.set(0);
+		}
+
+		anyDay = fields[2].startsWith("*");
+		anyWeekDay = fields[4].startsWith("*");
+	}
+
+	protected BitSet parse(String field, int min, int max) {
+		BitSet values = new BitSet(max + 1);
+
+		try {
+			for (String item : field.split(",")) {
+				int step = 1;
+				int slash = item.indexOf('/');
+
+				if (slash != -1) {
+					step = Integer.parseInt(item.substring(slash + 1));
+					item = item.substring(0, slash);
+				}
+
+				int start;
+				int end;
+				int dash = item.indexOf('-');
+
+				if ("*".equals(item)) {
+					start = min;
+					end = max;
+				} else if (dash != -1) {
+					start = Integer.parseInt(item.substring(0, dash));
+					end = Integer.parseInt(item.substring(dash + 1));
+				} else {
+					start = Integer.parseInt(item);
+					end = slash != -1 ? max : start;
+				}
+
+				if (start < min || end > max || start > end || step < 1) {
+					throw new InvalidValueException(NXException.INVALID_CRON_EXPRESSION, expression);
+				}
+
+				for (int x = start; x <= end; x += step) {
+					values.set(x);
+				}
+			}
+		} catch (NumberFormatException e) {
+			throw new InvalidValueException(NXException.INVALID_CRON_EXPRESSION, expression);
+		}
+
+		return values;
+	}
+
+	public ZonedDateTime next(ZonedDateTime time) {
+		LocalDateTime next = time.toLocalDateTime().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+		int limit = next.getYear() + MAX_YEARS;
+
+		while (next.getYear() <= limit) {
+			if (!months.get(next.getMonthValue())) {
+				next = next.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1).plusMonths(1);
+			} else if (!matchesDay(next)) {
+				next = next.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+			} else if (!hours.get(next.getHour())) {
+				next = next.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+			} else if (!minutes.get(next.getMinute())) {
+				next = next.plusMinutes(1);
+			} else {
+				return ZonedDateTime.ofLocal(next, time.getZone(), null);
+			}
+		}
+
+		throw new InvalidValueException(NXException.INVALID_CRON_EXPRESSION, expression);
+	}
+
+	protected boolean matchesDay(LocalDateTime time) {
+		boolean day = days.get(time.getDayOfMonth());
+		boolean weekDay = weekDays.get(time.getDayOfWeek().getValue() % 7);
+
+		if (anyDay) {
+			return weekDay;
+		} else if (anyWeekDay) {
+			return day;
+		} else {
+			return day || weekDay;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+}
\ No newline at end of file
@@ -19,12 +19,15 @@ package com.nexttypes.system;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.EnumMap;
 
 import org.apache.tomcat.jdbc.pool.DataSource;
 import org.apache.tomcat.jdbc.pool.PoolProperties;
 
 import com.nexttypes.enums.NodeMode;
 import com.nexttypes.exceptions.NXException;
+import com.nexttypes.metrics.Histogram;
+import com.nexttypes.metrics.Metrics;
 import com.nexttypes.settings.Settings;
 
 public class DBConnection {
@@ -33,38 +36,66 @@ public class DBConnection {
 		protected DataSource read;
 		protected DataSource write;
 		protected DataSource admin;
+		protected final EnumMap<NodeMode, Histogram> waits = new EnumMap<>(NodeMode.class);
 
-		protected DBConnectionPool(Settings settings, String schema, String driver) {
+		protected DBConnectionPool(Settings settings, String schema, String driver, Metrics metrics,
+				String name) {
 			
 			String url = url(settings, schema);
 
 			read = createDataSource(url, NodeMode.READ, settings, driver);
 			write = createDataSource(url, NodeMode.WRITE, settings, driver);
 			admin = createDataSource(url, NodeMode.ADMIN, settings, driver);
+
+			for (NodeMode mode : NodeMode.values()) {
+				waits.put(mode, metrics.histogram(Metrics.POOL_WAIT, "Time spent waiting for a pool connection.",
+						Metrics.POOL, name, Metrics.MODE, mode.toString()));
+			}
 		}
 
 		public Connection getConnection(NodeMode mode) {
 			Connection connection = null;
+			long start = System.nanoTime();
     
 			try {
-				switch (mode) {
-				case READ:
-					connection = read.getConnection();
-					break;
-				case WRITE:
-					connection = write.getConnection();
-					break;
-				case ADMIN:
-					connection = admin.getConnection();
-					break;
-				}
-
+				connection = getDataSource(mode).getConnection();
 			} catch (SQLException e) {
 				throw new NXException(e);
 			}
 
+			waits.get(mode).observe(System.nanoTime() - start);
+
 			return connection;
 		}
+
+		protected DataSource getDataSource(NodeMode mode) {
+			DataSource dataSource = null;
+
+			switch (mode) {
+			case READ:
+				dataSource = read;
+				break;
+			case WRITE:
+				dataSource = write;
+				break;
+			case ADMIN:
+				dataSource = admin;
+				break;
+			}
+
+			return dataSource;
+		}
+
+		public void register(Metrics metrics, String name) {
+			for (NodeMode mode : NodeMode.values()) {
+				DataSource dataSource = getDataSource(mode);
+
+				metrics.gauge(Metrics.POOL_ACTIVE, "Connections borrowed from the pool.", dataSource::getActive,
+						Metrics.POOL, name, Metrics.MODE, mode.toString());
+				metrics.gauge(Metrics.POOL_IDLE, "Idle connections in the pool.", dataSource::getIdle,
+						Metrics.POOL, name, Metrics.MODE, mode.toString());
+			}
+		}
 		
 		public void close() {
 			read.close();
@@ -143,7 +174,8 @@ public class DBConnection {
 		}
 	}
 
-	public static DBConnectionPool getConnectionPool(Settings settings, String schema, String driver) {
-		return new DBConnectionPool(settings, schema, driver);
+	public static DBConnectionPool getConnectionPool(Settings settings, String schema, String driver,
+			Metrics metrics, String name) {
+		return new DBConnectionPool(settings, schema, driver, metrics, name);
 	}
 }
\ No newline at end of file
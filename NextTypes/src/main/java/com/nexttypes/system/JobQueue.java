@@ -0,0 +1,270 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.system;
+
+import java.util.ArrayList;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import com.nexttypes.datatypes.ActionResult;
+import com.nexttypes.datatypes.Auth;
+import com.nexttypes.datatypes.Tuple;
+import com.nexttypes.datatypes.URL;
+import com.nexttypes.enums.NodeMode;
+import com.nexttypes.exceptions.NXException;
+import com.nexttypes.logging.Logger;
+import com.nexttypes.metrics.Counter;
+import com.nexttypes.metrics.Metrics;
+import com.nexttypes.nodes.ControllersNode;
+import com.nexttypes.nodes.Node;
+import com.nexttypes.settings.LanguageSettings;
+import com.nexttypes.settings.Settings;
+
+public class JobQueue {
+	public static final String PENDING = "pending";
+	public static final String RUNNING = "running";
+	public static final String DONE = "done";
+	public static final String FAILED = "failed";
+	public static final String USER_NAME = "user_name";
+	public static final String JOB = "nexttypes.job";
+	public static final String JOB_SEQUENCE = "nexttypes.job_id_seq";
+
+	public static final String JOB_TABLE =
+			"create table if not exists nexttypes.job ("
+					+ "id bigserial primary key,"
+					+ "cdate timestamp not null default now(),"
+					+ "type character varying(100) not null,"
+					+ "action character varying(100) not null,"
+					+ "objects text[],"
+					+ "parameters bytea not null,"
+					+ "user_name character varying(100) not null,"
+					+ "groups text[],"
+					+ "status character varying(10) not null default '" + PENDING + "',"
+					+ "progress smallint not null default 0,"
+					+ "attempts integer not null default 0,"
+					+ "next_attempt timestamp not null default now(),"
+					+ "started timestamp,"
+					+ "finished timestamp,"
+					+ "message text,"
+					+ "error text"
+			+ ")";
+
+	public static final String JOB_INDEX =
+			"create index if not exists job_pending_index on nexttypes.job (next_attempt)"
+					+ " where status in ('" + PENDING + "', '" + RUNNING + "')";
+
+	public static final String JOB_USER_INDEX =
+			"create index if not exists job_user_index on nexttypes.job (user_name, id)";
+
+	protected static final String ENQUEUE_QUERY =
+			"insert into nexttypes.job (type, action, objects, parameters, user_name, groups)"
+					+ " values (?, ?, ?, ?, ?, ?) returning id";
+
+	protected static final String CLAIM_QUERY =
+			"update nexttypes.job set status = '" + RUNNING + "', attempts = attempts + 1, progress = 0,"
+					+ " started = now(), next_attempt = now() + make_interval(secs => ?)"
+					+ " where id = (select id from nexttypes.job"
+					+ " where status in ('" + PENDING + "', '" + RUNNING + "') and next_attempt <= now()"
+					+ " order by next_attempt, id limit 1 for update skip locked)"
+					+ " returning id, type, action, objects, parameters, user_name, groups, attempts";
+
+	protected static final String PROGRESS_QUERY =
+			"update nexttypes.job set progress = ?, next_attempt = now() + make_interval(secs => ?)"
+					+ " where id = ? and status = '" + RUNNING + "' and attempts = ?";
+
+	protected static final String DONE_QUERY =
+			"update nexttypes.job set status = '" + DONE + "', progress = 100, finished = now(),"
+					+ " message = ?, error = null where id = ? and attempts = ?";
+
+	protected static final String RETRY_QUERY =
+			"update nexttypes.job set status = '" + PENDING + "',"
+					+ " next_attempt = now() + make_interval(secs => ?), error = ?"
+					+ " where id = ? and attempts = ?";
+
+	protected static final String FAILED_QUERY =
+			"update nexttypes.job set status = '" + FAILED + "', finished = now(), error = ?"
+					+ " where id = ? and attempts = ?";
+
+	protected static final String JOBS_QUERY =
+			"select id, cdate, type, action, user_name, status, progress, attempts, finished, message, error"
+					+ " from nexttypes.job";
+
+	protected static final String USER_JOBS_QUERY = JOBS_QUERY + " where user_name = ?";
+
+	protected static final String JOBS_ORDER = " order by id desc limit ?";
+
+	protected Context context;
+	protected Settings settings;
+	protected LanguageSettings languageSettings;
+	protected Logger logger;
+	protected Metrics metrics;
+	protected String nextNode;
+	protected String lang;
+	protected int pollInterval;
+	protected int leaseTime;
+	protected int maxAttempts;
+	protected int retryDelay;
+	protected int maxRetryDelay;
+	protected int listSize;
+	protected Counter failures;
+	protected ArrayList<Thread> workers = new ArrayList<>();
+	protected volatile boolean open = true;
+
+	public JobQueue(Context context) {
+		this.context = context;
+		settings = context.getSettings(Settings.JOBS_SETTINGS);
+		logger = context.getLogger();
+		metrics = context.getMetrics();
+		nextNode = settings.getString(Settings.NEXT_NODE);
+		lang = settings.getString(KeyWords.LANG);
+		languageSettings = context.getLanguageSettings(lang);
+		pollInterval = settings.getInt32(Settings.POLL_INTERVAL);
+		leaseTime = settings.getInt32(Settings.LEASE_TIME);
+		maxAttempts = settings.getInt32(Settings.MAX_ATTEMPTS);
+		retryDelay = settings.getInt32(Settings.RETRY_DELAY);
+		maxRetryDelay = settings.getInt32(Settings.MAX_RETRY_DELAY);
+		listSize = settings.getInt32(Settings.LIST_SIZE);
+
+		failures = metrics.counter(Metrics.JOB_FAILURES, "Failed job attempts.");
+
+		int count = settings.getInt32(Settings.WORKERS);
+
+		for (int x = 0; x < count; x++) {
+			workers.add(Thread.ofVirtual().name("job-queue-" + x).start(new Worker()));
+		}
+	}
+
+	public static Long enqueue(Node node, String type, String action, String[] objects, byte[] parameters,
+			Auth auth) {
+
+		Tuple[] job = node.query(ENQUEUE_QUERY, type, action, objects, parameters, auth.getUser(),
+				auth.getGroups());
+
+		return job[0].getInt64(KeyWords.ID);
+	}
+
+	public void setProgress(Long job, int attempts, int progress) {
+		try (Node node = loadNode()) {
+			node.execute(PROGRESS_QUERY, (short) Math.max(0, Math.min(progress, 100)), leaseTime, job,
+					attempts);
+			node.commit();
+		}
+	}
+
+	public Tuple[] getJobs(Node node, Auth auth) {
+		if (ArrayUtils.contains(auth.getGroups(), Auth.ADMINISTRATORS)) {
+			return node.query(JOBS_QUERY + JOBS_ORDER, listSize);
+		} else {
+			return node.query(USER_JOBS_QUERY + JOBS_ORDER, auth.getUser(), listSize);
+		}
+	}
+
+	public void close() {
+		open = false;
+
+		for (Thread worker : workers) {
+			worker.interrupt();
+		}
+
+		Utils.join(workers, Constants.CLOSE_TIMEOUT);
+	}
+
+	protected Node loadNode() {
+		return Loader.loadNode(nextNode, new Auth(Auth.JOBS), NodeMode.WRITE, lang, URL.LOCALHOST,
+				context, true);
+	}
+
+	protected Tuple claim() {
+		try (Node node = loadNode()) {
+			Tuple[] jobs = node.query(CLAIM_QUERY, leaseTime);
+			node.commit();
+
+			return jobs.length > 0 ? jobs[0] : null;
+		}
+	}
+
+	protected void update(String sql, Object... parameters) {
+		try (Node node = loadNode()) {
+			node.execute(sql, parameters);
+			node.commit();
+		}
+	}
+
+	protected void run(Tuple job) {
+		Long id = job.getInt64(KeyWords.ID);
+		String type = job.getString(KeyWords.TYPE);
+		String action = job.getString(KeyWords.ACTION);
+		int attempts = job.getInt32(KeyWords.ATTEMPTS);
+		Auth auth = new Auth(job.getString(USER_NAME), job.getStringArray(KeyWords.GROUPS));
+		long start = System.nanoTime();
+
+		try (Node node = Loader.loadNode(nextNode, auth, NodeMode.WRITE, lang, URL.LOCALHOST, context,
+				true)) {
+
+			ActionResult result = ((ControllersNode) node).executeJob(id, attempts, type,
+					job.getStringArray(KeyWords.OBJECTS), action, lang, job.getBinary(KeyWords.PARAMETERS));
+			node.commit();
+
+			metrics.histogram(Metrics.JOB_DURATION, "Time spent running jobs.", Metrics.TYPE, type,
+					Metrics.ACTION, action).observe(System.nanoTime() - start);
+
+			update(DONE_QUERY, result != null ? result.getMessage() : null, id, attempts);
+
+		} catch (Exception e) {
+			failures.increment();
+
+			String error = e instanceof NXException ? ((NXException) e).getMessage(languageSettings)
+					: e.toString();
+
+			if (attempts >= maxAttempts) {
+				update(FAILED_QUERY, error, id, attempts);
+				logger.severe(auth.getUser(), URL.LOCALHOST, e);
+			} else {
+				int delay = (int) Math.min((long) retryDelay << Math.min(attempts - 1, 30), maxRetryDelay);
+				update(RETRY_QUERY, delay, error, id, attempts);
+			}
+		}
+	}
+
+	protected class Worker implements Runnable {
+
+		@Override
+		public void run() {
+			try {
+				while (open) {
+					Tuple job = null;
+
+					try {
+						job = claim();
+
+						if (job != null) {
+							JobQueue.this.run(job);
+						}
+					} catch (Exception e) {
+						logger.severe(Auth.JOBS, URL.LOCALHOST, e);
+					}
+
+					if (job == null) {
+						Thread.sleep(pollInterval);
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
\ No newline at end of file
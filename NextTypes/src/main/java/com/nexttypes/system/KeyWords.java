@@ -32,6 +32,7 @@ public class KeyWords {
 	public static final String ANCHORS = "anchors";
 	public static final String ANTIVIRUS = "antivirus";
 	public static final String AREF = "aref";
+	public static final String ATTEMPTS = "attempts";
 	public static final String AUTH = "auth";
 	public static final String BACKUP = "backup";
 	public static final String CALENDAR = "calendar";
@@ -64,7 +65,9 @@ public class KeyWords {
 	public static final String EDITOR = "editor";
 	public static final String END_DATE = "end_date";
 	public static final String END_TIME = "end_time";
+	public static final String ERROR = "error";
 	public static final String ETAG = "etag";
+	public static final String EXECUTIONS = "executions";
 	public static final String EXISTING_OBJECTS_ACTION = "existing_objects_action";
 	public static final String EXISTING_TYPES_ACTION = "existing_types_action";
 	public static final String EXPORT = "export";
@@ -81,6 +84,7 @@ public class KeyWords {
 	public static final String GROUPS = "groups";
 	public static final String HELP = "help";
 	public static final String HOST = "host";
+	public static final String HREF = "href";
 	public static final String ICON = "icon";
 	public static final String ID = "id";
 	public static final String IGNORED_OBJECTS = "ignored_objects";
@@ -96,9 +100,12 @@ public class KeyWords {
 	public static final String INDEX = "index";
 	public static final String INDEXES = "indexes";
 	public static final String INFO = "info";
+	public static final String INLINE = "inline";
 	public static final String INTERVAL = "interval";
 	public static final String ITEM = "item";
 	public static final String ITEMS = "items";
+	public static final String JOB_ENQUEUED = "job_enqueued";
+	public static final String JOBS = "jobs";
 	public static final String LANG = "lang";
 	public static final String LANGS = "langs";
 	public static final String LANGUAGE = "language";
@@ -114,6 +121,8 @@ public class KeyWords {
 	public static final String LOGOUT = "logout";
 	public static final String MAX = "max";
 	public static final String MAX_LIMIT = "max_limit";
+	public static final String MAX_TIME = "max_time";
+	public static final String MEDIAN_TIME = "median_time";
 	public static final String MENU = "menu";
 	public static final String MENUS = "menus";
 	public static final String MESSAGE = "message";
@@ -139,6 +148,7 @@ public class KeyWords {
 	public static final String OFFSET = "offset";
 	public static final String OLD_NAME = "old_name";
 	public static final String ORDER = "order";
+	public static final String P99_TIME = "p99_time";
 	public static final String PAGES = "pages";
 	public static final String PARAMETERS = "parameters";
 	public static final String PARAMETERS_ALTERED = "parameters_altered";
@@ -151,7 +161,9 @@ public class KeyWords {
 	public static final String PREVIOUS = "previous";
 	public static final String PRINTER = "printer";
 	public static final String PRINTER_JOB = "printer_job";
+	public static final String PROGRESS = "progress";
 	public static final String QRCODE = "qrcode";
+	public static final String QUERIES = "queries";
 	public static final String RANGE = "range";
 	public static final String REF = "ref";
 	public static final String REFERENCE = "reference";
@@ -162,6 +174,7 @@ public class KeyWords {
 	public static final String RENAMED_FIELDS = "renamed_fields";
 	public static final String RENAMED_INDEXES = "renamed_indexes";
 	public static final String REPEAT = "repeat";
+	public static final String ROWS = "rows";
 	public static final String SCALE = "scale";
 	public static final String SEARCH = "search";
 	public static final String SESSION = "session";
@@ -170,7 +183,9 @@ public class KeyWords {
 	public static final String SIZE = "size";
 	public static final String START_DATE = "start_date";
 	public static final String START_TIME = "start_time";
+	public static final String STATEMENT = "statement";
 	public static final String STATIC = "static";
+	public static final String STATUS = "status";
 	public static final String STYLE = "style";
 	public static final String SUMMARY = "summary";
 	public static final String TASKS = "tasks";
@@ -179,6 +194,7 @@ public class KeyWords {
 	public static final String TEXT = "text";
 	public static final String THUMBNAIL = "thumbnail";
 	public static final String TITLE = "title";
+	public static final String TOTAL_TIME = "total_time";
 	public static final String TRUE = "true";
 	public static final String TYPE = "type";
 	public static final String TYPE_ALTERED = "type_altered";
@@ -16,22 +16,29 @@
 
 package com.nexttypes.system;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
-import java.util.Properties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.nexttypes.antivirus.Antivirus;
 import com.nexttypes.datatypes.Auth;
 import com.nexttypes.enums.NodeMode;
 import com.nexttypes.exceptions.NXException;
+import com.nexttypes.limiters.RateLimiter;
 import com.nexttypes.nodes.Node;
 import com.nexttypes.protocol.http.HTTPRequest;
 import com.nexttypes.settings.Permissions;
+import com.nexttypes.settings.SettingsSnapshot;
+import com.nexttypes.tracing.TraceExporter;
 import com.nexttypes.views.HTMLView;
 import com.nexttypes.views.View;
 import com.nexttypes.views.WebDAVView;
 
 public class Loader {
+	protected static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+	protected static final ConcurrentHashMap<String, MethodHandle> CONSTRUCTORS = new ConcurrentHashMap<>();
+
 	public static Object load(String className) {
 		return Loader.load(className, new Class[] {}, new Object[] {});
 	}
@@ -41,24 +48,44 @@ public class Loader {
 	}
 
 	public static Object load(String className, Class[] parameterTypes, Object[] parameters) {
+		MethodHandle constructor = getConstructor(className, parameterTypes);
+
 		try {
-			ClassLoader classLoader = Loader.class.getClassLoader();
-			Class c = classLoader.loadClass(className);
-			return c.getDeclaredConstructor(parameterTypes).newInstance(parameters);
-		} catch (InvocationTargetException e) {
-			Throwable cause = e.getCause();
-			
-			if (cause instanceof NXException) {
-				throw (NXException) cause;
-			} else {
-				throw new NXException(cause);
-			}
-		} catch (ClassNotFoundException | IllegalAccessException | InstantiationException
-				| NoSuchMethodException e) {
+			return constructor.invokeExact(parameters);
+		} catch (NXException e) {
+			throw e;
+		} catch (Throwable e) {
 			throw new NXException(e);
 		}
 	}
 
+	protected static MethodHandle getConstructor(String className, Class[] parameterTypes) {
+		StringBuilder key = new StringBuilder(className);
+
+		for (Class parameterType : parameterTypes) {
+			key.append(":").append(parameterType.getName());
+		}
+
+		MethodHandle constructor = CONSTRUCTORS.get(key.toString());
+
+		if (constructor == null) {
+			try {
+				ClassLoader classLoader = Loader.class.getClassLoader();
+				Class c = classLoader.loadClass(className);
+
+				constructor = LOOKUP.unreflectConstructor(c.getDeclaredConstructor(parameterTypes))
+						.asSpreader(Object[].class, parameterTypes.length)
+						.asType(MethodType.methodType(Object.class, Object[].class));
+
+				CONSTRUCTORS.putIfAbsent(key.toString(), constructor);
+			} catch (ClassNotFoundException | IllegalAccessException | NoSuchMethodException e) {
+				throw new NXException(e);
+			}
+		}
+
+		return constructor;
+	}
+
 	public static Node loadNode(String className, Auth auth, NodeMode mode, String lang,
 			String remoteAddress, Context context, boolean useConnectionPool) {
 		return (Node) Loader.load(className,
@@ -101,14 +128,22 @@ public class Loader {
 		return (Task) Loader.load(className, Context.class, context);
 	}
 	
-	public static Permissions loadPermissions(String className, ArrayList<Properties> settings,
+	public static Permissions loadPermissions(String className, SettingsSnapshot settings,
 			Auth auth, Node nextNode) {
 		return (Permissions) Loader.load(className,
-				new Class[] { ArrayList.class, Auth.class, Node.class },
+				new Class[] { SettingsSnapshot.class, Auth.class, Node.class },
 				new Object[] { settings, auth, nextNode });
 	}
 	
 	public static Antivirus loadAntivirus(String className, Context context) {
 		return (Antivirus) Loader.load(className, Context.class, context);
 	}
+
+	public static TraceExporter loadTraceExporter(String className, Context context) {
+		return (TraceExporter) Loader.load(className, Context.class, context);
+	}
+
+	public static RateLimiter loadRateLimiter(String className, Context context) {
+		return (RateLimiter) Loader.load(className, Context.class, context);
+	}
 }	
\ No newline at end of file
@@ -16,6 +16,8 @@
 
 package com.nexttypes.system;
 
+import java.util.HashMap;
+
 import com.nexttypes.datatypes.Auth;
 import com.nexttypes.nodes.Node;
 import com.nexttypes.settings.Permissions;
@@ -23,6 +25,8 @@ import com.nexttypes.settings.LanguageSettings;
 import com.nexttypes.settings.TypeSettings;
 
 public abstract class Module implements AutoCloseable {
+	protected HashMap<String, Permissions> typePermissions = new HashMap<>();
+
 	public abstract Auth getAuth();
 
 	public abstract Context getContext();
@@ -34,10 +38,17 @@ public abstract class Module implements AutoCloseable {
 	public abstract Node getNextNode();
 	
 	public Permissions getPermissions() {
-		return getContext().getPermissions(this);
+		return getPermissions(null);
 	}
 	
 	public Permissions getPermissions(String type) {
-		return getContext().getPermissions(type, this);
+		Permissions permissions = typePermissions.get(type);
+		
+		if (permissions == null) {
+			permissions = getContext().getPermissions(type, this);
+			typePermissions.put(type, permissions);
+		}
+		
+		return permissions;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nexttypes.system;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.nexttypes.datatypes.Auth;
+import com.nexttypes.datatypes.Tuple;
+import com.nexttypes.datatypes.URL;
+import com.nexttypes.enums.CatchUp;
+import com.nexttypes.enums.NodeMode;
+import com.nexttypes.enums.Trigger;
+import com.nexttypes.logging.Logger;
+import com.nexttypes.metrics.Counter;
+import com.nexttypes.metrics.Histogram;
+import com.nexttypes.metrics.Metrics;
+import com.nexttypes.nodes.Node;
+import com.nexttypes.settings.Settings;
+
+public class Scheduler {
+	public static final String LAST_START = "last_start";
+	public static final String LAST_END = "last_end";
+	public static final String LOCKED = "locked";
+	public static final String LOCK_PREFIX = "nexttypes.task.";
+	public static final String TASK = "nexttypes.task";
+	public static final long LOCK_RETRY = Constants.MINUTE_MILLISECONDS;
+
+	public static final String TASK_TABLE =
+			"create table if not exists nexttypes.task ("
+					+ "name character varying(255) primary key,"
+					+ "last_start timestamp,"
+					+ "last_end timestamp,"
+					+ "error text"
+			+ ")";
+
+	protected static final String LOCK_QUERY = "select pg_try_advisory_lock(hashtext(?)) as " + LOCKED;
+
+	protected static final String UNLOCK_QUERY = "select pg_advisory_unlock(hashtext(?)) as " + LOCKED;
+
+	protected static final String TASK_QUERY =
+			"select last_start, last_end from nexttypes.task where name = ?";
+
+	protected static final String START_QUERY =
+			"insert into nexttypes.task (name, last_start) values (?, ?)"
+					+ " on conflict (name) do update set last_start = excluded.last_start";
+
+	protected static final String END_QUERY =
+			"update nexttypes.task set last_end = ?, error = ? where name = ?";
+
+	protected Context context;
+	protected Settings settings;
+	protected Logger logger;
+	protected Metrics metrics;
+	protected String nextNode;
+	protected String lang;
+	protected Counter failures;
+	protected ScheduledExecutorService timer;
+	protected ConcurrentHashMap<Task, ScheduledTask> tasks = new ConcurrentHashMap<>();
+
+	public Scheduler(Context context) {
+		this.context = context;
+		settings = context.getSettings(Settings.TASKS_SETTINGS);
+		logger = context.getLogger();
+		metrics = context.getMetrics();
+		nextNode = settings.getString(Settings.NEXT_NODE);
+		lang = settings.getString(KeyWords.LANG);
+
+		failures = metrics.counter(Metrics.TASK_FAILURES, "Failed scheduled task executions.");
+
+		timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "scheduler");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public void schedule(Task task) {
+		ScheduledTask scheduledTask = new ScheduledTask(task);
+		tasks.put(task, scheduledTask);
+
+		try (Node node = loadNode()) {
+			scheduledTask.read(node);
+			node.commit();
+		}
+
+		scheduledTask.schedule();
+	}
+
+	public void cancel(Task task) {
+		ScheduledTask scheduledTask = tasks.remove(task);
+
+		if (scheduledTask != null) {
+			scheduledTask.cancel();
+		}
+	}
+
+	public void close() {
+		ArrayList<Thread> threads = new ArrayList<>();
+
+		for (Map.Entry<Task, ScheduledTask> entry : tasks.entrySet()) {
+			Thread thread = entry.getValue().thread;
+
+			if (thread != null) {
+				threads.add(thread);
+			}
+
+			cancel(entry.getKey());
+		}
+
+		timer.shutdownNow();
+
+		try {
+			timer.awaitTermination(Constants.CLOSE_TIMEOUT, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		Utils.join(threads, Constants.CLOSE_TIMEOUT);
+	}
+
+	protected Node loadNode() {
+		return Loader.loadNode(nextNode, new Auth(Auth.SCHEDULER), NodeMode.WRITE, lang, URL.LOCALHOST,
+				context, false);
+	}
+
+	protected class ScheduledTask implements Runnable {
+		protected Task task;
+		protected String name;
+		protected Trigger trigger;
+		protected CatchUp catchUp;
+		protected Duration interval;
+		protected Cron cron;
+		protected ZoneId zone;
+		protected Histogram duration;
+		protected ZonedDateTime lastStart;
+		protected ZonedDateTime lastEnd;
+		protected ScheduledFuture<?> future;
+		protected boolean cancelled = false;
+		protected volatile Thread thread;
+
+		protected ScheduledTask(Task task) {
+			this.task = task;
+			name = task.getName();
+
+			Settings taskSettings = task.getSettings();
+			trigger = Trigger.valueOf(taskSettings.getString(Settings.TRIGGER).toUpperCase());
+			catchUp = CatchUp.valueOf(taskSettings.getString(Settings.CATCH_UP).toUpperCase());
+
+			String timeZone = taskSettings.getString(Settings.TIME_ZONE);
+			zone = timeZone != null ? ZoneId.of(timeZone) : ZoneId.systemDefault();
+
+			if (Trigger.CRON.equals(trigger)) {
+				cron = new Cron(taskSettings.getString(Settings.CRON));
+			} else {
+				interval = Duration.ofMinutes(taskSettings.getInt32(KeyWords.INTERVAL));
+			}
+
+			duration = metrics.histogram(Metrics.TASK_DURATION, "Time spent running scheduled tasks.",
+					Metrics.TASK, name);
+		}
+
+		protected void read(Node node) {
+			Tuple[] state = node.query(TASK_QUERY, name);
+
+			if (state.length > 0) {
+				lastStart = toZone(state[0].getUTCDateTime(LAST_START));
+				lastEnd = toZone(state[0].getUTCDateTime(LAST_END));
+			} else if (lastStart == null) {
+				lastStart = toZone(task.getLastStart());
+				lastEnd = lastStart;
+			}
+		}
+
+		protected ZonedDateTime toZone(ZonedDateTime time) {
+			return time != null ? time.withZoneSameInstant(zone) : null;
+		}
+
+		protected ZonedDateTime next(ZonedDateTime time) {
+			return Trigger.CRON.equals(trigger) ? cron.next(time) : time.plus(interval);
+		}
+
+		protected ZonedDateTime plan(ZonedDateTime now) {
+			ZonedDateTime time;
+
+			if (Trigger.FIXED_DELAY.equals(trigger)) {
+				time = lastEnd != null ? lastEnd.plus(interval) : now;
+			} else if (lastStart == null) {
+				time = Trigger.CRON.equals(trigger) ? cron.next(now) : now;
+			} else {
+				time = next(lastStart);
+
+				if (!time.isAfter(now)) {
+					switch (catchUp) {
+					case SKIP:
+						while (!time.isAfter(now)) {
+							time = next(time);
+						}
+						break;
+
+					case ONCE:
+						for (ZonedDateTime slot = next(time); !slot.isAfter(now); slot = next(slot)) {
+							time = slot;
+						}
+						break;
+
+					case ALL:
+						break;
+					}
+				}
+			}
+
+			return time;
+		}
+
+		protected synchronized void schedule() {
+			if (!cancelled) {
+				ZonedDateTime now = ZonedDateTime.now(zone);
+				long delay = Math.max(Duration.between(now, plan(now)).toMillis(), 0);
+				future = timer.schedule(this, delay, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		protected synchronized void retry() {
+			if (!cancelled) {
+				future = timer.schedule(this, LOCK_RETRY, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		protected synchronized void cancel() {
+			cancelled = true;
+
+			if (future != null) {
+				future.cancel(false);
+			}
+
+			task.finish();
+		}
+
+		@Override
+		public void run() {
+			thread = Thread.ofVirtual().name("task-" + name).start(this::execute);
+		}
+
+		protected void execute() {
+			boolean executed = false;
+
+			try (Node node = loadNode()) {
+				boolean locked = node.query(LOCK_QUERY, LOCK_PREFIX + name)[0].getBoolean(LOCKED);
+				node.commit();
+
+				if (locked) {
+					try {
+						read(node);
+						node.commit();
+
+						ZonedDateTime now = ZonedDateTime.now(zone);
+						ZonedDateTime time = plan(now);
+
+						if (!time.isAfter(now)) {
+							execute(node, time);
+						}
+
+						executed = true;
+					} finally {
+						node.query(UNLOCK_QUERY, LOCK_PREFIX + name);
+						node.commit();
+					}
+				}
+			} catch (Exception e) {
+				logger.severe(Auth.SCHEDULER, URL.LOCALHOST, e);
+			}
+
+			if (executed) {
+				schedule();
+			} else {
+				retry();
+			}
+		}
+
+		protected void execute(Node node, ZonedDateTime time) {
+			node.execute(START_QUERY, name, time.withZoneSameInstant(ZoneOffset.UTC));
+			node.commit();
+
+			String error = null;
+			long start = System.nanoTime();
+
+			try {
+				task.run();
+			} catch (Exception e) {
+				failures.increment();
+				error = e.toString();
+				logger.severe(Auth.SCHEDULER, URL.LOCALHOST, e);
+			}
+
+			duration.observe(System.nanoTime() - start);
+
+			lastStart = time;
+			lastEnd = ZonedDateTime.now(zone);
+
+			node.execute(END_QUERY, lastEnd.withZoneSameInstant(ZoneOffset.UTC), error, name);
+			node.commit();
+		}
+	}
+}
\ No newline at end of file
@@ -16,14 +16,33 @@
 
 package com.nexttypes.system;
 
-public class Task extends Thread {
+import java.time.ZonedDateTime;
 
-	public Task() {
-	}
+import com.nexttypes.settings.Settings;
+
+public abstract class Task implements Runnable {
+	protected Context context;
+	protected volatile boolean finished = false;
 
 	public Task(Context context) {
+		this.context = context;
+	}
+
+	public String getName() {
+		return getClass().getName();
+	}
+
+	public abstract Settings getSettings();
+
+	public ZonedDateTime getLastStart() {
+		return null;
 	}
 
 	public void finish() {
+		finished = true;
+	}
+
+	public boolean isFinished() {
+		return finished;
 	}
 }
\ No newline at end of file
@@ -30,18 +30,19 @@ import com.nexttypes.settings.Settings;
 public class TasksServlet extends GenericServlet {
 	private static final long serialVersionUID = 1L;
 
+	protected Context context;
 	protected ArrayList<Task> tasks = new ArrayList<>();
 
 	@Override
 	public void init(ServletConfig config) throws ServletException {
 		super.init(config);
-		Context context = Context.get(getServletContext());
+		context = Context.get(getServletContext());
 		Settings settings = context.getSettings(Settings.TASKS_SETTINGS);
 		String[] taskNames = settings.getStringArray(KeyWords.TASKS);
 
 		for (String taskName : taskNames) {
 			Task task = Loader.loadTask(taskName, context);
-			task.start();
+			context.getScheduler().schedule(task);
 			tasks.add(task);
 		}
 	}
@@ -49,7 +50,7 @@ public class TasksServlet extends GenericServlet {
 	@Override
 	public void destroy() {
 		for (Task task : tasks) {
-			task.finish();
+			context.getScheduler().cancel(task);
 		}
 	}
 
@@ -31,7 +31,6 @@ import java.util.LinkedHashMap;
 
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
@@ -39,6 +38,7 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
 import org.w3c.dom.Node;
 
+import com.nexttypes.datatypes.XML;
 import com.nexttypes.enums.Order;
 import com.nexttypes.exceptions.NXException;
 
@@ -79,8 +79,9 @@ public class Utils {
 	}
 	
 	public static String toString(Node input) {
+		Transformer transformer = XML.getTransformer();
+
 		try {
-			Transformer transformer = TransformerFactory.newInstance().newTransformer();
 			transformer.setOutputProperty(OutputKeys.INDENT, "yes");
 			StreamResult result = new StreamResult(new StringWriter());
 			DOMSource source = new DOMSource(input);
@@ -88,6 +89,24 @@ public class Utils {
 			return result.getWriter().toString();
 		} catch (Exception e) {
 			throw new NXException(e);
+		} finally {
+			XML.releaseTransformer(transformer);
+		}
+	}
+
+	public static void join(Iterable<Thread> threads, long timeout) {
+		long deadline = System.currentTimeMillis() + timeout;
+
+		try {
+			for (Thread thread : threads) {
+				long remaining = deadline - System.currentTimeMillis();
+
+				if (remaining > 0) {
+					thread.join(remaining);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
 	}
 
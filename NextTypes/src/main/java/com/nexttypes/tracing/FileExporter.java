@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nexttypes.tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.nexttypes.exceptions.NXException;
+import com.nexttypes.settings.Settings;
+import com.nexttypes.system.Context;
+import com.nexttypes.system.KeyWords;
+
+public class FileExporter extends TraceExporter {
+
+	protected ObjectWriter writer = new ObjectMapper().writer();
+	protected BufferedWriter file;
+
+	public FileExporter(Context context) {
+		Settings settings = context.getSettings(Settings.TRACING_SETTINGS);
+
+		try {
+			file = Files.newBufferedWriter(Paths.get(settings.getString(KeyWords.FILE)),
+					StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			throw new NXException(e);
+		}
+	}
+
+	@Override
+	public void export(Span span) {
+		try {
+			String trace = writer.writeValueAsString(span);
+
+			synchronized (this) {
+				file.write(trace);
+				file.newLine();
+				file.flush();
+			}
+		} catch (IOException e) {
+			throw new NXException(e);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		try {
+			file.close();
+		} catch (IOException e) {
+			throw new NXException(e);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2015-2026 Alejandro Sánchez <alex@nexttypes.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nexttypes.tracing;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(Include.NON_EMPTY)
+@JsonPropertyOrder({ Span.TRACE_ID, Span.SPAN_ID, Span.PARENT_SPAN_ID, Span.NAME, Span.START_TIME,
+	Span.DURATION, Span.ERROR, Span.ATTRIBUTES, Span.CHILDREN })
+public class Span {
+	public static final String TRACE_ID = "trace_id";
+	public static final String SPAN_ID = "span_id";
+	public static final String PARENT_SPAN_ID = "parent_span_id";
+	public static final String NAME = "name";
+	public static final String START_TIME = "start_time";
+	public static final String DURATION = "duration";
+	public static final String ERROR = "error";
+	public static final String ATTRIBUTES = "attributes";
+	public static final String CHILDREN = "children";
+
+	protected static final String VERSION = "00";
+	protected static final String SAMPLED = "01";
+	protected static final String NOT_SAMPLED = "00";
+	protected static final Pattern TRACEPARENT = Pattern
+			.compile("^00-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})$");
+	protected static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
+	protected static final String INVALID_SPAN_ID = "0000000000000000";
+	protected static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+	protected Span root;
+	protected Span parent;
+	protected String traceId;
+	protected String spanId;
+	protected String parentId;
+	protected String name;
+	protected boolean sampled;
+	protected long epoch;
+	protected long start;
+	protected long end;
+	protected String error;
+	protected LinkedHashMap<String, String> attributes = new LinkedHashMap<>();
+	protected ArrayList<Span> children = new ArrayList<>();
+
+	public Span(String name, String traceparent, double sampleRate) {
+		this.name = name;
+		root = this;
+		start = System.nanoTime();
+		epoch = System.currentTimeMillis() * 1_000_000;
+		spanId = id(8);
+
+		Matcher matcher = traceparent != null ? TRACEPARENT.matcher(traceparent) : null;
+
+		if (matcher != null && matcher.matches() && !INVALID_TRACE_ID.equals(matcher.group(1))
+				&& !INVALID_SPAN_ID.equals(matcher.group(2))) {
+
+			traceId = matcher.group(1);
+			parentId = matcher.group(2);
+			sampled = (Integer.parseInt(matcher.group(3), 16) & 1) == 1;
+		} else {
+			traceId = id(16);
+			sampled = sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+		}
+
+		CURRENT.set(this);
+	}
+
+	protected Span(Span parent, String name, long start) {
+		this.parent = parent;
+		this.name = name;
+		this.start = start;
+		root = parent.root;
+		traceId = parent.traceId;
+		parentId = parent.spanId;
+		sampled = parent.sampled;
+		spanId = id(8);
+		parent.children.add(this);
+	}
+
+	public static Span current() {
+		return CURRENT.get();
+	}
+
+	public Span start(String name) {
+		Span span = new Span(this, name, System.nanoTime());
+		CURRENT.set(span);
+		return span;
+	}
+
+	public Span add(String name, long start, long end) {
+		Span span = new Span(this, name, start);
+		span.end = end;
+		return span;
+	}
+
+	public void end() {
+		end = System.nanoTime();
+
+		if (parent == null) {
+			CURRENT.remove();
+		} else if (CURRENT.get() == this) {
+			CURRENT.set(parent);
+		}
+	}
+
+	public void setAttribute(String name, Object value) {
+		attributes.put(name, value != null ? value.toString() : null);
+	}
+
+	public void setError(Throwable e) {
+		error = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+	}
+
+	@JsonIgnore
+	public boolean isSampled() {
+		return sampled;
+	}
+
+	@JsonIgnore
+	public boolean isRoot() {
+		return parent == null;
+	}
+
+	@JsonIgnore
+	public String getTraceParent() {
+		return VERSION + "-" + traceId + "-" + spanId + "-" + (sampled ? SAMPLED : NOT_SAMPLED);
+	}
+
+	@JsonProperty(TRACE_ID)
+	public String getTraceId() {
+		return traceId;
+	}
+
+	@JsonProperty(SPAN_ID)
+	public String getSpanId() {
+		return spanId;
+	}
+
+	@JsonProperty(PARENT_SPAN_ID)
+	public String getParentId() {
+		return parentId;
+	}
+
+	@JsonProperty(NAME)
+	public String getName() {
+		return name;
+	}
+
+	@JsonProperty(START_TIME)
+	public long getStartTime() {
+		return root.epoch + (start - root.start);
+	}
+
+	@JsonProperty(DURATION)
+	public long getDuration() {
+		return end - start;
+	}
+
+	@JsonProperty(ERROR)
+	public String getError() {
+		return error;
+	}
+
+	@JsonProperty(ATTRIBUTES)
+	public LinkedHashMap<String, String> getAttributes() {
+		return attributes;
+	}
+
+	@JsonProperty(CHILDREN)
+	public ArrayList<Span> getChildren() {
+		return children;
+	}
+
+	protected static String id(int length) {
+		byte[] id = new byte[length];
+
+		do {
+			ThreadLocalRandom.current().nextBytes(id);
+		} while (isZero(id));
+
+		return HexFormat.of().formatHex(id);
+	}
+
+	protected static boolean isZero(byte[] id) {
+		for (byte b : id) {
+			if (b != 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
\ No newline at end of file
@@ -93,6 +93,7 @@ import com.nexttypes.exceptions.ObjectFieldException;
 import com.nexttypes.exceptions.ObjectNotFoundException;
 import com.nexttypes.exceptions.UnauthorizedActionException;
 import com.nexttypes.exceptions.UnauthorizedException;
+import com.nexttypes.logging.QueryLog;
 import com.nexttypes.nodes.Node;
 import com.nexttypes.protocol.http.HTTPHeader;
 import com.nexttypes.protocol.http.HTTPRequest;
@@ -107,6 +108,7 @@ import com.nexttypes.system.Constants;
 import com.nexttypes.system.KeyWords;
 import com.nexttypes.system.Context;
 import com.nexttypes.system.Icon;
+import com.nexttypes.system.JobQueue;
 import com.nexttypes.system.Loader;
 import com.nexttypes.system.Utils;
 
@@ -272,7 +274,7 @@ public class HTMLView extends View {
 		typeSettings = parent.getTypeSettings();
 		languageSettings = parent.getLanguageSettings();
 		auth = parent.getAuth();
-		permissions = context.getPermissions(type, this);
+		permissions = parent.getPermissions(type);
 	}
 
 	public HTMLView(HTTPRequest request) {
@@ -817,6 +819,73 @@ public class HTMLView extends View {
 		return render(type);
 	}
 
+	@Override
+	public Content getQueries(String lang, String view) {
+
+		loadTemplate(null, lang, view);
+		setTitle(languageSettings.gts(KeyWords.QUERIES));
+
+		Element table = main.appendElement(HTML.TABLE);
+		Element header = table.appendElement(HTML.THEAD).appendElement(HTML.TR);
+		Element body = table.appendElement(HTML.TBODY);
+
+		for (String column : new String[] { KeyWords.STATEMENT, KeyWords.EXECUTIONS, KeyWords.TOTAL_TIME,
+				KeyWords.MEDIAN_TIME, KeyWords.P99_TIME, KeyWords.MAX_TIME, KeyWords.ROWS }) {
+
+			header.appendElement(HTML.TH).appendText(languageSettings.gts(column));
+		}
+
+		for (QueryLog.Statistics statistics : context.getQueryLog().getStatistics()) {
+			Element row = body.appendElement(HTML.TR);
+			row.appendElement(HTML.TD).appendText(statistics.getStatement());
+			row.appendElement(HTML.TD).appendText(String.valueOf(statistics.getCount()));
+			row.appendElement(HTML.TD).appendText(QueryLog.format(statistics.getTime()));
+			row.appendElement(HTML.TD).appendText(QueryLog.format(statistics.getPercentile(0.5)));
+			row.appendElement(HTML.TD).appendText(QueryLog.format(statistics.getPercentile(0.99)));
+			row.appendElement(HTML.TD).appendText(QueryLog.format(statistics.getMax()));
+			row.appendElement(HTML.TD).appendText(String.valueOf(statistics.getRows()));
+		}
+
+		return render();
+	}
+
+	@Override
+	public Content getJobs(String lang, String view) {
+
+		loadTemplate(null, lang, view);
+		setTitle(languageSettings.gts(KeyWords.JOBS));
+
+		Element table = main.appendElement(HTML.TABLE);
+		Element header = table.appendElement(HTML.THEAD).appendElement(HTML.TR);
+		Element body = table.appendElement(HTML.TBODY);
+
+		for (String column : new String[] { KeyWords.ID, KeyWords.CDATE, KeyWords.TYPE, KeyWords.ACTION,
+				KeyWords.USER, KeyWords.STATUS, KeyWords.PROGRESS, KeyWords.ATTEMPTS, KeyWords.MESSAGE,
+				KeyWords.ERROR }) {
+
+			header.appendElement(HTML.TH).appendText(languageSettings.gts(column));
+		}
+
+		for (Tuple job : context.getJobQueue().getJobs(nextNode, auth)) {
+			Element row = body.appendElement(HTML.TR);
+			row.appendElement(HTML.TD).appendText(String.valueOf(job.getInt64(KeyWords.ID)));
+			row.appendElement(HTML.TD).appendText(String.valueOf(job.getDateTime(KeyWords.CDATE)));
+			row.appendElement(HTML.TD).appendText(job.getString(KeyWords.TYPE));
+			row.appendElement(HTML.TD).appendText(job.getString(KeyWords.ACTION));
+			row.appendElement(HTML.TD).appendText(job.getString(JobQueue.USER_NAME));
+			row.appendElement(HTML.TD).appendText(job.getString(KeyWords.STATUS));
+			row.appendElement(HTML.TD).appendText(String.valueOf(job.getInt16(KeyWords.PROGRESS)));
+			row.appendElement(HTML.TD).appendText(String.valueOf(job.getInt32(KeyWords.ATTEMPTS)));
+
+			String message = job.getString(KeyWords.MESSAGE);
+			String error = job.getString(KeyWords.ERROR);
+			row.appendElement(HTML.TD).appendText(message != null ? message : "");
+			row.appendElement(HTML.TD).appendText(error != null ? error : "");
+		}
+
+		return render();
+	}
+
 	@Override
 	public Content getReferences(String lang, String view) {
 		
@@ -109,7 +109,7 @@ public class PDFView extends View {
 	}
 	
 	public Content content() {
-		HTML document = htmlView.getDocument();
+		HTML document = htmlView.getDocument().assemble();
 		document.removeAnchors();
 		ITextRenderer renderer = new ITextRenderer();
 		byte[] value = renderer.createPDF(document.getDocument());
@@ -16,20 +16,27 @@
 
 package com.nexttypes.views;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.apache.commons.lang3.ArrayUtils;
 
 import com.nexttypes.datatypes.Content;
 import com.nexttypes.datatypes.Filter;
 import com.nexttypes.datatypes.FieldReference;
 import com.nexttypes.datatypes.ActionReference;
+import com.nexttypes.datatypes.BinaryReference;
 import com.nexttypes.datatypes.NXObject;
 import com.nexttypes.datatypes.Names;
 import com.nexttypes.datatypes.Objects;
 import com.nexttypes.datatypes.PT;
 import com.nexttypes.datatypes.Reference;
 import com.nexttypes.datatypes.Serial;
+import com.nexttypes.datatypes.Tuple;
 import com.nexttypes.datatypes.Type;
+import com.nexttypes.datatypes.TypeField;
 import com.nexttypes.datatypes.TypeInfo;
 import com.nexttypes.enums.Comparison;
 import com.nexttypes.enums.Format;
@@ -74,12 +81,18 @@ public class SerialView extends View {
 	@Override
 	public Content get(String type, String id, String lang, String view, String etag) {
 
-		NXObject object = nextNode.get(type, id, null, lang, true, true, true, false, false, true, true);
+		boolean inline = request.isInline();
+
+		NXObject object = nextNode.get(type, id, null, lang, true, inline, inline, false, false, true, true);
 
 		if (object == null) {
 			return notFound(type, lang, view, new ObjectNotFoundException(type, id));
 		}
 
+		if (!inline) {
+			binaryReferences(type, new NXObject[] { object });
+		}
+
 		Content content = content(object, view);
 		content.setHeader(HTTPHeader.ETAG, object.getETag());
 
@@ -156,12 +169,104 @@ public class SerialView extends View {
 			}
 		}
 
-		Objects objects = nextNode.select(type, null, lang, filters, search, order, true, true, true,
+		boolean inline = request.isInline();
+
+		Objects objects = nextNode.select(type, null, lang, filters, search, order, true, inline, inline,
 				false, false, true, true, offset, limit);
 
+		if (!inline) {
+			binaryReferences(type, objects.getItems());
+		}
+
 		return content(objects, view);
 	}
 
+	protected void binaryReferences(String type, NXObject[] objects) {
+		if (objects.length == 0) {
+			return;
+		}
+
+		LinkedHashMap<String, TypeField> typeFields = nextNode.getTypeFields(type);
+		LinkedHashMap<String, String> contentTypes = nextNode.getFieldsContentType(type);
+		ArrayList<String> binaryFields = new ArrayList<>();
+		ArrayList<String> compositeFields = new ArrayList<>();
+
+		for (Map.Entry<String, TypeField> entry : typeFields.entrySet()) {
+			String field = entry.getKey();
+			String fieldType = entry.getValue().getType();
+
+			if (PT.isBinaryType(fieldType)) {
+				binaryFields.add(field);
+
+				if (PT.isFileType(fieldType) && contentTypes.get(field) == null) {
+					compositeFields.add(field);
+				}
+			}
+		}
+
+		if (binaryFields.size() == 0) {
+			return;
+		}
+
+		HashMap<String, Tuple> objectsContentTypes = compositeContentTypes(type, compositeFields, objects);
+
+		for (NXObject object : objects) {
+			String id = object.getId();
+			String etag = object.getETag();
+			Tuple objectContentTypes = objectsContentTypes.get(id);
+
+			for (String field : binaryFields) {
+				Object size = object.get(field);
+
+				if (size != null) {
+					String contentType = contentTypes.get(field);
+
+					if (contentType == null && objectContentTypes != null) {
+						contentType = objectContentTypes.getString(field);
+					}
+
+					boolean thumbnail = PT.IMAGE.equals(typeFields.get(field).getType());
+
+					object.put(field, new BinaryReference(type, id, field, (Integer) size, contentType,
+							etag, thumbnail));
+				}
+			}
+		}
+	}
+
+	protected HashMap<String, Tuple> compositeContentTypes(String type, ArrayList<String> fields,
+			NXObject[] objects) {
+
+		HashMap<String, Tuple> contentTypes = new HashMap<>();
+
+		if (fields.size() > 0) {
+			StringBuilder sql = new StringBuilder("select id");
+			ArrayList<Object> parameters = new ArrayList<>();
+
+			for (String field : fields) {
+				sql.append(", (#).content_type as #");
+				parameters.add(field);
+				parameters.add(field);
+			}
+
+			String[] ids = new String[objects.length];
+
+			for (int x = 0; x < objects.length; x++) {
+				ids[x] = objects[x].getId();
+			}
+
+			sql.append(" from # where id in (?)");
+			parameters.add(type);
+			parameters.add(ids);
+
+			for (Tuple tuple : nextNode.query(sql, parameters)) {
+				contentTypes.put(tuple.getString(KeyWords.ID), tuple);
+			}
+		}
+
+		return contentTypes;
+	}
+
 	public Content content(Object object, String format) {
 		return content(object, HTTPStatus.OK, format, null, null);
 	}
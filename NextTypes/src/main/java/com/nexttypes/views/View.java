@@ -158,6 +158,14 @@ public abstract class View extends Module {
 		throw new NotImplementedException();
 	}
 
+	public Content getQueries(String lang, String view) {
+		throw new NotImplementedException();
+	}
+
+	public Content getJobs(String lang, String view) {
+		throw new NotImplementedException();
+	}
+
 	public Content select(String type, String lang, String view, FieldReference ref, Filter[] filters,
 			String search, LinkedHashMap<String, Order> order, Long offset, Long limit) {
 		throw new NotImplementedException();